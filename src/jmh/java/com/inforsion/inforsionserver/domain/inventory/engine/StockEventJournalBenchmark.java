@@ -0,0 +1,82 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 재고 엔진의 변화 하나 지연 시간 (StockEngine.apply의 잠금 안 경로 + 저널 동기화)
+ *
+ * 16개 스레드가 재고 1,000개 중 하나씩 차감합니다. 잠금 안에서 수량 맵 갱신 + 메모리 매핑 저널 기록 후,
+ * force-on-write면 잠금 밖에서 group commit(msync)까지 기다립니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=StockEventJournalBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class StockEventJournalBenchmark {
+
+    private static final int ITEMS = 1_000;
+
+    @Param({"true", "false"})
+    public boolean forceOnWrite;
+
+    private final Object lock = new Object();
+    private Path directory;
+    private StockEventJournal journal;
+    private IntLongMap stock;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("stock-events");
+        journal = new StockEventJournal(directory, 64 * 1024 * 1024, forceOnWrite);
+        sequence = journal.open(0, 0, event -> { });
+        stock = new IntLongMap(ITEMS);
+        for (int inventoryId = 1; inventoryId <= ITEMS; inventoryId++) {
+            stock.put(inventoryId, 1_000_000_000_000L);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long deduct() throws IOException {
+        int inventoryId = ThreadLocalRandom.current().nextInt(ITEMS) + 1;
+        long appended;
+        synchronized (lock) {
+            long before = stock.get(inventoryId, 0);
+            long after = before - 150_000;
+            appended = ++sequence;
+            journal.append(List.of(new StockEvent(appended, 0, System.currentTimeMillis(), inventoryId,
+                    InventoryLogType.DEDUCTION, after - before, before, after, 0, "OCR 매칭을 통한 자동 차감: 아메리카노")));
+            stock.put(inventoryId, after);
+        }
+        journal.sync(appended);
+        return appended;
+    }
+}
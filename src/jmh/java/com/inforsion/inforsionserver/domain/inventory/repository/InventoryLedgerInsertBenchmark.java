@@ -0,0 +1,177 @@
+package com.inforsion.inforsionserver.domain.inventory.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 로그 10,000건 일괄 저장 처리량 (행/초)
+ *
+ * Hibernate가 키 전략별로 보내는 SQL을 JDBC로 그대로 재현합니다.
+ * - identity (이전): 행마다 INSERT 후 생성 키 조회, JDBC 배치 없음
+ * - pooled-batch (이후): id_sequences에서 allocationSize(500)개씩 id를 받고 batch_size(50)마다 executeBatch
+ *   (rewriteBatchedStatements=true로 여러 행 INSERT 한 문장으로 전송)
+ * 실제 테이블을 건드리지 않도록 별도 데이터베이스(STRESS_DB_NAME, 기본 inforsion_stress)를 사용합니다.
+ * 실행: DB_USERNAME=... DB_PASSWORD=... ./gradlew jmh -Pjmh.includes=InventoryLedgerInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InventoryLedgerInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int ALLOCATION_SIZE = 500;
+
+    private static final String INSERT_COLUMNS = "inventory_id, log_type, quantity_change, before_quantity, after_quantity, reason, created_at";
+
+    @Param({"identity", "pooled-batch"})
+    public String mode;
+
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:mysql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "3306") + "/"
+                + env("STRESS_DB_NAME", "inforsion_stress")
+                + "?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        config.setUsername(env("DB_USERNAME", "root"));
+        config.setPassword(env("DB_PASSWORD", ""));
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS inventory_logs");
+            statement.execute("CREATE TABLE inventory_logs (log_id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                    + "inventory_id INT NOT NULL, log_type VARCHAR(20) NOT NULL, quantity_change DECIMAL(10, 2) NOT NULL, "
+                    + "before_quantity DECIMAL(10, 2) NOT NULL, after_quantity DECIMAL(10, 2) NOT NULL, reason TEXT, "
+                    + "created_at DATETIME(6) NOT NULL) ENGINE=InnoDB");
+            statement.execute("CREATE TABLE IF NOT EXISTS id_sequences (sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "next_val BIGINT) ENGINE=InnoDB");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE inventory_logs");
+            statement.execute("DELETE FROM id_sequences WHERE sequence_name = 'inventory_logs'");
+            statement.execute("INSERT INTO id_sequences (sequence_name, next_val) VALUES ('inventory_logs', 1)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertLedgerBurst() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if ("identity".equals(mode)) {
+                insertWithIdentity(connection);
+            } else {
+                insertWithPooledIds(connection);
+            }
+            connection.commit();
+        }
+    }
+
+    private void insertWithIdentity(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO inventory_logs (" + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    keys.getInt(1);
+                }
+            }
+        }
+    }
+
+    private void insertWithPooledIds(Connection connection) throws SQLException {
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO inventory_logs (log_id, " + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId >= blockEnd) {
+                    nextId = allocateBlock();
+                    blockEnd = nextId + ALLOCATION_SIZE;
+                }
+                ps.setLong(1, nextId++);
+                bind(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // Hibernate TableGenerator와 같이 별도 트랜잭션에서 next_val을 잠그고 올림
+    private long allocateBlock() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long value;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT next_val FROM id_sequences WHERE sequence_name = 'inventory_logs' FOR UPDATE");
+                 ResultSet rs = select.executeQuery()) {
+                rs.next();
+                value = rs.getLong(1);
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE id_sequences SET next_val = ? WHERE sequence_name = 'inventory_logs' AND next_val = ?")) {
+                update.setLong(1, value + ALLOCATION_SIZE);
+                update.setLong(2, value);
+                update.executeUpdate();
+            }
+            connection.commit();
+            return value;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int index, int row) throws SQLException {
+        BigDecimal before = BigDecimal.valueOf(1000 + row % 100);
+        BigDecimal change = BigDecimal.valueOf(-(row % 7 + 1));
+        ps.setInt(index, 1 + row % 20);
+        ps.setString(index + 1, "DEDUCTION");
+        ps.setBigDecimal(index + 2, change);
+        ps.setBigDecimal(index + 3, before);
+        ps.setBigDecimal(index + 4, before.add(change));
+        ps.setString(index + 5, "OCR 매칭을 통한 자동 차감: 벤치마크 " + row);
+        ps.setTimestamp(index + 6, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,229 @@
+package com.inforsion.inforsionserver.domain.inventory.repository;
+
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재고 동시 갱신 부하 테스트 (갱신 유실 검증)
+ *
+ * 쓰기 스레드 64개가 인기 재고 몇 건에 무작위로 1~3건씩 차감/입고를 트랜잭션으로 반영합니다.
+ * - atomic: InventoryRepositoryImpl.applyStockDeltas (UPDATE 한 번으로 current_stock = current_stock + ?)
+ *   + StockStatusService와 같은 방식으로 바뀐 재고 상태(stock_status)만 updateStockStatuses로 갱신
+ * - read-modify-write: 기존 방식 (현재 수량 SELECT → 자바에서 계산 → 재고마다 UPDATE)
+ * 끝나면 재고별 최종 수량을 초기 수량 + 커밋된 변화량 합과 비교하고, 저장된 재고 상태가 최종 수량·최소 재고 수준으로 계산한 상태와 같은지 확인합니다.
+ * 최소 재고 수준은 초기 수량 바로 아래로 두어 실행 중에 상태 전이(SUFFICIENT → LOW)가 일어나게 합니다.
+ * atomic 모드에서 수량·상태가 다르거나, 롤백된 트랜잭션이 한 건이라도 있으면(PK 순서 잠금이라 교착이 없어야 함) 실패합니다.
+ * 실제 테이블을 건드리지 않도록 별도 데이터베이스(STRESS_DB_NAME, 기본 inforsion_stress)에
+ * InventoryEntity와 같은 컬럼/인덱스/외래 키로 inventories 테이블을 만들어 사용합니다. (행 크기와 잠금 범위가 운영과 같도록)
+ * 같은 검증의 단위 테스트는 InventoryStockConcurrencyTest (Testcontainers)입니다.
+ * 실행: DB_USERNAME=... DB_PASSWORD=... ./gradlew jmh -Pjmh.includes=InventoryStockStressBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class InventoryStockStressBenchmark {
+
+    private static final BigDecimal INITIAL_STOCK = BigDecimal.valueOf(1_000_000);
+    private static final BigDecimal MIN_STOCK = INITIAL_STOCK.subtract(BigDecimal.valueOf(100));
+
+    @Param({"atomic", "read-modify-write"})
+    public String mode;
+
+    // 경합 대상 재고 수 (적을수록 같은 행에 몰림)
+    @Param({"4"})
+    public int hotItems;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private InventoryRepositoryImpl inventoryRepository;
+    private LongAdder[] committed;
+    private final LongAdder rolledBack = new LongAdder();
+    private final LongAdder transitions = new LongAdder();
+    private volatile String firstFailure;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:mysql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "3306") + "/"
+                + env("STRESS_DB_NAME", "inforsion_stress")
+                + "?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        config.setUsername(env("DB_USERNAME", "root"));
+        config.setPassword(env("DB_PASSWORD", ""));
+        config.setMaximumPoolSize(64);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        inventoryRepository = new InventoryRepositoryImpl(null, jdbcTemplate);
+
+        createSchema();
+        committed = new LongAdder[hotItems + 1];
+        for (int id = 1; id <= hotItems; id++) {
+            jdbcTemplate.update("INSERT INTO inventories (ingredient_id, ingredient_name, current_stock, min_stock_level, "
+                            + "unit, unit_cost, expiry_date, stock_status, created_at, updated_at, store_id) "
+                            + "VALUES (?, ?, ?, ?, 'g', 10, CURDATE() + INTERVAL 1 YEAR, 'SUFFICIENT', NOW(6), NOW(6), 1)",
+                    id, "재료 " + id, INITIAL_STOCK, MIN_STOCK);
+            committed[id] = new LongAdder();
+        }
+    }
+
+    /**
+     * InventoryEntity(Hibernate가 MySQL에 만드는 DDL)와 같은 inventories 테이블
+     * stores는 외래 키 검사(부모 행 공유 잠금)만 재현하도록 PK만 둡니다.
+     */
+    private void createSchema() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventories");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS stores");
+        jdbcTemplate.execute("CREATE TABLE stores (id INT NOT NULL AUTO_INCREMENT, PRIMARY KEY (id)) ENGINE=InnoDB");
+        jdbcTemplate.execute("INSERT INTO stores (id) VALUES (1)");
+        jdbcTemplate.execute("CREATE TABLE inventories ("
+                + "ingredient_id INT NOT NULL, "
+                + "ingredient_name VARCHAR(100) NOT NULL, "
+                + "current_stock DECIMAL(10, 2) NOT NULL, "
+                + "min_stock_level DECIMAL(38, 2), "
+                + "max_stock_level DECIMAL(38, 2), "
+                + "unit VARCHAR(20) NOT NULL, "
+                + "unit_cost DECIMAL(38, 2) NOT NULL, "
+                + "last_restocked_date DATE, "
+                + "expiry_date DATE NOT NULL, "
+                + "expiry_alert_days INT, "
+                + "stock_status ENUM('LOW', 'OUT_OF_STOCK', 'SUFFICIENT') NOT NULL, "
+                + "created_at DATETIME(6) NOT NULL, "
+                + "updated_at DATETIME(6) NOT NULL, "
+                + "store_id INT NOT NULL, "
+                + "PRIMARY KEY (ingredient_id), "
+                + "KEY idx_inventories_store_status (store_id, stock_status), "
+                + "KEY idx_inventories_store_expiry (store_id, expiry_date), "
+                + "CONSTRAINT fk_inventories_store FOREIGN KEY (store_id) REFERENCES stores (id)"
+                + ") ENGINE=InnoDB");
+    }
+
+    @TearDown(Level.Trial)
+    public void verify() {
+        try {
+            long lost = 0;
+            int wrongStatuses = 0;
+            for (int id = 1; id <= hotItems; id++) {
+                Map<String, Object> row = jdbcTemplate.queryForMap(
+                        "SELECT current_stock, min_stock_level, stock_status FROM inventories WHERE ingredient_id = ?", id);
+                BigDecimal actual = (BigDecimal) row.get("current_stock");
+                BigDecimal expected = INITIAL_STOCK.add(BigDecimal.valueOf(committed[id].sum()));
+                lost += expected.subtract(actual).abs().longValue();
+                StockStatus expectedStatus = StockStatus.of(actual, (BigDecimal) row.get("min_stock_level"));
+                StockStatus actualStatus = StockStatus.valueOf((String) row.get("stock_status"));
+                if (actualStatus != expectedStatus) {
+                    wrongStatuses++;
+                }
+                System.out.printf("[%s] 재고 %d: 기대 %s, 실제 %s, 상태 %s (기대 %s)%n",
+                        mode, id, expected, actual, actualStatus, expectedStatus);
+            }
+            System.out.printf("[%s] 유실된 변화량 합계: %d, 롤백: %d건, 상태 전이: %d건%n",
+                    mode, lost, rolledBack.sum(), transitions.sum());
+            if ("atomic".equals(mode)) {
+                if (lost != 0) {
+                    throw new IllegalStateException("원자적 갱신에서 변화량이 유실되었습니다: " + lost);
+                }
+                if (wrongStatuses != 0) {
+                    throw new IllegalStateException("재고 상태가 수량과 맞지 않는 재고가 있습니다: " + wrongStatuses + "건");
+                }
+                if (rolledBack.sum() > 0) {
+                    throw new IllegalStateException("원자적 갱신에서 롤백된 트랜잭션이 있습니다: " + rolledBack.sum()
+                            + "건 (첫 오류: " + firstFailure + ")");
+                }
+            }
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public void applyChanges() {
+        Map<Integer, BigDecimal> deltas = randomDeltas();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if ("atomic".equals(mode)) {
+                    applyTransitions(inventoryRepository.applyStockDeltas(deltas, true));
+                } else {
+                    readModifyWrite(deltas);
+                }
+            });
+        } catch (DataAccessException e) {
+            // 교착 상태 등으로 롤백된 트랜잭션은 반영되지 않았으므로 변화량은 집계하지 않음 (atomic 모드는 verify에서 실패)
+            rolledBack.increment();
+            if (firstFailure == null) {
+                firstFailure = e.getMessage();
+            }
+            return;
+        }
+        // 커밋된 변화만 집계
+        deltas.forEach((id, delta) -> committed[id].add(delta.longValueExact()));
+    }
+
+    // StockStatusService.applyTransitions와 같은 판단 (알림 생성 제외)
+    private void applyTransitions(List<StockChangeDto> changes) {
+        Map<Integer, StockStatus> changed = new HashMap<>();
+        for (StockChangeDto change : changes) {
+            StockStatus next = StockStatus.of(change.getAfterQuantity(), change.getMinStock());
+            if (next != change.getStockStatus()) {
+                changed.put(change.getInventoryId(), next);
+            }
+        }
+        if (!changed.isEmpty()) {
+            inventoryRepository.updateStockStatuses(changed);
+            transitions.add(changed.size());
+        }
+    }
+
+    private void readModifyWrite(Map<Integer, BigDecimal> deltas) {
+        deltas.forEach((id, delta) -> {
+            BigDecimal current = jdbcTemplate.queryForObject(
+                    "SELECT current_stock FROM inventories WHERE ingredient_id = ?", BigDecimal.class, id);
+            jdbcTemplate.update("UPDATE inventories SET current_stock = ?, updated_at = NOW(6) WHERE ingredient_id = ?",
+                    current.add(delta), id);
+        });
+    }
+
+    private Map<Integer, BigDecimal> randomDeltas() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int count = 1 + random.nextInt(Math.min(3, hotItems));
+        Map<Integer, BigDecimal> deltas = new HashMap<>();
+        while (deltas.size() < count) {
+            int id = 1 + random.nextInt(hotItems);
+            // 차감이 조금 더 많게 (-3 ~ +2, 0 제외)
+            int delta = random.nextInt(-3, 3);
+            deltas.put(id, BigDecimal.valueOf(delta == 0 ? -1 : delta));
+        }
+        return deltas;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
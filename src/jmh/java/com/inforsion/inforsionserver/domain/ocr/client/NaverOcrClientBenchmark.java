@@ -0,0 +1,96 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import com.inforsion.inforsionserver.global.concurrent.CircuitBreaker;
+import com.inforsion.inforsionserver.global.concurrent.TokenBucket;
+import io.netty.channel.ChannelOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 클라이언트 처리량/꼬리 지연 벤치마크 (NaverOcrStubServer 사용, 네트워크/API 키 불필요)
+ *
+ * 동시 요청 64개가 스텁 서버(중앙값 150ms, p99 1500ms, 오류율 2%)에 OCR을 요청합니다.
+ * 커넥션 풀 크기별 Throughput과 SampleTime(p99)을 비교하고, 오류 응답은 재시도로 흡수되는지 확인합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=NaverOcrClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NaverOcrClientBenchmark {
+
+    @Param({"8", "32"})
+    public int maxConnections;
+
+    @Param({"150"})
+    public double stubMedianMillis;
+
+    @Param({"1500"})
+    public double stubP99Millis;
+
+    @Param({"0.02"})
+    public double stubErrorRate;
+
+    private NaverOcrStubServer stubServer;
+    private ConnectionProvider connectionProvider;
+    private NaverOcrClient client;
+    private OcrImage image;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubServer = NaverOcrStubServer.start(0, stubMedianMillis, stubP99Millis, stubErrorRate);
+        connectionProvider = ConnectionProvider.builder("bench-ocr")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(1000)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2000)
+                .responseTimeout(Duration.ofSeconds(10));
+
+        client = NaverOcrClient.builder()
+                .webClient(WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build())
+                .apiUrl(stubServer.getUrl())
+                .secretKey("stub")
+                // 처리량 측정이 목적이므로 호출 한도는 넉넉하게
+                .rateLimiter(new TokenBucket(10_000, 10_000))
+                .maxRateLimitWait(Duration.ofSeconds(1))
+                .circuitBreaker(new CircuitBreaker("bench", 20, 10, 0.5, 30_000, 3))
+                .maxRetries(2)
+                .minBackoff(Duration.ofMillis(50))
+                .maxBackoff(Duration.ofMillis(500))
+                .jitter(0.5)
+                .build();
+
+        // 영수증 사진 크기 (약 300KB)
+        byte[] data = new byte[300 * 1024];
+        image = OcrImage.of("receipt.jpg", data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.dispose();
+        stubServer.close();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public OcrText recognize() {
+        return client.recognize(image).block();
+    }
+}
@@ -0,0 +1,104 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Naver Clova OCR 스텁 서버 (오프라인 처리량/지연 측정용)
+ *
+ * src/jmh/resources/ocr-stub 의 녹화된 응답을 순서대로 돌려주며, 응답 지연은 중앙값과 p99로 정한 로그정규 분포를 따릅니다.
+ * errorRate 비율만큼 503을 돌려줘 재시도와 서킷 브레이커 동작도 확인할 수 있습니다.
+ * 단독 실행: java ... NaverOcrStubServer [port] [medianMs] [p99Ms] [errorRate]
+ *   후 NAVER_OCR_API_URL=http://localhost:{port}/ocr 로 서버를 띄우면 실제 API 없이 OCR 흐름을 돌려볼 수 있습니다.
+ */
+public final class NaverOcrStubServer implements AutoCloseable {
+
+    private static final String[] RECORDED_RESPONSES = {"cafe-receipt.json", "supplier-invoice.json"};
+    // 표준정규분포 99 백분위수
+    private static final double Z_99 = 2.326;
+
+    private final DisposableServer server;
+    private final List<byte[]> responses;
+    private final AtomicInteger nextResponse = new AtomicInteger();
+    private final double medianMillis;
+    private final double sigma;
+    private final double errorRate;
+
+    private NaverOcrStubServer(int port, double medianMillis, double p99Millis, double errorRate) {
+        this.responses = loadRecordedResponses();
+        this.medianMillis = medianMillis;
+        this.sigma = p99Millis > medianMillis ? Math.log(p99Millis / medianMillis) / Z_99 : 0;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create()
+                .port(port)
+                .handle((request, response) -> request.receive().aggregate().then()
+                        .then(Mono.delay(Duration.ofNanos(sampleLatencyNanos())))
+                        .then(Mono.defer(() -> {
+                            if (ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+                                return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send().then();
+                            }
+                            byte[] body = responses.get(Math.floorMod(nextResponse.getAndIncrement(), responses.size()));
+                            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json; charset=UTF-8")
+                                    .sendByteArray(Mono.just(body))
+                                    .then();
+                        })))
+                .bindNow();
+    }
+
+    public static NaverOcrStubServer start(int port, double medianMillis, double p99Millis, double errorRate) {
+        return new NaverOcrStubServer(port, medianMillis, p99Millis, errorRate);
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.port() + "/ocr";
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private long sampleLatencyNanos() {
+        double millis = medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return (long) (millis * 1_000_000);
+    }
+
+    private static List<byte[]> loadRecordedResponses() {
+        List<byte[]> loaded = new ArrayList<>();
+        for (String name : RECORDED_RESPONSES) {
+            try (InputStream in = NaverOcrStubServer.class.getResourceAsStream("/ocr-stub/" + name)) {
+                if (in == null) {
+                    throw new IllegalStateException("녹화된 응답을 찾을 수 없습니다: " + name);
+                }
+                loaded.add(in.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return loaded;
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        double median = args.length > 1 ? Double.parseDouble(args[1]) : 300;
+        double p99 = args.length > 2 ? Double.parseDouble(args[2]) : 2000;
+        double errorRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+
+        NaverOcrStubServer stub = start(port, median, p99, errorRate);
+        System.out.printf("Naver OCR 스텁 서버 시작: %s (중앙값 %.0fms, p99 %.0fms, 오류율 %.2f)%n",
+                stub.getUrl(), median, p99, errorRate);
+        stub.server.onDispose().block();
+    }
+}
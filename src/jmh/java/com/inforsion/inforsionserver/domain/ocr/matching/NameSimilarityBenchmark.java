@@ -0,0 +1,103 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴명 유사도 계산 벤치마크
+ *
+ * OCR 품목명 한 줄을 매장 메뉴 전체와 비교하는 비용을 기존 2차원 DP 구현과 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=NameSimilarityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSimilarityBenchmark {
+
+    private static final String[] MENU_NAMES = {
+            "아메리카노", "아이스 아메리카노", "카페라떼", "아이스 카페라떼", "바닐라라떼",
+            "카라멜 마끼아또", "카페모카", "화이트 초콜릿 모카", "콜드브루", "콜드브루 라떼",
+            "에스프레소", "에스프레소 콘파나", "플랫화이트", "아인슈페너", "돌체라떼",
+            "헤이즐넛 라떼", "녹차라떼", "말차 프라푸치노", "딸기 스무디", "망고 스무디",
+            "자몽에이드", "레몬에이드", "청포도에이드", "얼그레이 밀크티", "흑당 버블티",
+            "캐모마일 티", "페퍼민트 티", "유자차", "생강차", "핫초코",
+            "크로와상", "초코 크로와상", "블루베리 머핀", "마카롱 (바닐라)", "티라미수 케이크",
+            "뉴욕 치즈케이크", "레드벨벳 케이크", "햄치즈 샌드위치", "에그 베이글", "플레인 스콘",
+            "오트밀크 라떼 (디카페인)", "아몬드밀크 바닐라 콜드브루 라떼 라지 사이즈"
+    };
+
+    // 영수증 OCR에서 흔한 오인식 형태 (받침 누락, 띄어쓰기, 수량/기호 혼입)
+    private static final String[] OCR_LINES = {
+            "아메리카노", "아이스아메리카노", "카페라테", "바닐라 라떼", "카라멜마끼아또 2",
+            "콜드부루", "녹차 라때", "딸기스무디", "흑당버블티*1", "크로아상",
+            "블루베리머핀", "뉴욕치즈 케잌", "자몽 에이드", "얼그레이밀크티", "오트 밀크 라떼"
+    };
+
+    private NamePattern[] patterns;
+    private String[] normalizedLines;
+
+    @Setup
+    public void setUp() {
+        patterns = new NamePattern[MENU_NAMES.length];
+        for (int i = 0; i < MENU_NAMES.length; i++) {
+            patterns[i] = NamePattern.compile(NameSimilarity.normalize(MENU_NAMES[i]));
+        }
+        normalizedLines = new String[OCR_LINES.length];
+        for (int i = 0; i < OCR_LINES.length; i++) {
+            normalizedLines[i] = NameSimilarity.normalize(OCR_LINES[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacyDynamicProgramming(Blackhole blackhole) {
+        for (String line : OCR_LINES) {
+            for (String menu : MENU_NAMES) {
+                blackhole.consume(legacySimilarity(line, menu));
+            }
+        }
+    }
+
+    @Benchmark
+    public void boundedBitParallel(Blackhole blackhole) {
+        for (String line : normalizedLines) {
+            for (NamePattern pattern : patterns) {
+                blackhole.consume(NameSimilarity.similarity(pattern, line, 0.5));
+            }
+        }
+    }
+
+    /**
+     * 기존 OcrProcessingService.calculateSimilarity 구현
+     */
+    private static double legacySimilarity(String str1, String str2) {
+        str1 = str1.toLowerCase().trim();
+        str2 = str2.toLowerCase().trim();
+        if (str1.equals(str2)) return 1.0;
+
+        int maxLength = Math.max(str1.length(), str2.length());
+        if (maxLength == 0) return 1.0;
+
+        int[][] dp = new int[str1.length() + 1][str2.length() + 1];
+        for (int i = 0; i <= str1.length(); i++) {
+            for (int j = 0; j <= str2.length(); j++) {
+                if (i == 0) {
+                    dp[i][j] = j;
+                } else if (j == 0) {
+                    dp[i][j] = i;
+                } else {
+                    dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1),
+                            dp[i - 1][j - 1] + (str1.charAt(i - 1) == str2.charAt(j - 1) ? 0 : 1));
+                }
+            }
+        }
+        return 1.0 - (double) dp[str1.length()][str2.length()] / maxLength;
+    }
+}
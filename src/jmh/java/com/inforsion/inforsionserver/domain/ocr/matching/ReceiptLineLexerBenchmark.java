@@ -0,0 +1,135 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 영수증 라인 분류/토큰 추출 벤치마크
+ *
+ * 영수증 한 장 분량의 라인을 기존 contains/matches + 정규식 추출 방식과 단일 패스 렉서로 처리하는 비용을 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ReceiptLineLexerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReceiptLineLexerBenchmark {
+
+    // 카페/음식점 영수증 OCR 결과 (헤더, 품목, 합계, 결제 정보)
+    private static final String[] RECEIPT_LINES = {
+            "[영수증]", "스타카페 강남점", "사업자번호: 123-45-67890", "대표: 홍길동",
+            "주소: 서울시 강남구 테헤란로 123", "TEL 02-123-4567", "2024-03-15 14:32:07",
+            "********************************",
+            "아메리카노 2 4,500 9,000", "아이스 카페라떼 1 5,000 5,000", "바닐라라떼 x2 10,400",
+            "카라멜 마끼아또 1개 5,500", "콜드브루(L) 1 5,800", "딸기 스무디 *1 6,300",
+            "크로와상 2EA 7,000", "뉴욕 치즈케이크 6,500", "햄치즈 샌드위치 1 7,200 7,200",
+            "샷 추가 500", "오트밀크 변경 600",
+            "--------------------------------",
+            "Subtotal 62,500", "Discount -2,500", "NET Amount 60,000", "Tax 5,455", "Total 60,000",
+            "합계 60,000", "받은돈 60,000", "거스름돈 0", "카드 승인 60,000", "신한카드 1234-****-****-5678",
+            "할부 일시불", "승인번호 12345678", "감사합니다 또 오세요"
+    };
+
+    private static final Pattern PRICE_PATTERN = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)");
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile("(\\d+)개?|x(\\d+)|\\*(\\d+)|(\\d+)EA|(\\d+)ea");
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (String line : RECEIPT_LINES) {
+            if (legacyContainsPricePattern(line)) {
+                String cleanLine = line.trim().replace("\n", "");
+                blackhole.consume(legacyExtractQuantity(cleanLine));
+                blackhole.consume(legacyExtractPrices(cleanLine));
+            }
+        }
+    }
+
+    @Benchmark
+    public void singlePassLexer(Blackhole blackhole) {
+        for (String line : RECEIPT_LINES) {
+            ReceiptLine receiptLine = ReceiptLineLexer.lex(line);
+            if (receiptLine.isItem()) {
+                blackhole.consume(receiptLine.getQuantity());
+                blackhole.consume(receiptLine.getPrices());
+            }
+        }
+    }
+
+    /**
+     * 기존 ReceiptAnalysisService.containsPricePattern 구현
+     */
+    private static boolean legacyContainsPricePattern(String line) {
+        if (line == null || line.trim().isEmpty()) {
+            return false;
+        }
+        String cleanLine = line.trim();
+        if (cleanLine.contains("Subtotal") ||
+            cleanLine.contains("Discount") ||
+            cleanLine.contains("NET Amount") ||
+            cleanLine.contains("Tax") ||
+            cleanLine.contains("Total") ||
+            cleanLine.contains("영수증") ||
+            cleanLine.contains("합계") ||
+            cleanLine.contains("총액") ||
+            cleanLine.contains("받은돈") ||
+            cleanLine.contains("거스름돈") ||
+            cleanLine.contains("카드") ||
+            cleanLine.contains("현금") ||
+            cleanLine.contains("사업자") ||
+            cleanLine.contains("전화") ||
+            cleanLine.contains("주소") ||
+            cleanLine.contains("대표") ||
+            cleanLine.contains("TEL") ||
+            cleanLine.matches("^[0-9\\-\\s:]+$") ||
+            cleanLine.matches("^\\*+$")) {
+            return false;
+        }
+        return PRICE_PATTERN.matcher(cleanLine).find();
+    }
+
+    private static Integer legacyExtractQuantity(String line) {
+        Matcher matcher = QUANTITY_PATTERN.matcher(line.toLowerCase());
+        while (matcher.find()) {
+            for (int i = 1; i <= matcher.groupCount(); i++) {
+                String quantityStr = matcher.group(i);
+                if (quantityStr != null && !quantityStr.isEmpty()) {
+                    try {
+                        int quantity = Integer.parseInt(quantityStr);
+                        if (quantity > 0 && quantity <= 100) {
+                            return quantity;
+                        }
+                    } catch (NumberFormatException e) {
+                        // 무시
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Integer> legacyExtractPrices(String line) {
+        List<Integer> prices = new ArrayList<>();
+        Matcher matcher = PRICE_PATTERN.matcher(line);
+        while (matcher.find()) {
+            try {
+                int price = Integer.parseInt(matcher.group(1).replace(",", ""));
+                if (price >= 100 && price < 1000000) {
+                    prices.add(price);
+                }
+            } catch (NumberFormatException e) {
+                // 무시
+            }
+        }
+        return prices;
+    }
+}
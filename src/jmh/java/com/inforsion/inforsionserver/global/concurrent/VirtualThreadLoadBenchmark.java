@@ -0,0 +1,110 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 풀 / 가상 스레드 실행 모드 부하 테스트
+ *
+ * 동시 클라이언트 128개가 OCR 작업(MongoDB 저장 → OCR API 호출을 sleep으로 흉내 낸 블로킹 I/O)을 분배기에 제출하고 완료를 기다립니다.
+ * Throughput은 초당 처리 작업 수, SampleTime은 제출~완료 지연 분포(p99 포함)를 보여줍니다.
+ * 두 모드 모두 DownstreamLimiter 기본 한도(OCR 16, MongoDB 50)를 거칩니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=VirtualThreadLoadBenchmark (virtual 모드는 JDK 21 이상 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int STORE_COUNT = 20;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    // OCR API 응답 시간 (MongoDB 저장은 이 값의 1/4)
+    @Param({"40"})
+    public int ioMillis;
+
+    // 스레드 풀 모드의 풀 크기 (async.ocr.pool-size 기본값)
+    @Param({"8"})
+    public int poolSize;
+
+    // 가상 스레드 모드의 동시 실행 한도 (async.virtual-threads.max-concurrency 기본값)
+    @Param({"256"})
+    public int virtualMaxConcurrency;
+
+    private TaskExecutor executor;
+    private FairTaskDispatcher dispatcher;
+    private DownstreamLimiter downstreamLimiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int concurrency;
+        if ("virtual".equals(mode)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("virtual 모드는 JDK 21 이상에서만 실행할 수 있습니다");
+            }
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("Bench-Virtual-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+            concurrency = virtualMaxConcurrency;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(poolSize);
+            pool.setMaxPoolSize(poolSize);
+            pool.setQueueCapacity(100);
+            pool.setThreadNamePrefix("Bench-Pool-");
+            pool.initialize();
+            executor = pool;
+            concurrency = poolSize;
+        }
+
+        dispatcher = new FairTaskDispatcher("bench", executor, concurrency, 4, 100_000, 100_000, null);
+        downstreamLimiter = new DownstreamLimiter(16, 32, 50, 60_000,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(128)
+    public void submitOcrJob() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        int storeId = ThreadLocalRandom.current().nextInt(STORE_COUNT);
+        dispatcher.submit(TaskLane.INTERACTIVE, storeId, () -> {
+            try {
+                downstreamLimiter.run(Downstream.MONGO, () -> Thread.sleep(ioMillis / 4));
+                downstreamLimiter.run(Downstream.OCR_PROVIDER, () -> Thread.sleep(ioMillis));
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        done.join();
+    }
+}
@@ -0,0 +1,195 @@
+package com.inforsion.inforsionserver.domain.inventory.buffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+import java.util.zip.CRC32;
+
+/**
+ * 재고 변화량 저널 (쓰기 결합 버퍼의 내구성 보장)
+ *
+ * 세대(generation)마다 파일 하나(stock-<세대>.journal)에 (트랜잭션 id, 재고 id, 변화량) 레코드를 덧붙이고,
+ * 호출자는 fsync가 끝난 뒤에 반환됩니다. 동시에 기다리는 호출자들은 fsync 한 번을 함께 씁니다(group commit).
+ * 세대가 DB에 반영되면 그 세대까지의 파일을 지우고, 서버가 죽은 뒤 다시 뜨면 남은 파일을 다시 반영합니다.
+ * 저널은 DB 커밋 전에 기록되므로, 복구할 때는 커밋된 트랜잭션(DB의 트랜잭션 표시)의 레코드만 반영합니다.
+ * 레코드: 트랜잭션 id(long) + 재고 id(int) + 변화량(long, 1/1,000,000 단위) + CRC32(int) = 24바이트, 마지막의 깨진 레코드는 버립니다.
+ */
+@Slf4j
+final class StockJournal {
+
+    static final int RECORD_SIZE = 24;
+
+    private static final String PREFIX = "stock-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+
+    StockJournal(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * 새 세대의 저널 파일 생성
+     */
+    Segment open(long generation) throws IOException {
+        FileChannel channel = FileChannel.open(path(generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        syncDirectory();
+        return new Segment(channel);
+    }
+
+    /**
+     * checkpoint 이후 세대의 저널을 읽어 재고별 변화량 합계로 반환 (key: 세대 → 재고 id → 변화량)
+     *
+     * @param committed 커밋된 트랜잭션 id인지 (아니면 그 레코드는 버림)
+     */
+    NavigableMap<Long, Map<Integer, Long>> recover(long checkpoint, LongPredicate committed) throws IOException {
+        NavigableMap<Long, Map<Integer, Long>> generations = new TreeMap<>();
+        for (Map.Entry<Long, Path> segment : segments().entrySet()) {
+            if (segment.getKey() <= checkpoint) {
+                Files.deleteIfExists(segment.getValue());
+                continue;
+            }
+            generations.put(segment.getKey(), read(segment.getValue(), committed));
+        }
+        return generations;
+    }
+
+    /**
+     * DB에 반영된 세대까지의 저널 삭제
+     */
+    void deleteUpTo(long generation) {
+        try {
+            for (Map.Entry<Long, Path> segment : segments().entrySet()) {
+                if (segment.getKey() <= generation) {
+                    Files.deleteIfExists(segment.getValue());
+                }
+            }
+        } catch (IOException e) {
+            // 남은 파일은 다음 기동 때 checkpoint와 비교해 지움
+            log.warn("재고 저널 삭제 실패: 세대 {} 이하, 오류={}", generation, e.getMessage());
+        }
+    }
+
+    private Map<Integer, Long> read(Path path, LongPredicate committed) throws IOException {
+        Map<Integer, Long> deltas = new TreeMap<>();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_SIZE) {
+            long transactionId = buffer.getLong();
+            int inventoryId = buffer.getInt();
+            long micros = buffer.getLong();
+            int checksum = buffer.getInt();
+            crc.reset();
+            crc.update(buffer.array(), buffer.position() - RECORD_SIZE, RECORD_SIZE - Integer.BYTES);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("재고 저널의 깨진 레코드 이후 무시: {} ({}바이트 위치)", path, buffer.position() - RECORD_SIZE);
+                break;
+            }
+            if (committed.test(transactionId)) {
+                deltas.merge(inventoryId, micros, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    private Map<Long, Path> segments() throws IOException {
+        Map<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), file);
+            }
+        }
+        return segments;
+    }
+
+    private Path path(long generation) {
+        return directory.resolve(PREFIX + generation + SUFFIX);
+    }
+
+    // 새 파일의 디렉터리 항목까지 디스크에 남김 (지원하지 않는 OS에서는 생략)
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("저널 디렉터리 fsync 생략: {}", e.getMessage());
+        }
+    }
+
+    static void encode(ByteBuffer buffer, long transactionId, int inventoryId, long micros) {
+        int start = buffer.position();
+        buffer.putLong(transactionId).putInt(inventoryId).putLong(micros);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, RECORD_SIZE - Integer.BYTES);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * 세대 하나의 저널 파일
+     */
+    static final class Segment {
+
+        private final FileChannel channel;
+        private final Object syncLock = new Object();
+        private long written;
+        private volatile long durable;
+
+        private Segment(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.written = channel.size();
+            this.durable = written;
+        }
+
+        /**
+         * 레코드를 덧붙이고 디스크에 남을 때까지 대기
+         */
+        void append(ByteBuffer records) throws IOException {
+            long end;
+            synchronized (this) {
+                while (records.hasRemaining()) {
+                    channel.write(records);
+                }
+                written = channel.position();
+                end = written;
+            }
+            sync(end);
+        }
+
+        // 먼저 온 호출자가 그때까지 쓰인 레코드 전체를 fsync하면, 그 안에 포함된 호출자는 바로 반환
+        private void sync(long position) throws IOException {
+            if (durable >= position) {
+                return;
+            }
+            synchronized (syncLock) {
+                if (durable >= position) {
+                    return;
+                }
+                long target;
+                synchronized (this) {
+                    target = written;
+                }
+                channel.force(false);
+                durable = target;
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("저널 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
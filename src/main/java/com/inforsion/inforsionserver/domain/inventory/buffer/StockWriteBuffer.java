@@ -0,0 +1,544 @@
+package com.inforsion.inforsionserver.domain.inventory.buffer;
+
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
+import com.inforsion.inforsionserver.domain.inventory.entity.InventoryLogEntity;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryLogRepository;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import com.inforsion.inforsionserver.domain.inventory.service.StockStatusService;
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 재고 쓰기 결합 버퍼 (inventory.write-combining.enabled)
+ *
+ * 점심시간처럼 같은 재고(우유, 원두, 컵 등)가 거의 모든 주문/영수증에서 차감되면 그 행이 잠금 경합 지점이 됩니다.
+ * 초당 변화 횟수가 hot-ops-per-second 이상인 재고의 변화량은 DB 대신 메모리 누산기(LongAdder, 스트라이프 방식이라 잠금 없음)에 더하고,
+ * flush-interval-ms마다 또는 flush-max-ops건마다 재고별 UPDATE 한 번 + 요약 재고 로그 한 건으로 반영합니다.
+ * - 내구성: 호출한 트랜잭션의 커밋 직전에 StockJournal에 기록(fsync)하고, 같은 트랜잭션에 트랜잭션 표시(stock_journal_transactions)를 남깁니다.
+ *   커밋된 뒤에 누산기에 더하고, DB 반영과 같은 트랜잭션에서 반영한 세대를 checkpoint로 남깁니다.
+ *   서버가 죽어도 다시 뜰 때 checkpoint 이후 저널 중 표시가 있는(커밋된) 트랜잭션만 반영하므로 유실/중복/롤백된 변화 반영이 없습니다.
+ * - 세대: 반영할 때 누산기 묶음(세대)을 통째로 새것으로 바꾸고, 이전 세대에 더하던 스레드가 끝난 뒤 반영합니다.
+ * - 정확한 조회: readWithPending은 DB 값에 아직 반영되지 않은 변화량을 더합니다. 반영 중에는 끝날 때까지 기다립니다.
+ * - 수량 덮어쓰기: drain으로 그 재고의 미반영 변화량을 먼저 반영해, 덮어쓴 값에 이전 변화량이 더해지지 않게 합니다.
+ * 버퍼를 거친 변화는 변화별 재고 로그(OCR 결과 연결) 대신 세대별 요약 로그만 남습니다.
+ */
+@Slf4j
+@Component
+public class StockWriteBuffer implements SmartInitializingSingleton {
+
+    // 변화량 고정 소수점 단위 (소수 6자리)
+    private static final int SCALE = 6;
+
+    private static final String CHECKPOINT_TABLE = "stock_journal_checkpoints";
+    private static final String TRANSACTION_TABLE = "stock_journal_transactions";
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLogRepository inventoryLogRepository;
+    private final StockStatusService stockStatusService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int flushMaxOps;
+    private final int hotOpsPerSecond;
+    private final Path journalDirectory;
+    private final String nodeId;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 저널 레코드와 트랜잭션 표시를 잇는 id (서버 안에서 증가)
+    private final AtomicLong transactionIds = new AtomicLong();
+
+    // 재고별 최근 변화 횟수 (인기 재고 판별용, 1초마다 초기화)
+    private final Map<Integer, LongAdder> hits = new ConcurrentHashMap<>();
+    private volatile Set<Integer> hotItems = Set.of();
+    private long hitsSince = System.nanoTime();
+
+    private StockJournal journal;
+    private ScheduledExecutorService flusher;
+    private volatile Generation current;
+    // DB 반영 중(또는 반영 실패로 재시도 대기 중)인 세대
+    private volatile Generation flushing;
+    // 세대 교체~DB 반영 동안 홀수 (조회가 DB 값과 미반영 변화량을 같은 시점으로 읽도록)
+    private volatile long version;
+
+    public StockWriteBuffer(InventoryRepository inventoryRepository,
+                            InventoryLogRepository inventoryLogRepository,
+                            StockStatusService stockStatusService,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${inventory.write-combining.enabled:false}") boolean enabled,
+                            @Value("${inventory.write-combining.flush-interval-ms:200}") long flushIntervalMillis,
+                            @Value("${inventory.write-combining.flush-max-ops:500}") int flushMaxOps,
+                            @Value("${inventory.write-combining.hot-ops-per-second:10}") int hotOpsPerSecond,
+                            @Value("${inventory.write-combining.journal-dir:./data/stock-journal}") String journalDirectory,
+                            @Value("${inventory.write-combining.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryLogRepository = inventoryLogRepository;
+        this.stockStatusService = stockStatusService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushMaxOps = flushMaxOps;
+        this.hotOpsPerSecond = hotOpsPerSecond;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 기동 시 저널 복구 후 반영 스레드 시작 (data.sql 실행 후, 요청을 받기 전)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + CHECKPOINT_TABLE + " (node_id VARCHAR(100) NOT NULL PRIMARY KEY, "
+                    + "generation BIGINT NOT NULL, updated_at DATETIME(6) NOT NULL)");
+            List<Long> checkpoints = jdbcTemplate.queryForList(
+                    "SELECT generation FROM " + CHECKPOINT_TABLE + " WHERE node_id = ?", Long.class, nodeId);
+            long checkpoint = checkpoints.isEmpty() ? 0 : checkpoints.get(0);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TRANSACTION_TABLE + " (node_id VARCHAR(100) NOT NULL, "
+                    + "transaction_id BIGINT NOT NULL, generation BIGINT NOT NULL, PRIMARY KEY (node_id, transaction_id))");
+            Set<Long> committed = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT transaction_id FROM " + TRANSACTION_TABLE + " WHERE node_id = ? AND generation > ?",
+                    Long.class, nodeId, checkpoint));
+            Long lastTransactionId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(transaction_id) FROM " + TRANSACTION_TABLE + " WHERE node_id = ?", Long.class, nodeId);
+            // 표시가 지워진 이전 id와도 겹치지 않도록 시각 기준으로 시작
+            transactionIds.set(Math.max(lastTransactionId == null ? 0 : lastTransactionId, System.currentTimeMillis() * 1_000));
+
+            journal = new StockJournal(journalDirectory);
+            NavigableMap<Long, Map<Integer, Long>> pending = journal.recover(checkpoint, committed::contains);
+            long lastGeneration = pending.isEmpty() ? checkpoint : pending.lastKey();
+            if (!pending.isEmpty()) {
+                Generation recovered = new Generation(lastGeneration, null);
+                pending.values().forEach(deltas -> deltas.forEach((inventoryId, micros) -> recovered.add(inventoryId, micros)));
+                flushing = recovered;
+                log.info("재고 저널 복구: 세대 {}개, 재고 {}개", pending.size(), recovered.deltas.size());
+            }
+            current = new Generation(lastGeneration + 1, journal.open(lastGeneration + 1));
+        } catch (IOException e) {
+            throw new IllegalStateException("재고 저널을 열 수 없습니다: " + journalDirectory, e);
+        }
+
+        flush();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-write-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::tick, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("재고 쓰기 결합 버퍼 시작: 반영 주기 {}ms / {}건, 인기 재고 기준 초당 {}건, 저널 {}",
+                flushIntervalMillis, flushMaxOps, hotOpsPerSecond, journalDirectory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * 인기 재고의 변화량을 버퍼로 보냄 (호출한 트랜잭션의 커밋 직전에 저널 기록, 커밋된 뒤 누산)
+     *
+     * @param deltas 재고 id → 변화량, 버퍼로 보낸 재고는 이 맵에서 제거됩니다.
+     * @return 버퍼로 보낸 재고 id → 변화량 (비활성화 상태면 빈 맵)
+     */
+    public Map<Integer, BigDecimal> divert(Map<Integer, BigDecimal> deltas) {
+        if (!enabled) {
+            return Map.of();
+        }
+        Set<Integer> hot = hotItems;
+        Map<Integer, BigDecimal> diverted = new HashMap<>();
+        Iterator<Map.Entry<Integer, BigDecimal>> iterator = deltas.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, BigDecimal> delta = iterator.next();
+            hits.computeIfAbsent(delta.getKey(), key -> new LongAdder()).increment();
+            if (hot.contains(delta.getKey())) {
+                diverted.put(delta.getKey(), delta.getValue());
+                iterator.remove();
+            }
+        }
+        if (diverted.isEmpty()) {
+            return diverted;
+        }
+
+        Map<Integer, Long> micros = diverted.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toMicros(entry.getValue())));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new Diverted(micros));
+        } else {
+            add(micros);
+        }
+        return diverted;
+    }
+
+    /**
+     * 재고의 미반영 변화량을 DB에 반영 (재고 수량을 절대값으로 덮어쓰기 전에 호출)
+     * 트랜잭션 안에서 부른다면 그 트랜잭션의 첫 조회 전에 불러야 반영된 수량을 읽습니다.
+     *
+     * @throws IllegalStateException 반영에 실패한 경우 (덮어쓰면 미반영 변화량이 나중에 더해짐)
+     */
+    public void drain(Integer inventoryId) {
+        if (!enabled || !hasPending(inventoryId)) {
+            return;
+        }
+        flush();
+        Generation failed = flushing;
+        if (failed != null && failed.deltas.containsKey(inventoryId)) {
+            throw new IllegalStateException("재고 " + inventoryId + "의 미반영 변화량을 반영하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private boolean hasPending(Integer inventoryId) {
+        Generation flushingNow = flushing;
+        return (flushingNow != null && flushingNow.deltas.containsKey(inventoryId))
+                || current.deltas.containsKey(inventoryId);
+    }
+
+    /**
+     * DB에서 읽은 값에 아직 반영되지 않은 변화량을 더해 반환
+     *
+     * @param read  DB 조회 (트랜잭션 안이라면 그 트랜잭션의 첫 조회여야 반영 시점과 어긋나지 않음)
+     * @param merge 조회 결과와 재고 id → 미반영 변화량을 합침 (변화량이 없는 재고는 맵에 없음)
+     */
+    public <T> T readWithPending(Supplier<T> read, BiFunction<T, Map<Integer, BigDecimal>, T> merge) {
+        if (!enabled) {
+            return read.get();
+        }
+        while (true) {
+            long before = version;
+            if ((before & 1) != 0) {
+                awaitFlush();
+                continue;
+            }
+            Map<Integer, Long> pending = new HashMap<>();
+            Generation flushingNow = flushing;
+            if (flushingNow != null) {
+                flushingNow.collect(pending);
+            }
+            current.collect(pending);
+            T value = read.get();
+            if (version == before) {
+                return merge.apply(value, pending.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> fromMicros(entry.getValue()))));
+            }
+        }
+    }
+
+    // 반영 중인 flush가 끝날 때까지 대기 (flush는 flushLock을 쥔 채 실행)
+    private void awaitFlush() {
+        synchronized (flushLock) {
+            log.trace("재고 쓰기 결합 반영 대기 완료");
+        }
+    }
+
+    // 트랜잭션 밖에서 보낸 변화량 (호출자의 쓰기는 이미 커밋됨, 트랜잭션 표시도 바로 커밋)
+    private void add(Map<Integer, Long> micros) {
+        Generation generation = enter();
+        boolean journaled;
+        try {
+            journaled = journal(generation, micros);
+            if (journaled) {
+                micros.forEach(generation::add);
+            }
+        } finally {
+            generation.inflight.decrementAndGet();
+        }
+        if (journaled) {
+            requestFlushIfFull(generation);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> write(micros, Map.of(), null));
+        }
+    }
+
+    /**
+     * 저널에 기록(fsync) 후 현재 트랜잭션에 트랜잭션 표시 INSERT
+     *
+     * @return 저널 기록 실패 시 false (버퍼를 거치지 않고 바로 반영해야 함)
+     */
+    private boolean journal(Generation generation, Map<Integer, Long> micros) {
+        long transactionId = transactionIds.incrementAndGet();
+        ByteBuffer records = ByteBuffer.allocate(micros.size() * StockJournal.RECORD_SIZE);
+        micros.forEach((inventoryId, amount) -> StockJournal.encode(records, transactionId, inventoryId, amount));
+        records.flip();
+        try {
+            generation.segment.append(records);
+        } catch (IOException e) {
+            log.error("재고 저널 기록 실패, DB에 바로 반영: 재고 {}건, 오류={}", micros.size(), e.getMessage());
+            return false;
+        }
+        jdbcTemplate.update("INSERT INTO " + TRANSACTION_TABLE + " (node_id, transaction_id, generation) VALUES (?, ?, ?)",
+                nodeId, transactionId, generation.number);
+        return true;
+    }
+
+    private void requestFlushIfFull(Generation generation) {
+        if (generation.ops.sum() >= flushMaxOps && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    // 현재 세대에 들어감 (세대 교체와 겹치면 새 세대로 다시 시도)
+    private Generation enter() {
+        while (true) {
+            Generation generation = current;
+            generation.inflight.incrementAndGet();
+            if (generation == current) {
+                return generation;
+            }
+            generation.inflight.decrementAndGet();
+        }
+    }
+
+    private void tick() {
+        try {
+            updateHotItems();
+            flush();
+        } catch (Exception e) {
+            log.error("재고 쓰기 결합 반영 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void updateHotItems() {
+        long now = System.nanoTime();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - hitsSince);
+        if (elapsedMillis < 1000) {
+            return;
+        }
+        long threshold = Math.max(1, hotOpsPerSecond * elapsedMillis / 1000);
+        Set<Integer> hot = hits.entrySet().stream()
+                .filter(entry -> entry.getValue().sum() >= threshold)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+        hits.clear();
+        hitsSince = now;
+        if (!hot.equals(hotItems)) {
+            log.info("인기 재고 변경: {}", hot);
+        }
+        hotItems = hot;
+    }
+
+    /**
+     * 현재 세대를 새 세대로 바꾸고 DB에 반영 (실패하면 다음 주기에 같은 세대를 다시 반영)
+     */
+    void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            if (flushing == null) {
+                Generation full = current;
+                if (full.ops.sum() == 0) {
+                    return;
+                }
+                Generation next;
+                try {
+                    next = new Generation(full.number + 1, journal.open(full.number + 1));
+                } catch (IOException e) {
+                    log.error("재고 저널 파일 생성 실패: 세대 {}, 오류={}", full.number + 1, e.getMessage());
+                    return;
+                }
+                version++;
+                flushing = full;
+                current = next;
+                // 이전 세대에 기록 중인 스레드가 끝날 때까지 대기
+                while (full.inflight.get() > 0) {
+                    LockSupport.parkNanos(50_000);
+                }
+            } else {
+                version++;
+            }
+
+            Generation target = flushing;
+            try {
+                Map<Integer, Long> micros = new HashMap<>();
+                Map<Integer, Long> ops = new HashMap<>();
+                target.deltas.forEach((inventoryId, accumulator) -> {
+                    micros.put(inventoryId, accumulator.micros.sum());
+                    ops.put(inventoryId, accumulator.ops.sum());
+                });
+                transactionTemplate.executeWithoutResult(status -> write(micros, ops, target.number));
+                if (target.segment != null) {
+                    target.segment.close();
+                }
+                journal.deleteUpTo(target.number);
+                flushing = null;
+                log.debug("재고 쓰기 결합 반영: 세대 {}, 재고 {}개, 변화 {}건", target.number, micros.size(), target.ops.sum());
+            } catch (Exception e) {
+                log.warn("재고 쓰기 결합 반영 실패 (다음 주기에 재시도): 세대 {}, 오류={}", target.number, e.getMessage());
+            } finally {
+                version++;
+            }
+        }
+    }
+
+    /**
+     * 재고별 UPDATE 한 번 + 요약 로그 + 재고 상태, checkpoint(세대)가 있으면 같은 트랜잭션에서 기록
+     */
+    private void write(Map<Integer, Long> micros, Map<Integer, Long> ops, Long generation) {
+        Map<Integer, BigDecimal> deltas = new HashMap<>();
+        micros.forEach((inventoryId, amount) -> {
+            if (amount != 0) {
+                deltas.put(inventoryId, fromMicros(amount));
+            }
+        });
+
+        List<StockChangeDto> changes = inventoryRepository.applyStockDeltas(deltas, true);
+        stockStatusService.applyTransitions(changes);
+        List<InventoryLogEntity> logs = new ArrayList<>(deltas.size());
+        for (StockChangeDto change : changes) {
+            BigDecimal quantityChange = change.getAfterQuantity().subtract(change.getBeforeQuantity());
+            logs.add(InventoryLogEntity.builder()
+                    .inventory(inventoryRepository.getReferenceById(change.getInventoryId()))
+                    .logType(quantityChange.signum() < 0 ? InventoryLogType.DEDUCTION : InventoryLogType.RESTOCK)
+                    .quantityChange(quantityChange)
+                    .beforeQuantity(change.getBeforeQuantity())
+                    .afterQuantity(change.getAfterQuantity())
+                    .reason("쓰기 결합 요약 반영: 변화 " + ops.getOrDefault(change.getInventoryId(), 1L) + "건")
+                    .build());
+        }
+        inventoryLogRepository.saveAll(logs);
+
+        if (generation != null) {
+            jdbcTemplate.update("DELETE FROM " + TRANSACTION_TABLE + " WHERE node_id = ? AND generation <= ?", nodeId, generation);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int updated = jdbcTemplate.update("UPDATE " + CHECKPOINT_TABLE + " SET generation = ?, updated_at = ? WHERE node_id = ?",
+                    generation, now, nodeId);
+            if (updated == 0) {
+                jdbcTemplate.update("INSERT INTO " + CHECKPOINT_TABLE + " (node_id, generation, updated_at) VALUES (?, ?, ?)",
+                        nodeId, generation, now);
+            }
+        }
+    }
+
+    private static long toMicros(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromMicros(long micros) {
+        return BigDecimal.valueOf(micros, SCALE).stripTrailingZeros();
+    }
+
+    /**
+     * 호출한 트랜잭션에 묶인 버퍼 변화량
+     * 커밋 직전부터 완료까지 세대에 머무르므로, 세대 교체는 이 변화량이 누산된(또는 롤백된) 뒤에 반영합니다.
+     */
+    private final class Diverted implements TransactionSynchronization {
+
+        private final Map<Integer, Long> micros;
+        private Generation generation;
+
+        private Diverted(Map<Integer, Long> micros) {
+            this.micros = micros;
+        }
+
+        // 저널 기록 + 트랜잭션 표시 (커밋 실패 시 표시도 롤백되어 복구 때 무시됨)
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            generation = enter();
+            if (!journal(generation, micros)) {
+                generation.inflight.decrementAndGet();
+                generation = null;
+                // 저널에 남기지 못한 변화는 같은 트랜잭션에서 바로 반영
+                write(micros, Map.of(), null);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (generation != null) {
+                micros.forEach(generation::add);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (generation == null) {
+                return;
+            }
+            generation.inflight.decrementAndGet();
+            if (status == STATUS_COMMITTED) {
+                requestFlushIfFull(generation);
+            }
+        }
+    }
+
+    /**
+     * 누산기 묶음 하나 (세대)
+     */
+    private static final class Generation {
+
+        private final long number;
+        private final StockJournal.Segment segment;
+        private final Map<Integer, Accumulator> deltas = new ConcurrentHashMap<>();
+        private final LongAdder ops = new LongAdder();
+        // 이 세대에 기록 중인 스레드 수
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        private Generation(long number, StockJournal.Segment segment) {
+            this.number = number;
+            this.segment = segment;
+        }
+
+        private void add(Integer inventoryId, long micros) {
+            Accumulator accumulator = deltas.computeIfAbsent(inventoryId, key -> new Accumulator());
+            accumulator.micros.add(micros);
+            accumulator.ops.increment();
+            ops.increment();
+        }
+
+        private void collect(Map<Integer, Long> pending) {
+            deltas.forEach((inventoryId, accumulator) -> pending.merge(inventoryId, accumulator.micros.sum(), Long::sum));
+        }
+    }
+
+    private static final class Accumulator {
+
+        private final LongAdder micros = new LongAdder();
+        private final LongAdder ops = new LongAdder();
+    }
+}
@@ -1,6 +1,7 @@
 package com.inforsion.inforsionserver.domain.inventory.controller;
 
 import com.inforsion.inforsionserver.domain.inventory.dto.ExpiringInventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.ExpirySummaryDto;
 import com.inforsion.inforsionserver.domain.inventory.dto.InventoryDto;
 import com.inforsion.inforsionserver.domain.inventory.service.InventoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,7 +19,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -50,6 +50,22 @@ public class InventoryController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "재고 부족 현황 조회",
+            description = "특정 매장에서 최소 재고 수준 이하(LOW)이거나 품절(OUT_OF_STOCK)인 재고를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재고 부족 현황 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{storeId}/low-stock")
+    public ResponseEntity<List<InventoryDto>> getLowStockInventories(
+            @Parameter(description = "매장 ID", required = true)
+            @PathVariable Integer storeId
+    ) {
+        return ResponseEntity.ok(inventoryService.getLowStockInventories(storeId));
+    }
+
     @Operation(
             summary = "재고 수정",
             description = "기존 재고 정보를 수정합니다. 재고 금액, 유형 등을 변경할 수 있습니다."
@@ -111,7 +127,7 @@ public class InventoryController {
 
     @Operation(
             summary = "유통기한 임박 알림",
-            description = "유통기한 임박한 재고를 알려줍니다."
+            description = "특정 매장에서 요청한 기간(일)별로 유통기한이 그 안에 끝나는 재고를 알려줍니다. 한 번의 조회로 모든 기간을 계산합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "유통기한 임박 알림 성공"),
@@ -120,13 +136,27 @@ public class InventoryController {
     })
     @GetMapping("/expiring")
     public Map<Integer, List<ExpiringInventoryDto>> getExpiringItems(
+            @Parameter(description = "매장 ID", required = true, example = "1")
+            @RequestParam Integer storeId,
+            @Parameter(description = "조회 기간(일) 목록", required = true, example = "3,7,30")
             @RequestParam List<Integer>days
     ){
-        Map<Integer, List<ExpiringInventoryDto>> result = new HashMap<>();
+        return inventoryService.getExpiringItems(storeId, days);
+    }
 
-        for(Integer d: days){
-            result.put(d, inventoryService.getExpiringItems(d));
-        }
-        return result;
+    @Operation(
+            summary = "다음 유통기한 요약",
+            description = "특정 매장에서 가장 가까운 유통기한과 그날 끝나는 재고 수, 이미 지난 재고 수를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "다음 유통기한 요약 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{storeId}/next-expiry")
+    public ResponseEntity<ExpirySummaryDto> getExpirySummary(
+            @Parameter(description = "매장 ID", required = true)
+            @PathVariable Integer storeId
+    ) {
+        return ResponseEntity.ok(inventoryService.getExpirySummary(storeId));
     }
 }
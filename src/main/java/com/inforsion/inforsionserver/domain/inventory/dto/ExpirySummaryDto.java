@@ -0,0 +1,20 @@
+package com.inforsion.inforsionserver.domain.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 매장별 다음 유통기한 요약 (캐시)
+@Schema(description = "매장 유통기한 요약")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpirySummaryDto {
+    private Integer storeId;
+    private LocalDate nextExpiryDate; // 오늘 이후 가장 가까운 유통기한 (없으면 null)
+    private long nextExpiryCount; // 그날 유통기한이 끝나는 재고 수
+    private long expiredCount; // 이미 유통기한이 지난 재고 수
+}
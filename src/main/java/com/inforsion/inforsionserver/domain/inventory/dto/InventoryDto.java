@@ -2,6 +2,7 @@ package com.inforsion.inforsionserver.domain.inventory.dto;
 
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
 import com.inforsion.inforsionserver.domain.store.entity.StoreEntity;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -23,9 +24,9 @@ public class InventoryDto {
 
     private BigDecimal currentStock; // 현재 재료량
 
-    private BigDecimal minStock; // 최대 재고 수준
+    private BigDecimal minStock; // 최소 재고 수준
 
-    private BigDecimal maxStock; // 최소 재고 수준
+    private BigDecimal maxStock; // 최대 재고 수준
 
     private String unit; // 단위 (g, ml, 개 등)
 
@@ -41,6 +42,8 @@ public class InventoryDto {
 
     private Integer storeId;
 
+    private StockStatus stockStatus; // 재고 상태 (조회 전용)
+
     public static InventoryDto fromEntity(InventoryEntity entity) {
         return new InventoryDto(
                 entity.getId(),
@@ -55,7 +58,8 @@ public class InventoryDto {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
 
-                entity.getStore() != null ? entity.getStore().getId() : null
+                entity.getStore() != null ? entity.getStore().getId() : null,
+                entity.getStockStatus()
         );
     }
 }
@@ -0,0 +1,18 @@
+package com.inforsion.inforsionserver.domain.inventory.dto;
+
+import com.inforsion.inforsionserver.global.enums.StockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 재고 변화량 반영 결과 (재고 1건)
+@Getter
+@AllArgsConstructor
+public class StockChangeDto {
+    private Integer inventoryId;
+    private BigDecimal beforeQuantity;
+    private BigDecimal afterQuantity;
+    private BigDecimal minStock;
+    private StockStatus stockStatus; // 저장되어 있던 재고 상태 (이번 변화 반영 전)
+}
@@ -0,0 +1,96 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import java.util.Arrays;
+
+/**
+ * int → long 해시 맵 (개방 주소법, 박싱 없음)
+ *
+ * 재고 id(양수) → 수량(1/1,000,000 단위)을 보관합니다. 동기화하지 않으므로 StockEngine의 잠금 안에서만 사용합니다.
+ */
+final class IntLongMap {
+
+    // 빈 칸 표시 (재고 id는 양수)
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    IntLongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(int key) {
+        return keys[slot(key)] == key;
+    }
+
+    long get(int key, long defaultValue) {
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : defaultValue;
+    }
+
+    void put(int key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 키입니다: " + key);
+        }
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    void forEach(Entry consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // key가 있는 칸, 없으면 들어갈 빈 칸 (선형 탐사)
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    @FunctionalInterface
+    interface Entry {
+        void accept(int key, long value);
+    }
+}
@@ -0,0 +1,563 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import com.inforsion.inforsionserver.domain.inventory.entity.InventoryLogEntity;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryLogRepository;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import com.inforsion.inforsionserver.domain.inventory.service.StockStatusService;
+import com.inforsion.inforsionserver.domain.ocr.mysql.repository.OcrResultRepository;
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 소싱 재고 엔진 (inventory.event-sourcing.enabled)
+ *
+ * 모든 재고 변화(입고/차감/수동 조정/폐기)를 StockEventJournal에 먼저 기록하고, 현재 수량은 메모리(IntLongMap)에서 바로 바꿉니다.
+ * 변화와 조회가 잠금 하나 안의 배열 연산이라 주문이 몰려도 마이크로초 단위이고, DB는 그 뒤를 따라옵니다.
+ * - checkpoint: checkpoint-interval-ms마다 바뀐 재고의 현재 수량을 inventories에 덮어쓰고, 재고 상태와 반영한 순번(stock_seq)을 같은 트랜잭션에 남깁니다.
+ * - 재고 로그: inventory_logs는 저널의 투영입니다. projection-interval-ms마다 다음 이벤트들을 로그로 insert하고 projected_seq를 남깁니다.
+ *   (created_at은 투영 시각이라 실제 변화보다 최대 한 주기 늦을 수 있습니다)
+ * - 복구: 기동 시 inventories를 읽고 stock_seq 이후 이벤트의 이후 수량을 덮어쓰며, 투영은 projected_seq 다음부터 이어갑니다.
+ * - 트랜잭션: applyBeforeCommit은 호출한 트랜잭션의 커밋 직전에 저널 기록(sync)·메모리 반영을 하고, 같은 트랜잭션에 변화 묶음 id(mutation id)를
+ *   stock_engine_mutations에 남깁니다. 커밋되지 않으면 같은 id로 되돌리는 이벤트를 남기고, 재생·투영은 표시가 커밋된 묶음의 이벤트만 씁니다.
+ *   (커밋 직후 저널 기록 전에 죽어 커밋된 변화가 사라지거나, 저널 기록 후 롤백된 변화가 재생되지 않도록)
+ *   checkpoint는 커밋 중인 묶음이 끝난 시점에 수량을 떠서, checkpoint에 결과가 나뉜 묶음이 섞이지 않게 합니다.
+ * 재고의 원본이 이 서버의 메모리와 저널이므로 한 대에서만 켭니다. 켜져 있으면 재고 수량은 이 엔진을 거쳐서만 바꿉니다.
+ */
+@Slf4j
+@Component
+public class StockEngine implements SmartInitializingSingleton {
+
+    // 수량 고정 소수점 단위 (소수 6자리)
+    private static final int SCALE = 6;
+
+    private static final String CHECKPOINT_TABLE = "stock_engine_checkpoints";
+    private static final String MUTATION_TABLE = "stock_engine_mutations";
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLogRepository inventoryLogRepository;
+    private final OcrResultRepository ocrResultRepository;
+    private final StockStatusService stockStatusService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path journalDirectory;
+    private final int segmentSizeBytes;
+    private final boolean forceOnWrite;
+    private final long checkpointIntervalMillis;
+    private final long projectionIntervalMillis;
+    private final int projectionBatchSize;
+    private final String nodeId;
+
+    // stock, dirty, sequence와 저널 쓰기는 이 잠금 안에서만
+    private final Object lock = new Object();
+    private final BitSet dirty = new BitSet();
+    private IntLongMap stock;
+    private long sequence;
+    // 커밋 중인 묶음 (checkpoint는 쓰기 잠금으로 이들이 끝나길 기다림)
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    // 커밋 중인 묶음의 첫 순번 (투영은 그 앞까지만)
+    private final ConcurrentSkipListSet<Long> unresolved = new ConcurrentSkipListSet<>();
+    private final AtomicLong mutationIds = new AtomicLong();
+
+    private StockEventJournal journal;
+    private StockEventJournal.Cursor cursor;
+    private ScheduledExecutorService scheduler;
+    private volatile long checkpointed;
+    private volatile long projected;
+
+    public StockEngine(InventoryRepository inventoryRepository,
+                       InventoryLogRepository inventoryLogRepository,
+                       OcrResultRepository ocrResultRepository,
+                       StockStatusService stockStatusService,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${inventory.event-sourcing.enabled:false}") boolean enabled,
+                       @Value("${inventory.event-sourcing.journal-dir:./data/stock-events}") String journalDirectory,
+                       @Value("${inventory.event-sourcing.segment-size-mb:64}") int segmentSizeMb,
+                       @Value("${inventory.event-sourcing.force-on-write:true}") boolean forceOnWrite,
+                       @Value("${inventory.event-sourcing.checkpoint-interval-ms:1000}") long checkpointIntervalMillis,
+                       @Value("${inventory.event-sourcing.projection-interval-ms:200}") long projectionIntervalMillis,
+                       @Value("${inventory.event-sourcing.projection-batch-size:1000}") int projectionBatchSize,
+                       @Value("${inventory.event-sourcing.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryLogRepository = inventoryLogRepository;
+        this.ocrResultRepository = ocrResultRepository;
+        this.stockStatusService = stockStatusService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.segmentSizeBytes = segmentSizeMb * 1024 * 1024;
+        this.forceOnWrite = forceOnWrite;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.projectionIntervalMillis = projectionIntervalMillis;
+        this.projectionBatchSize = projectionBatchSize;
+        this.nodeId = nodeId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기동 시 inventories + 저널로 현재 수량 복구 후 checkpoint/투영 스레드 시작 (data.sql 실행 후, 요청을 받기 전)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + CHECKPOINT_TABLE + " (node_id VARCHAR(100) NOT NULL PRIMARY KEY, "
+                + "stock_seq BIGINT NOT NULL, projected_seq BIGINT NOT NULL, updated_at DATETIME(6) NOT NULL)");
+        List<long[]> checkpoints = jdbcTemplate.query("SELECT stock_seq, projected_seq FROM " + CHECKPOINT_TABLE + " WHERE node_id = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, nodeId);
+        if (checkpoints.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + CHECKPOINT_TABLE + " (node_id, stock_seq, projected_seq, updated_at) VALUES (?, 0, 0, ?)",
+                    nodeId, Timestamp.valueOf(LocalDateTime.now()));
+        }
+        checkpointed = checkpoints.isEmpty() ? 0 : checkpoints.get(0)[0];
+        projected = checkpoints.isEmpty() ? 0 : checkpoints.get(0)[1];
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + MUTATION_TABLE + " (node_id VARCHAR(100) NOT NULL, "
+                + "mutation_id BIGINT NOT NULL, last_seq BIGINT NOT NULL, PRIMARY KEY (node_id, mutation_id))");
+        Set<Long> committed = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT mutation_id FROM " + MUTATION_TABLE + " WHERE node_id = ? AND last_seq > ?",
+                Long.class, nodeId, checkpointed));
+        Long lastMutationId = jdbcTemplate.queryForObject(
+                "SELECT MAX(mutation_id) FROM " + MUTATION_TABLE + " WHERE node_id = ?", Long.class, nodeId);
+        // 표시가 지워진 이전 id와도 겹치지 않도록 시각 기준으로 시작
+        mutationIds.set(Math.max(lastMutationId == null ? 0 : lastMutationId, System.currentTimeMillis() * 1_000));
+
+        synchronized (lock) {
+            stock = new IntLongMap(1024);
+            jdbcTemplate.query("SELECT ingredient_id, current_stock FROM inventories",
+                    rs -> { stock.put(rs.getInt(1), toMicros(rs.getBigDecimal(2))); });
+            int[] replayed = {0, 0};
+            try {
+                journal = new StockEventJournal(journalDirectory, segmentSizeBytes, forceOnWrite);
+                sequence = journal.open(checkpointed, Math.max(checkpointed, projected), event -> {
+                    if (!isCommitted(event, committed)) {
+                        replayed[1]++;
+                        return;
+                    }
+                    // 건너뛴 묶음이 있을 수 있어 변화량으로 재생 (수동 조정은 목표 수량 그대로)
+                    int inventoryId = event.getInventoryId();
+                    stock.put(inventoryId, event.getType() == InventoryLogType.MANUAL_ADJUSTMENT
+                            ? event.getAfter() : stock.get(inventoryId, 0) + event.getChange());
+                    dirty.set(inventoryId);
+                    replayed[0]++;
+                });
+                cursor = journal.cursor(projected);
+            } catch (IOException e) {
+                throw new IllegalStateException("재고 이벤트 저널을 열 수 없습니다: " + journalDirectory, e);
+            }
+            log.info("재고 이벤트 엔진 복구: 재고 {}개, 재생 이벤트 {}건 (커밋되지 않아 건너뜀 {}건), 마지막 순번 {} (checkpoint {}, 투영 {})",
+                    stock.size(), replayed[0], replayed[1], sequence, checkpointed, projected);
+        }
+
+        checkpoint();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::projectSafely, projectionIntervalMillis, projectionIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::checkpointSafely, checkpointIntervalMillis, checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("재고 이벤트 엔진 시작: 저널 {} ({}MB 세그먼트, 쓰기마다 force {}), checkpoint {}ms, 투영 {}ms",
+                journalDirectory.toAbsolutePath(), segmentSizeBytes / 1024 / 1024, forceOnWrite,
+                checkpointIntervalMillis, projectionIntervalMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        checkpointSafely();
+        projectSafely();
+    }
+
+    /**
+     * 호출한 트랜잭션의 커밋 직전에 반영 (트랜잭션 밖이면 바로)
+     * 저널 기록과 같은 트랜잭션에 변화 묶음 표시를 남기고, 커밋되지 않으면 되돌립니다.
+     * 모르는 재고가 있으면 BusinessException으로 호출한 트랜잭션도 롤백됩니다.
+     */
+    public void applyBeforeCommit(List<StockMutation> mutations) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new Pending(mutations));
+        } else {
+            apply(mutations);
+        }
+    }
+
+    /**
+     * 재고 변화 반영: 저널 기록 → 메모리 수량 변경, 저널이 디스크에 남은 뒤 반환
+     *
+     * 변화는 요청 순서대로 하나의 이벤트가 되며, 모르는 재고가 하나라도 있으면 아무것도 반영하지 않습니다.
+     * 수량이 그대로인 수동 조정은 이벤트를 남기지 않고, 다음 checkpoint에서 엔진 수량으로 다시 덮어쓰기만 합니다.
+     */
+    public List<StockEvent> apply(List<StockMutation> mutations) {
+        return apply(mutations, 0, false);
+    }
+
+    /**
+     * @param mutationId 변화 묶음 id (0이면 트랜잭션 밖)
+     * @param pending    커밋 결과를 기다리는 묶음이면 true (끝날 때 resolve 호출)
+     */
+    private List<StockEvent> apply(List<StockMutation> mutations, long mutationId, boolean pending) {
+        if (mutations.isEmpty()) {
+            return List.of();
+        }
+        loadMissing(mutations.stream().map(StockMutation::getInventoryId).collect(Collectors.toSet()));
+
+        List<StockEvent> events = new ArrayList<>(mutations.size());
+        synchronized (lock) {
+            Map<Integer, Long> working = new HashMap<>();
+            long timestamp = System.currentTimeMillis();
+            for (StockMutation mutation : mutations) {
+                int inventoryId = mutation.getInventoryId();
+                if (!stock.containsKey(inventoryId)) {
+                    throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND, "재고를 찾을 수 없습니다: " + inventoryId);
+                }
+                long before = working.computeIfAbsent(inventoryId, id -> stock.get(id, 0));
+                long quantity = toMicros(mutation.getQuantity());
+                long after = mutation.isAbsolute() ? quantity : before + quantity;
+                if (mutation.isAbsolute() && after == before) {
+                    dirty.set(inventoryId);
+                    continue;
+                }
+                events.add(new StockEvent(sequence + events.size() + 1, mutationId, timestamp, inventoryId, mutation.getType(),
+                        after - before, before, after,
+                        mutation.getOcrResultId() != null ? mutation.getOcrResultId() : 0, mutation.getReason()));
+                working.put(inventoryId, after);
+            }
+
+            if (events.isEmpty()) {
+                return events;
+            }
+            if (pending) {
+                // 투영이 커밋 결과가 나기 전의 이벤트를 읽지 않도록 기록 전에 등록
+                unresolved.add(events.get(0).getSequence());
+            }
+            try {
+                journal.append(events);
+            } catch (IOException e) {
+                unresolved.remove(events.get(0).getSequence());
+                throw new UncheckedIOException("재고 이벤트 저널 기록에 실패했습니다.", e);
+            }
+            sequence += events.size();
+            working.forEach((inventoryId, after) -> {
+                stock.put(inventoryId, after);
+                dirty.set(inventoryId);
+            });
+        }
+        journal.sync(sequence(events));
+
+        for (StockEvent event : events) {
+            if (event.getAfter() < 0 && event.getChange() < 0) {
+                log.warn("재고 부족: 재고 ID {} (현재: {}, 필요: {})",
+                        event.getInventoryId(), fromMicros(event.getBefore()), fromMicros(-event.getChange()));
+            }
+        }
+        return events;
+    }
+
+    // 커밋되지 않은 묶음을 되돌림 (같은 묶음 id라 재생·투영에서는 원래 이벤트와 함께 빠짐)
+    private void compensate(List<StockEvent> events, long mutationId) {
+        List<StockMutation> reverse = events.stream()
+                .map(event -> StockMutation.change(event.getInventoryId(), event.getType(), fromMicros(-event.getChange()),
+                        null, "롤백 보정"))
+                .toList();
+        apply(reverse, mutationId, false);
+        log.warn("커밋되지 않은 재고 변화 되돌림: 묶음 {}, 이벤트 {}건", mutationId, events.size());
+    }
+
+    // 트랜잭션 밖의 이벤트이거나, 묶음 표시가 커밋된 이벤트
+    private static boolean isCommitted(StockEvent event, Set<Long> committed) {
+        return event.getMutationId() == 0 || committed.contains(event.getMutationId());
+    }
+
+    /**
+     * 현재 수량 (엔진이 모르는 재고면 null)
+     */
+    public BigDecimal getStock(Integer inventoryId) {
+        synchronized (lock) {
+            return stock.containsKey(inventoryId) ? fromMicros(stock.get(inventoryId, 0)) : null;
+        }
+    }
+
+    /**
+     * 여러 재고의 현재 수량 (엔진이 모르는 재고는 빠짐)
+     */
+    public Map<Integer, BigDecimal> getStocks(Collection<Integer> inventoryIds) {
+        Map<Integer, BigDecimal> stocks = new HashMap<>();
+        synchronized (lock) {
+            for (Integer inventoryId : inventoryIds) {
+                if (stock.containsKey(inventoryId)) {
+                    stocks.put(inventoryId, fromMicros(stock.get(inventoryId, 0)));
+                }
+            }
+        }
+        return stocks;
+    }
+
+    // 기동 후에 생긴 재고는 처음 변할 때 DB에서 읽어 옴
+    private void loadMissing(Set<Integer> inventoryIds) {
+        Set<Integer> missing;
+        synchronized (lock) {
+            missing = inventoryIds.stream().filter(id -> !stock.containsKey(id)).collect(Collectors.toSet());
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        String ids = missing.stream().map(String::valueOf).collect(Collectors.joining(","));
+        Map<Integer, Long> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT ingredient_id, current_stock FROM inventories WHERE ingredient_id IN (" + ids + ")",
+                rs -> { loaded.put(rs.getInt(1), toMicros(rs.getBigDecimal(2))); });
+        synchronized (lock) {
+            loaded.forEach((inventoryId, micros) -> {
+                if (!stock.containsKey(inventoryId)) {
+                    stock.put(inventoryId, micros);
+                }
+            });
+        }
+    }
+
+    private void checkpointSafely() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("재고 이벤트 엔진 checkpoint 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지난 checkpoint 이후 바뀐 재고의 현재 수량을 inventories에 덮어씀
+     */
+    void checkpoint() {
+        long upTo;
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 커밋 중인 묶음이 끝난 뒤에 수량을 뜸 (upTo까지의 묶음은 커밋됐거나 되돌려진 상태)
+        commitGate.writeLock().lock();
+        try {
+            synchronized (lock) {
+                upTo = sequence;
+                if (upTo == checkpointed && dirty.isEmpty()) {
+                    return;
+                }
+                for (int inventoryId = dirty.nextSetBit(0); inventoryId >= 0; inventoryId = dirty.nextSetBit(inventoryId + 1)) {
+                    rows.add(new Object[]{fromMicros(stock.get(inventoryId, 0)), now, inventoryId});
+                }
+                dirty.clear();
+            }
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+
+        try {
+            // 저널보다 DB가 앞서지 않도록
+            journal.sync(upTo);
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate("UPDATE inventories SET current_stock = ?, updated_at = ? WHERE ingredient_id = ?", rows);
+                stockStatusService.refresh(rows.stream().map(row -> (Integer) row[2]).toList());
+                jdbcTemplate.update("UPDATE " + CHECKPOINT_TABLE + " SET stock_seq = ?, updated_at = ? WHERE node_id = ?", upTo, now, nodeId);
+                pruneMutations(Math.min(upTo, projected));
+            });
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                rows.forEach(row -> dirty.set((Integer) row[2]));
+            }
+            throw e;
+        }
+        checkpointed = upTo;
+        journal.deleteUpTo(Math.min(checkpointed, projected));
+        log.debug("재고 이벤트 엔진 checkpoint: 순번 {}, 재고 {}개", upTo, rows.size());
+    }
+
+    private void projectSafely() {
+        try {
+            while (project() == projectionBatchSize) {
+                log.debug("재고 로그 투영 계속: 순번 {}", projected);
+            }
+        } catch (Exception e) {
+            log.warn("재고 로그 투영 실패 (다음 주기에 재시도): 순번 {} 이후, 오류={}", projected, e.getMessage());
+            try {
+                cursor = journal.cursor(projected);
+            } catch (IOException reopen) {
+                log.error("재고 이벤트 저널 커서 재생성 실패: {}", reopen.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저널의 다음 이벤트들을 inventory_logs에 insert (삭제된 재고의 이벤트는 건너뜀)
+     *
+     * @return 읽은 이벤트 수
+     */
+    int project() throws IOException {
+        // 커밋 결과를 기다리는 묶음 앞까지만 (순번을 먼저 읽고 등록 여부를 봐야 새 묶음을 놓치지 않음)
+        long readable = journal.readableSequence();
+        Long firstUnresolved = unresolved.ceiling(Long.MIN_VALUE);
+        List<StockEvent> events = cursor.next(projectionBatchSize,
+                firstUnresolved == null ? readable : Math.min(readable, firstUnresolved - 1));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        long upTo = sequence(events);
+        Set<Integer> existing = existingInventoryIds(events);
+        Set<Long> committed = committedMutationIds(events);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<InventoryLogEntity> logs = new ArrayList<>(events.size());
+            for (StockEvent event : events) {
+                if (existing.contains(event.getInventoryId()) && isCommitted(event, committed)) {
+                    logs.add(toLog(event));
+                }
+            }
+            inventoryLogRepository.saveAll(logs);
+            jdbcTemplate.update("UPDATE " + CHECKPOINT_TABLE + " SET projected_seq = ?, updated_at = ? WHERE node_id = ?",
+                    upTo, Timestamp.valueOf(LocalDateTime.now()), nodeId);
+            pruneMutations(Math.min(checkpointed, upTo));
+        });
+        projected = upTo;
+        journal.deleteUpTo(Math.min(checkpointed, projected));
+        return events.size();
+    }
+
+    private Set<Integer> existingInventoryIds(List<StockEvent> events) {
+        String ids = events.stream().map(event -> String.valueOf(event.getInventoryId())).distinct()
+                .collect(Collectors.joining(","));
+        Set<Integer> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT ingredient_id FROM inventories WHERE ingredient_id IN (" + ids + ")", Integer.class));
+        if (existing.size() < events.stream().map(StockEvent::getInventoryId).distinct().count()) {
+            log.warn("삭제된 재고의 이벤트는 재고 로그로 투영하지 않습니다: 순번 {}~{}",
+                    events.get(0).getSequence(), sequence(events));
+        }
+        return existing;
+    }
+
+    private Set<Long> committedMutationIds(List<StockEvent> events) {
+        String ids = events.stream().filter(event -> event.getMutationId() != 0)
+                .map(event -> String.valueOf(event.getMutationId())).distinct()
+                .collect(Collectors.joining(","));
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT mutation_id FROM " + MUTATION_TABLE
+                + " WHERE node_id = ? AND mutation_id IN (" + ids + ")", Long.class, nodeId));
+    }
+
+    // checkpoint와 투영이 모두 지나간 묶음의 표시 삭제
+    private void pruneMutations(long upTo) {
+        jdbcTemplate.update("DELETE FROM " + MUTATION_TABLE + " WHERE node_id = ? AND last_seq <= ?", nodeId, upTo);
+    }
+
+    private InventoryLogEntity toLog(StockEvent event) {
+        return InventoryLogEntity.builder()
+                .inventory(inventoryRepository.getReferenceById(event.getInventoryId()))
+                .ocrResult(event.getOcrResultId() != 0 ? ocrResultRepository.getReferenceById(event.getOcrResultId()) : null)
+                .logType(event.getType())
+                .quantityChange(fromMicros(event.getChange()))
+                .beforeQuantity(fromMicros(event.getBefore()))
+                .afterQuantity(fromMicros(event.getAfter()))
+                .reason(event.getReason())
+                .build();
+    }
+
+    /**
+     * 호출한 트랜잭션에 묶인 변화 묶음
+     * 커밋 직전: 저널 기록(sync)·메모리 반영 + 같은 트랜잭션에 묶음 표시 INSERT → 완료: 커밋되지 않았으면 되돌림
+     */
+    private final class Pending implements TransactionSynchronization {
+
+        private final List<StockMutation> mutations;
+        private long mutationId;
+        private List<StockEvent> events = List.of();
+        private boolean entered;
+
+        private Pending(List<StockMutation> mutations) {
+            this.mutations = mutations;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitGate.readLock().lock();
+            entered = true;
+            mutationId = mutationIds.incrementAndGet();
+            events = apply(mutations, mutationId, true);
+            if (!events.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + MUTATION_TABLE + " (node_id, mutation_id, last_seq) VALUES (?, ?, ?)",
+                        nodeId, mutationId, sequence(events));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (!entered) {
+                return;
+            }
+            try {
+                if (!events.isEmpty() && status != STATUS_COMMITTED) {
+                    compensate(events, mutationId);
+                }
+            } catch (RuntimeException e) {
+                log.error("재고 변화 되돌림 실패: 묶음 {}, 오류={}", mutationId, e.getMessage(), e);
+            } finally {
+                if (!events.isEmpty()) {
+                    unresolved.remove(events.get(0).getSequence());
+                }
+                commitGate.readLock().unlock();
+            }
+        }
+    }
+
+    private static long sequence(List<StockEvent> events) {
+        return events.get(events.size() - 1).getSequence();
+    }
+
+    private static long toMicros(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromMicros(long micros) {
+        BigDecimal amount = BigDecimal.valueOf(micros, SCALE).stripTrailingZeros();
+        return amount.scale() < 0 ? amount.setScale(0) : amount;
+    }
+}
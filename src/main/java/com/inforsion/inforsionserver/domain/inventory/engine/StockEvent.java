@@ -0,0 +1,28 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고 변화 이벤트 (저널 레코드 하나)
+ *
+ * 수량은 1/1,000,000 단위 long, 이전/이후 수량을 함께 기록합니다. (재생은 커밋되지 않은 묶음을 건너뛰므로 변화량으로, 수동 조정만 이후 수량으로)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class StockEvent {
+
+    private final long sequence;
+    // 호출한 트랜잭션의 변화 묶음 id (0이면 트랜잭션 밖), 트랜잭션 표시가 커밋된 묶음만 재생/투영
+    private final long mutationId;
+    private final long timestamp; // epoch millis
+    private final int inventoryId;
+    private final InventoryLogType type;
+    private final long change;
+    private final long before;
+    private final long after;
+    private final int ocrResultId; // 0이면 없음
+    private final String reason;
+}
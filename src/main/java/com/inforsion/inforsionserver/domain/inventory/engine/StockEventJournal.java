@@ -0,0 +1,340 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 재고 이벤트 저널 (메모리 매핑, 세그먼트 단위 write-ahead log)
+ *
+ * 세그먼트 파일(events-<첫 순번>.wal)을 segmentSize만큼 만들어 메모리에 매핑하고 레코드를 이어 씁니다.
+ * 쓰기는 메모리 복사뿐이라 마이크로초 단위이고, 프로세스가 죽어도 OS 페이지 캐시에 남습니다.
+ * forceOnWrite면 sync에서 msync까지 기다리며, 동시에 기다리는 호출자들은 msync 한 번을 함께 씁니다(group commit).
+ * 레코드: 길이(int) + 본문 + CRC32(int), 길이 0은 세그먼트의 끝입니다. 기동 시 마지막의 깨진 레코드는 지우고 그 자리부터 씁니다.
+ * 본문: 순번(long) 변화 묶음 id(long) 시각(long) 재고 id(int) 유형(byte, InventoryLogType 순서) 변화량/이전/이후(long, 1/1,000,000 단위) OCR 결과 id(int) 사유(short 길이 + UTF-8)
+ *
+ * 세그먼트는 만들 때 segmentSize로 늘려 두므로 읽는 쪽의 매핑에도 이후에 쓰인 레코드가 그대로 보입니다.
+ * 쓰기(open/append)는 한 스레드(StockEngine의 잠금 안)에서만 호출합니다. Cursor는 다른 스레드에서 읽어도 됩니다.
+ */
+@Slf4j
+final class StockEventJournal {
+
+    private static final String PREFIX = "events-";
+    private static final String SUFFIX = ".wal";
+
+    private static final int BODY_SIZE = 8 + 8 + 8 + 4 + 1 + 8 + 8 + 8 + 4 + 2;
+    private static final int MAX_REASON_BYTES = 1024;
+    private static final InventoryLogType[] TYPES = InventoryLogType.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnWrite;
+    // 첫 순번 → 세그먼트 파일
+    private final ConcurrentSkipListMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+    private final Object syncLock = new Object();
+    private volatile MappedByteBuffer active;
+    private long lastSequence;
+    // 끝까지 쓴 순번 / 디스크에 남은 순번
+    private volatile long written;
+    private volatile long durable;
+
+    StockEventJournal(Path directory, int segmentSize, boolean forceOnWrite) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.forceOnWrite = forceOnWrite;
+    }
+
+    /**
+     * 저널을 처음부터 읽어 replayAfter 이후 이벤트를 전달하고, 이어 쓸 위치를 잡음
+     *
+     * @param lastKnown 저널 밖(checkpoint)에 기록된 가장 큰 순번, 저널이 비어 있으면 여기서 이어 씀
+     * @return 마지막 순번
+     */
+    long open(long replayAfter, long lastKnown, Consumer<StockEvent> consumer) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), file);
+            }
+        }
+
+        lastSequence = lastKnown;
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            boolean last = segment.getKey().equals(segments.lastKey());
+            MappedByteBuffer buffer = map(segment.getValue(), last);
+            lastSequence = Math.max(lastSequence, segment.getKey() - 1);
+            int position = 0;
+            StockEvent event;
+            while ((event = decode(buffer, position)) != null) {
+                if (event.getSequence() > replayAfter) {
+                    consumer.accept(event);
+                }
+                lastSequence = Math.max(lastSequence, event.getSequence());
+                position += recordSize(buffer.getInt(position));
+            }
+            if (last) {
+                truncate(buffer, position, segment.getValue());
+                buffer.position(position);
+                active = buffer;
+            }
+        }
+        if (active == null) {
+            roll(lastSequence + 1);
+        }
+        written = lastSequence;
+        durable = lastSequence;
+        return lastSequence;
+    }
+
+    /**
+     * 이벤트들을 이어 씀 (순번은 호출자가 1씩 늘려 붙임). 세그먼트가 모자라면 쓰기 전에 새 세그먼트로 넘어감
+     */
+    void append(List<StockEvent> events) throws IOException {
+        List<byte[]> reasons = new ArrayList<>(events.size());
+        int size = 0;
+        for (StockEvent event : events) {
+            byte[] reason = reasonBytes(event.getReason());
+            reasons.add(reason);
+            size += Integer.BYTES + BODY_SIZE + reason.length + Integer.BYTES;
+        }
+        if (active.remaining() < size && active.position() > 0) {
+            roll(events.get(0).getSequence());
+        }
+
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < events.size(); i++) {
+            StockEvent event = events.get(i);
+            byte[] reason = reasons.get(i);
+            if (active.remaining() < Integer.BYTES + BODY_SIZE + reason.length + Integer.BYTES) {
+                roll(event.getSequence());
+            }
+            int start = active.position();
+            active.putInt(BODY_SIZE + reason.length)
+                    .putLong(event.getSequence())
+                    .putLong(event.getMutationId())
+                    .putLong(event.getTimestamp())
+                    .putInt(event.getInventoryId())
+                    .put((byte) event.getType().ordinal())
+                    .putLong(event.getChange())
+                    .putLong(event.getBefore())
+                    .putLong(event.getAfter())
+                    .putInt(event.getOcrResultId())
+                    .putShort((short) reason.length)
+                    .put(reason);
+            crc.reset();
+            crc.update(active.duplicate().position(start + Integer.BYTES).limit(active.position()));
+            active.putInt((int) crc.getValue());
+            lastSequence = event.getSequence();
+        }
+        written = lastSequence;
+    }
+
+    /**
+     * sequence까지 디스크에 남을 때까지 대기 (forceOnWrite가 아니면 바로 반환)
+     */
+    void sync(long sequence) {
+        if (!forceOnWrite || durable >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= sequence) {
+                return;
+            }
+            // 순번을 먼저 읽음: 그 뒤에 세그먼트가 바뀌었다면 이전 세그먼트는 roll에서 이미 force됨
+            long target = written;
+            active.force();
+            durable = target;
+        }
+    }
+
+    /**
+     * 다른 스레드가 읽어도 되는 마지막 순번 (forceOnWrite면 디스크에 남은 것까지만)
+     */
+    long readableSequence() {
+        return forceOnWrite ? durable : written;
+    }
+
+    /**
+     * sequence까지의 이벤트만 담긴 세그먼트 삭제 (쓰는 중인 세그먼트는 남김)
+     */
+    void deleteUpTo(long sequence) {
+        for (Long first : segments.headMap(sequence + 1).keySet()) {
+            Long next = segments.higherKey(first);
+            if (next == null || next - 1 > sequence) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.remove(first));
+            } catch (IOException e) {
+                // 남은 파일은 다음 기동 때 읽고 다시 지움
+                log.warn("재고 이벤트 저널 삭제 실패: 세그먼트 {}, 오류={}", first, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * afterSequence 다음 이벤트부터 읽는 커서
+     */
+    Cursor cursor(long afterSequence) throws IOException {
+        Long first = segments.floorKey(afterSequence + 1);
+        return new Cursor(first != null ? first : segments.firstKey(), afterSequence);
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        if (active != null && forceOnWrite) {
+            active.force();
+        }
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+        active = map(path, true);
+        segments.put(firstSequence, path);
+        syncDirectory();
+        log.info("재고 이벤트 저널 세그먼트 생성: {}", path.getFileName());
+    }
+
+    private MappedByteBuffer map(Path path, boolean writable) throws IOException {
+        if (!writable) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+        }
+    }
+
+    // 깨진 레코드가 남아 있으면 0으로 지움 (새 레코드 뒤에 옛 조각이 이어 읽히지 않도록)
+    private void truncate(MappedByteBuffer buffer, int position, Path path) {
+        if (buffer.limit() - position < Integer.BYTES || buffer.getInt(position) == 0) {
+            return;
+        }
+        log.warn("재고 이벤트 저널의 깨진 레코드 이후 삭제: {} ({}바이트 위치)", path.getFileName(), position);
+        for (int i = position; i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    // 새 파일의 디렉터리 항목까지 디스크에 남김 (지원하지 않는 OS에서는 생략)
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("저널 디렉터리 fsync 생략: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] reasonBytes(String reason) {
+        if (reason == null) {
+            return new byte[0];
+        }
+        byte[] bytes = reason.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= MAX_REASON_BYTES ? bytes : Arrays.copyOf(bytes, MAX_REASON_BYTES);
+    }
+
+    private static int recordSize(int length) {
+        return Integer.BYTES + length + Integer.BYTES;
+    }
+
+    // position의 레코드 (끝이거나 아직 다 쓰이지 않았거나 깨졌으면 null)
+    private static StockEvent decode(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < Integer.BYTES) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        if (length < BODY_SIZE || length > BODY_SIZE + MAX_REASON_BYTES
+                || position + recordSize(length) > buffer.limit()) {
+            return null;
+        }
+        int body = position + Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(body).limit(body + length));
+        if ((int) crc.getValue() != buffer.getInt(body + length)) {
+            return null;
+        }
+
+        ByteBuffer record = buffer.duplicate().position(body).limit(body + length);
+        long sequence = record.getLong();
+        long mutationId = record.getLong();
+        long timestamp = record.getLong();
+        int inventoryId = record.getInt();
+        InventoryLogType type = TYPES[record.get()];
+        long change = record.getLong();
+        long before = record.getLong();
+        long after = record.getLong();
+        int ocrResultId = record.getInt();
+        byte[] reason = new byte[record.getShort()];
+        record.get(reason);
+        return new StockEvent(sequence, mutationId, timestamp, inventoryId, type, change, before, after, ocrResultId,
+                reason.length == 0 ? null : new String(reason, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 저널을 순서대로 읽는 커서 (읽을 수 있는 순번까지만, 쓰는 쪽과 동시에 읽어도 됨)
+     */
+    final class Cursor {
+
+        private long segment;
+        private MappedByteBuffer buffer;
+        private int position;
+        private long after;
+
+        private Cursor(long segment, long after) throws IOException {
+            this.segment = segment;
+            this.buffer = map(segments.get(segment), false);
+            this.after = after;
+        }
+
+        /**
+         * 다음 이벤트를 limit 순번까지 최대 max건 읽음 (읽을 수 있는 순번을 넘지 않음)
+         */
+        List<StockEvent> next(int max, long upTo) throws IOException {
+            long limit = Math.min(readableSequence(), upTo);
+            List<StockEvent> events = new ArrayList<>();
+            while (events.size() < max) {
+                StockEvent event = decode(buffer, position);
+                if (event == null || event.getSequence() > limit) {
+                    if (event == null && advance()) {
+                        continue;
+                    }
+                    break;
+                }
+                position += recordSize(buffer.getInt(position));
+                if (event.getSequence() > after) {
+                    events.add(event);
+                    after = event.getSequence();
+                }
+            }
+            return events;
+        }
+
+        // 다음 세그먼트가 있으면 이 세그먼트는 끝까지 쓰인 것 (다음 세그먼트를 본 뒤에 다시 확인)
+        private boolean advance() throws IOException {
+            Long next = segments.higherKey(segment);
+            if (next == null || decode(buffer, position) != null) {
+                return false;
+            }
+            segment = next;
+            buffer = map(segments.get(next), false);
+            position = 0;
+            return true;
+        }
+    }
+}
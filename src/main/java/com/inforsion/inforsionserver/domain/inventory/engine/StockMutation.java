@@ -0,0 +1,39 @@
+package com.inforsion.inforsionserver.domain.inventory.engine;
+
+import com.inforsion.inforsionserver.global.enums.InventoryLogType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * StockEngine에 요청하는 재고 변화 하나
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockMutation {
+
+    private final Integer inventoryId;
+    private final InventoryLogType type;
+    // absolute면 목표 수량, 아니면 변화량
+    private final BigDecimal quantity;
+    private final boolean absolute;
+    private final Integer ocrResultId;
+    private final String reason;
+
+    /**
+     * 변화량만큼 반영 (입고/차감/폐기)
+     */
+    public static StockMutation change(Integer inventoryId, InventoryLogType type, BigDecimal quantityChange,
+                                       Integer ocrResultId, String reason) {
+        return new StockMutation(inventoryId, type, quantityChange, false, ocrResultId, reason);
+    }
+
+    /**
+     * 수량을 직접 맞춤 (수동 조정, 변화량은 엔진의 현재 수량과의 차이)
+     */
+    public static StockMutation adjustTo(Integer inventoryId, BigDecimal targetQuantity, String reason) {
+        return new StockMutation(inventoryId, InventoryLogType.MANUAL_ADJUSTMENT, targetQuantity, true, null, reason);
+    }
+}
@@ -12,7 +12,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inventories")
+@EntityListeners(InventoryEntityListener.class)
+@Table(name = "inventories", indexes = {
+        @Index(name = "idx_inventories_store_status", columnList = "store_id, stock_status"),
+        @Index(name = "idx_inventories_store_expiry", columnList = "store_id, expiry_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,10 +35,10 @@ public class InventoryEntity {
     private BigDecimal currentStock; // 현재 재료량
 
     @Column(name = "min_stock_level")
-    private BigDecimal minStock; // 최대 재고 수준
+    private BigDecimal minStock; // 최소 재고 수준
 
     @Column(name = "max_stock_level")
-    private BigDecimal maxStock; // 최소 재고 수준
+    private BigDecimal maxStock; // 최대 재고 수준
 
     @Column(nullable = false, length = 20)
     private String unit; // 단위 (g, ml, 개 등)
@@ -48,10 +52,13 @@ public class InventoryEntity {
     @Column(name = "expiry_date", nullable = false)
     private LocalDate expiryDate; // 유통기한
 
+    @Column(name = "expiry_alert_days")
+    private Integer expiryAlertDays; // 이미 보낸 가장 가까운 유통기한 알림 (D-n의 n, 만료는 0), 유통기한이 바뀌면 초기화
+
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(name = "stock_status", nullable = false)
-    private StockStatus stockStatus = StockStatus.SUFFICIENT; // 재고 상태
+    private StockStatus stockStatus = StockStatus.SUFFICIENT; // 재고 상태 (수량이 바뀔 때마다 StockStatusService가 갱신)
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -0,0 +1,34 @@
+package com.inforsion.inforsionserver.domain.inventory.entity;
+
+import com.inforsion.inforsionserver.domain.inventory.event.InventoryExpiryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 엔티티 변경 감지 리스너
+ *
+ * 재고가 저장/수정/삭제되면 InventoryExpiryChangedEvent를 발행합니다.
+ * JDBC/QueryDSL로 바꾸는 수량, 상태, 알림 표시는 유통기한과 무관하므로 리스너를 거치지 않아도 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onInventorySaved(InventoryEntity inventory) {
+        eventPublisher.publishEvent(new InventoryExpiryChangedEvent(
+                inventory.getId(), inventory.getExpiryDate(), inventory.getExpiryAlertDays()));
+    }
+
+    @PostRemove
+    public void onInventoryRemoved(InventoryEntity inventory) {
+        eventPublisher.publishEvent(InventoryExpiryChangedEvent.ofRemoved(inventory.getId()));
+    }
+}
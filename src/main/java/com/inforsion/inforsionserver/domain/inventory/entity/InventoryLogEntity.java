@@ -19,8 +19,11 @@ import java.time.LocalDateTime;
 @Builder
 public class InventoryLogEntity {
 
+    // IDENTITY는 insert마다 생성 키를 받아야 해서 JDBC 배치가 꺼지므로, id_sequences 테이블에서 블록 단위로 할당 (IdSequenceInitializer)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "inventory_log_id")
+    @TableGenerator(name = "inventory_log_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "inventory_logs", allocationSize = 500)
     @Column(name = "log_id")
     private Integer logId;
 
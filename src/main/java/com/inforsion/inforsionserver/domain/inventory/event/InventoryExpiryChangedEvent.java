@@ -0,0 +1,28 @@
+package com.inforsion.inforsionserver.domain.inventory.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 재고 생성/수정/삭제 이벤트
+ *
+ * 유통기한 알림 스케줄러(ExpiryAlertScheduler)가 재고의 타이머를 다시 잡는 데 사용됩니다.
+ * expiryDate가 null이면 삭제된 재고입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InventoryExpiryChangedEvent {
+
+    private final Integer inventoryId;
+
+    private final LocalDate expiryDate;
+
+    // 이미 보낸 가장 가까운 알림 기간(일), 0이면 만료 알림까지 보냄
+    private final Integer expiryAlertDays;
+
+    public static InventoryExpiryChangedEvent ofRemoved(Integer inventoryId) {
+        return new InventoryExpiryChangedEvent(inventoryId, null, null);
+    }
+}
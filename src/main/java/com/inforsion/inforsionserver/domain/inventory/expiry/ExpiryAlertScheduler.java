@@ -0,0 +1,320 @@
+package com.inforsion.inforsionserver.domain.inventory.expiry;
+
+import com.inforsion.inforsionserver.domain.alert.entity.AlertEntity;
+import com.inforsion.inforsionserver.domain.alert.repository.AlertRepository;
+import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.domain.inventory.event.InventoryExpiryChangedEvent;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import com.inforsion.inforsionserver.global.enums.AlertType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유통기한 알림 스케줄러 (inventory.expiry-alerts.enabled)
+ *
+ * 유통기한이 있는 재고마다 다음 알림(D-n, 만료) 시각에 타이머 하나를 TimingWheel에 걸어 두고, 시각이 되면 EXPIRY 알림을 만듭니다.
+ * - 기동 시 inventories를 한 번 읽어 타이머를 만들고, 이후에는 재고 생성/수정/삭제 이벤트(InventoryExpiryChangedEvent)로만 타이머를 바꿉니다.
+ *   → 주기적으로 테이블을 훑지 않고, 재고 하나당 메모리는 타이머 하나로 일정합니다.
+ * - D-n 알림은 유통기한 n일 전 0시, 만료 알림은 유통기한 다음 날 0시에 보냅니다. 서버가 꺼져 있던 사이 지난 알림은 가장 가까운 것 하나만 보냅니다.
+ * - 보낸 알림은 inventories.expiry_alert_days에 조건부 UPDATE로 표시하고 성공한 경우에만 알림을 만들므로,
+ *   재기동하거나 여러 서버가 같은 타이머를 돌려도 재고·유통기한·기간마다 알림은 한 번입니다. 유통기한이 바뀌면 표시가 초기화됩니다.
+ */
+@Slf4j
+@Component
+public class ExpiryAlertScheduler implements SmartInitializingSingleton {
+
+    // 만료 알림의 기간 값
+    private static final int EXPIRED = 0;
+
+    private final InventoryRepository inventoryRepository;
+    private final AlertRepository alertRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    // 알림 기간 (일, 내림차순, 마지막은 만료)
+    private final int[] horizons;
+    private final long tickMillis;
+    private final Clock clock;
+    private final ZoneId zone;
+
+    // wheel, timers는 이 잠금 안에서만
+    private final Object lock = new Object();
+    private final Map<Integer, TimingWheel.Timer<ExpiryTask>> timers = new HashMap<>();
+    private TimingWheel<ExpiryTask> wheel;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ExpiryAlertScheduler(InventoryRepository inventoryRepository,
+                                AlertRepository alertRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${inventory.expiry-alerts.enabled:true}") boolean enabled,
+                                @Value("${inventory.expiry-alerts.days-before:7,3,1}") List<Integer> daysBefore,
+                                @Value("${inventory.expiry-alerts.tick-seconds:60}") long tickSeconds) {
+        this(inventoryRepository, alertRepository, jdbcTemplate, transactionManager, enabled, daysBefore, tickSeconds,
+                Clock.systemDefaultZone());
+    }
+
+    // 테스트에서 시각을 직접 움직일 때
+    ExpiryAlertScheduler(InventoryRepository inventoryRepository,
+                         AlertRepository alertRepository,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         boolean enabled,
+                         List<Integer> daysBefore,
+                         long tickSeconds,
+                         Clock clock) {
+        this.inventoryRepository = inventoryRepository;
+        this.alertRepository = alertRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.horizons = daysBefore.stream()
+                .filter(days -> days > EXPIRED)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.tickMillis = TimeUnit.SECONDS.toMillis(tickSeconds);
+        this.clock = clock;
+        this.zone = clock.getZone();
+    }
+
+    /**
+     * 기동 시 유통기한이 있는 재고의 타이머 등록 후 tick 스레드 시작 (data.sql 실행 후)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        load();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expiry-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 기동 전에 지난 알림은 첫 tick에서 바로
+        scheduler.scheduleWithFixedDelay(this::tickSafely, 0, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 유통기한이 있는 재고의 타이머 등록 (tick 스레드는 시작하지 않음)
+     */
+    void load() {
+        long now = clock.millis();
+        synchronized (lock) {
+            wheel = new TimingWheel<>(tickMillis, now);
+            try {
+                jdbcTemplate.query("SELECT ingredient_id, expiry_date, expiry_alert_days FROM inventories WHERE expiry_date IS NOT NULL",
+                        rs -> {
+                            int alerted = rs.getInt(3);
+                            track(rs.getInt(1), rs.getDate(2).toLocalDate(), rs.wasNull() ? null : alerted, now);
+                        });
+            } catch (Exception e) {
+                // 알림만 못 보낼 뿐 서비스는 계속 (이후 생성/수정된 재고부터 추적)
+                log.error("유통기한 알림 타이머 로드 실패: {}", e.getMessage(), e);
+            }
+            log.info("유통기한 알림 스케줄러 시작: 타이머 {}개, 기간 {}일 전 + 만료, tick {}초",
+                    wheel.size(), Arrays.toString(horizons), tickMillis / 1000);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 재고 생성/수정/삭제가 커밋된 뒤 해당 재고의 타이머 교체
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryExpiryChanged(InventoryExpiryChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            TimingWheel.Timer<ExpiryTask> previous = timers.remove(event.getInventoryId());
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+            if (event.getExpiryDate() != null) {
+                track(event.getInventoryId(), event.getExpiryDate(), event.getExpiryAlertDays(), clock.millis());
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 재고 수 (모니터링용)
+     */
+    public int trackedCount() {
+        synchronized (lock) {
+            return wheel == null ? 0 : wheel.size();
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("유통기한 알림 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시각이 된 타이머 실행: 알림 표시 + 알림 생성 후 다음 기간의 타이머 등록
+     */
+    void tick() {
+        long now = clock.millis();
+        List<ExpiryTask> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advance(now, task -> {
+                timers.remove(task.inventoryId);
+                due.add(task);
+            });
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        try {
+            int created = transactionTemplate.execute(status -> fire(due));
+            log.info("유통기한 알림: 만기 타이머 {}건, 알림 {}건", due.size(), created);
+        } catch (Exception e) {
+            // 다음 tick에 다시 시도 (그 사이 수정/삭제된 재고는 이벤트가 이미 새 타이머를 걸었으므로 건너뜀)
+            log.error("유통기한 알림 생성 실패, 다음 tick에 재시도: {}건, 오류: {}", due.size(), e.getMessage(), e);
+            synchronized (lock) {
+                for (ExpiryTask task : due) {
+                    if (!timers.containsKey(task.inventoryId)) {
+                        timers.put(task.inventoryId, wheel.schedule(now + tickMillis, task));
+                    }
+                }
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            for (ExpiryTask task : due) {
+                if (!timers.containsKey(task.inventoryId)) {
+                    track(task.inventoryId, task.expiryDate, task.daysBefore, now);
+                }
+            }
+        }
+    }
+
+    private int fire(List<ExpiryTask> due) {
+        Map<Integer, ExpiryTask> claimed = new HashMap<>();
+        for (ExpiryTask task : due) {
+            // 유통기한이 바뀌었거나 이미 보낸 알림이면 0건
+            if (inventoryRepository.claimExpiryAlert(task.inventoryId, task.expiryDate, task.daysBefore)) {
+                claimed.put(task.inventoryId, task);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<AlertEntity> alerts = new ArrayList<>(claimed.size());
+        for (InventoryEntity inventory : inventoryRepository.findAllById(claimed.keySet())) {
+            alerts.add(toAlert(inventory, claimed.get(inventory.getId())));
+        }
+        alertRepository.saveAll(alerts);
+        return alerts.size();
+    }
+
+    /**
+     * 다음 알림의 타이머 등록 (alerted: 이미 보낸 가장 가까운 기간, 없으면 null), 잠금 안에서 호출
+     *
+     * 이미 시각이 지난 기간이 있으면 그중 가장 가까운 것 하나를 바로, 없으면 아직 보내지 않은 가장 먼 기간을 그 시각에 실행합니다.
+     */
+    private void track(int inventoryId, LocalDate expiryDate, Integer alerted, long now) {
+        ExpiryTask next = null;
+        for (int i = 0; i <= horizons.length; i++) {
+            int daysBefore = i < horizons.length ? horizons[i] : EXPIRED;
+            if (alerted != null && daysBefore >= alerted) {
+                continue;
+            }
+            long fireAt = fireAt(expiryDate, daysBefore);
+            if (fireAt > now) {
+                if (next == null) {
+                    next = new ExpiryTask(inventoryId, expiryDate, daysBefore, fireAt);
+                }
+                break;
+            }
+            next = new ExpiryTask(inventoryId, expiryDate, daysBefore, fireAt);
+        }
+        if (next != null) {
+            timers.put(inventoryId, wheel.schedule(next.fireAt, next));
+        }
+    }
+
+    private long fireAt(LocalDate expiryDate, int daysBefore) {
+        LocalDate day = daysBefore == EXPIRED ? expiryDate.plusDays(1) : expiryDate.minusDays(daysBefore);
+        return day.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private AlertEntity toAlert(InventoryEntity inventory, ExpiryTask task) {
+        boolean expired = task.daysBefore == EXPIRED;
+        String message = expired
+                ? String.format("%s의 유통기한이 지났습니다. (유통기한: %s)", inventory.getName(), task.expiryDate)
+                : String.format("%s의 유통기한이 %d일 남았습니다. (유통기한: %s)", inventory.getName(), task.daysBefore, task.expiryDate);
+        return AlertEntity.builder()
+                .user(inventory.getStore().getUser())
+                .store(inventory.getStore())
+                .inventory(inventory)
+                .alertType(AlertType.EXPIRY)
+                .title(expired ? "유통기한 만료 알림" : "유통기한 임박 알림")
+                .message(message)
+                .metadata(String.format("{\"inventoryId\": %d, \"expiryDate\": \"%s\", \"daysBefore\": %d}",
+                        inventory.getId(), task.expiryDate, task.daysBefore))
+                .build();
+    }
+
+    private static final class ExpiryTask {
+
+        private final int inventoryId;
+        private final LocalDate expiryDate;
+        private final int daysBefore;
+        private final long fireAt;
+
+        private ExpiryTask(int inventoryId, LocalDate expiryDate, int daysBefore, long fireAt) {
+            this.inventoryId = inventoryId;
+            this.expiryDate = expiryDate;
+            this.daysBefore = daysBefore;
+            this.fireAt = fireAt;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.inforsion.inforsionserver.domain.inventory.expiry;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ *
+ * 단계마다 칸이 64개이고, 0단계 한 칸이 tick 하나, i단계 한 칸이 64^i tick입니다. (tick 1분이면 4단계로 약 32년)
+ * 타이머는 남은 시간에 맞는 단계의 칸에 들어가고, 아래 단계가 한 바퀴 돌 때마다 위 단계의 칸 하나를 풀어 다시 나눕니다(cascade).
+ * 등록/취소는 칸의 이중 연결 리스트에 붙이고 떼는 것뿐이라 O(1)이고, 타이머 하나의 메모리도 노드 하나로 일정합니다.
+ * 동기화하지 않으므로 호출자가 잠금 안에서 사용합니다.
+ */
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timer<T>[][] slots;
+    // 다음에 처리할 tick (epoch 기준 tick 수)
+    private long current;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new Timer[LEVELS][SLOTS];
+        this.current = startMillis / tickMillis;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * deadlineMillis에 실행될 타이머 등록 (이미 지났으면 다음 advance에서 실행)
+     */
+    Timer<T> schedule(long deadlineMillis, T payload) {
+        Timer<T> timer = new Timer<>(Math.max(deadlineMillis / tickMillis, current), payload);
+        add(timer);
+        size++;
+        return timer;
+    }
+
+    void cancel(Timer<T> timer) {
+        if (timer.level < 0) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * nowMillis까지 tick을 진행하며 만기된 타이머 실행 (실행된 타이머는 휠에서 빠짐)
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long target = nowMillis / tickMillis;
+        while (current <= target) {
+            int index = (int) (current & MASK);
+            // 아래 단계가 한 바퀴 돌았으면 위 단계의 현재 칸을 다시 나눔
+            for (int level = 1; level < LEVELS && index == 0; level++) {
+                index = (int) ((current >>> (BITS * level)) & MASK);
+                cascade(level, index);
+            }
+
+            Timer<T> timer = slots[0][(int) (current & MASK)];
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                unlink(timer);
+                size--;
+                expired.accept(timer.payload);
+                timer = next;
+            }
+            current++;
+        }
+    }
+
+    private void cascade(int level, int index) {
+        Timer<T> timer = slots[level][index];
+        slots[level][index] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            timer.level = -1;
+            add(timer);
+            timer = next;
+        }
+    }
+
+    private void add(Timer<T> timer) {
+        long delay = timer.deadline - current;
+        // 휠 범위를 넘는 타이머는 맨 위 단계의 가장 먼 칸에 두었다가 cascade 때 다시 나눔
+        long deadline = delay > MAX_DELAY ? current + MAX_DELAY : timer.deadline;
+        delay = deadline - current;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((deadline >>> (BITS * level)) & MASK);
+
+        Timer<T> head = slots[level][index];
+        timer.next = head;
+        timer.prev = null;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[level][index] = timer;
+        timer.level = level;
+        timer.index = index;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.level][timer.index] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+
+    static final class Timer<T> {
+
+        private final long deadline;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int level = -1;
+        private int index;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        T payload() {
+            return payload;
+        }
+    }
+}
@@ -89,4 +89,4 @@ public class InventoryLogRepositoryImpl implements InventoryLogRepositoryCustom
                 .limit(limit)
                 .fetch();
     }
-}
\ No newline at end of file
+}
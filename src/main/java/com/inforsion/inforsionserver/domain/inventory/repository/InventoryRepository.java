@@ -1,14 +1,19 @@
 package com.inforsion.inforsionserver.domain.inventory.repository;
 
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<InventoryEntity, Integer>,
         QuerydslPredicateExecutor<InventoryEntity>, InventoryRepositoryCustom {
+
+    // 재고 부족 현황 (idx_inventories_store_status)
+    List<InventoryEntity> findByStoreIdAndStockStatusInOrderByName(Integer storeId, Collection<StockStatus> stockStatuses);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.inforsion.inforsionserver.domain.inventory.repository;
 
 import com.inforsion.inforsionserver.domain.inventory.dto.ExpiringInventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.ExpirySummaryDto;
 import com.inforsion.inforsionserver.domain.inventory.dto.InventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,12 +14,27 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 public interface InventoryRepositoryCustom {
     Page<InventoryEntity> findInventories(Integer storeId, Pageable pageable);
     Long updateInventory(Integer inventoryId, InventoryDto inventoryDto);
     Long deleteInventory(Integer inventoryId);
-    List<ExpiringInventoryDto> findItemsExpiringBefore(Integer days);
+    // 매장의 유통기한이 until 이하인 재고 (유통기한 오름차순, idx_inventories_store_expiry)
+    List<ExpiringInventoryDto> findItemsExpiringBefore(Integer storeId, LocalDate until);
+    // 매장의 다음 유통기한 요약 (today 기준)
+    ExpirySummaryDto findExpirySummary(Integer storeId, LocalDate today);
+    // 재고 변화량 반영 (current_stock = current_stock + ?, 여러 재고를 UPDATE 한 번으로), 트랜잭션 안에서 호출
+    List<StockChangeDto> applyStockDeltas(Map<Integer, BigDecimal> deltas, boolean allowNegative);
+    // 현재 수량/최소 재고 수준/상태를 행 잠금과 함께 조회 (이전 = 이후 = 현재 수량), 트랜잭션 안에서 호출
+    List<StockChangeDto> findStockLevelsForUpdate(Collection<Integer> inventoryIds);
+    // 재고 상태만 갱신 (JDBC 배치)
+    void updateStockStatuses(Map<Integer, StockStatus> stockStatuses);
+    // 저장된 재고 상태가 현재 수량/최소 재고 수준과 다른 재고를 다시 계산 (UPDATE 한 번), 바뀐 재고 수 반환
+    int recomputeStockStatuses();
+    // 유통기한 알림 표시 (유통기한이 그대로이고 더 가까운 알림을 아직 보내지 않았을 때만, 성공하면 true)
+    boolean claimExpiryAlert(Integer inventoryId, LocalDate expiryDate, int daysBefore);
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.inforsion.inforsionserver.domain.inventory.repository;
 
 import com.inforsion.inforsionserver.domain.inventory.dto.ExpiringInventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.ExpirySummaryDto;
 import com.inforsion.inforsionserver.domain.inventory.dto.InventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
 import com.inforsion.inforsionserver.domain.inventory.entity.QInventoryEntity;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -12,17 +17,29 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Repository
 @RequiredArgsConstructor
 public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
     
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
     private final QInventoryEntity t = QInventoryEntity.inventoryEntity;
 
     // 전체 재고 조회 - 페이징 처리: 이름, 현재 재료량, 유통기한, 최근 입고 순 정렬 가능
@@ -96,18 +113,159 @@ public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
 
     // 유통기한 임박
     @Override
-    public List<ExpiringInventoryDto> findItemsExpiringBefore(Integer days){
-        LocalDate targetDate = LocalDate.now().plusDays(days);
-
+    public List<ExpiringInventoryDto> findItemsExpiringBefore(Integer storeId, LocalDate until){
         return queryFactory
                 .select(Projections.constructor(
                         ExpiringInventoryDto.class,
                         t.id,
                         t.name,
+                        t.currentStock,
                         t.expiryDate
                 ))
                 .from(t)
-                .where(t.expiryDate.loe(targetDate))
+                .where(t.store.id.eq(storeId)
+                        .and(t.expiryDate.loe(until)))
+                .orderBy(t.expiryDate.asc(), t.id.asc())
                 .fetch();
     }
-}
\ No newline at end of file
+
+    // 조건부 UPDATE라 여러 서버가 같은 타이머를 실행해도 한 곳만 성공
+    @Override
+    public boolean claimExpiryAlert(Integer inventoryId, LocalDate expiryDate, int daysBefore) {
+        return queryFactory
+                .update(t)
+                .set(t.expiryAlertDays, daysBefore)
+                .where(t.id.eq(inventoryId)
+                        .and(t.expiryDate.eq(expiryDate))
+                        .and(t.expiryAlertDays.isNull().or(t.expiryAlertDays.gt(daysBefore))))
+                .execute() == 1;
+    }
+
+    // 다음 유통기한 요약 (인덱스 범위 조회 3번: 지난 것 개수, 오늘 이후 최소값, 그날 개수)
+    @Override
+    public ExpirySummaryDto findExpirySummary(Integer storeId, LocalDate today) {
+        Long expired = queryFactory
+                .select(t.count())
+                .from(t)
+                .where(t.store.id.eq(storeId)
+                        .and(t.expiryDate.lt(today)))
+                .fetchOne();
+
+        LocalDate next = queryFactory
+                .select(t.expiryDate.min())
+                .from(t)
+                .where(t.store.id.eq(storeId)
+                        .and(t.expiryDate.goe(today)))
+                .fetchOne();
+
+        Long nextCount = next == null ? null : queryFactory
+                .select(t.count())
+                .from(t)
+                .where(t.store.id.eq(storeId)
+                        .and(t.expiryDate.eq(next)))
+                .fetchOne();
+
+        return new ExpirySummaryDto(storeId, next, nextCount != null ? nextCount : 0, expired != null ? expired : 0);
+    }
+
+    /**
+     * 재고 변화량 반영 (읽고-계산하고-저장하지 않고 DB에서 원자적으로 더함)
+     *
+     * UPDATE inventories SET current_stock = current_stock + CASE ingredient_id WHEN ? THEN ? ... END WHERE ingredient_id IN (...)
+     * - 재고 여러 건을 문장 하나로 바꾸고, 행 잠금은 PK 순서로 잡히므로 동시에 실행해도 교착 상태가 생기지 않습니다.
+     * - allowNegative가 false면 결과가 음수가 되는 행은 바꾸지 않고 INVENTORY_INSUFFICIENT로 실패합니다. (호출한 트랜잭션이 롤백되어 전체 취소)
+     * - MySQL은 UPDATE ... RETURNING이 없으므로, 반영 직후 잠금을 쥔 행을 다시 읽어 이후 값을 얻고 이전 값 = 이후 값 - 변화량으로 계산합니다.
+     *   커밋 전까지 다른 트랜잭션이 바꿀 수 없으므로 정확합니다. 상태 전이 판단용으로 최소 재고 수준과 저장된 상태도 함께 읽습니다.
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 불러온 InventoryEntity의 currentStock은 갱신되지 않습니다.
+     *
+     * @param deltas 재고 id → 변화량 (차감은 음수)
+     * @return 재고별 이전/이후 수량 (id 오름차순)
+     */
+    @Override
+    public List<StockChangeDto> applyStockDeltas(Map<Integer, BigDecimal> deltas, boolean allowNegative) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        TreeMap<Integer, BigDecimal> sorted = new TreeMap<>(deltas);
+        String ids = String.join(", ", Collections.nCopies(sorted.size(), "?"));
+        String delta = "CASE ingredient_id" + " WHEN ? THEN ?".repeat(sorted.size()) + " END";
+
+        List<Object> deltaArgs = new ArrayList<>(sorted.size() * 2);
+        sorted.forEach((inventoryId, change) -> {
+            deltaArgs.add(inventoryId);
+            deltaArgs.add(change);
+        });
+
+        StringBuilder sql = new StringBuilder("UPDATE inventories SET current_stock = current_stock + ")
+                .append(delta).append(", updated_at = ? WHERE ingredient_id IN (").append(ids).append(")");
+        List<Object> args = new ArrayList<>(deltaArgs);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(sorted.keySet());
+        if (!allowNegative) {
+            sql.append(" AND current_stock + ").append(delta).append(" >= 0");
+            args.addAll(deltaArgs);
+        }
+
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+        if (updated < sorted.size()) {
+            List<Integer> existing = jdbcTemplate.queryForList(
+                    "SELECT ingredient_id FROM inventories WHERE ingredient_id IN (" + ids + ")",
+                    Integer.class, sorted.keySet().toArray());
+            if (existing.size() < sorted.size()) {
+                throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND,
+                        "재고를 찾을 수 없습니다: " + sorted.keySet().stream().filter(id -> !existing.contains(id)).toList());
+            }
+            throw new BusinessException(ErrorCode.INVENTORY_INSUFFICIENT);
+        }
+
+        Map<Integer, StockChangeDto> levels = new HashMap<>();
+        for (StockChangeDto level : findStockLevels(ids, sorted.keySet(), "")) {
+            levels.put(level.getInventoryId(), level);
+        }
+
+        List<StockChangeDto> changes = new ArrayList<>(sorted.size());
+        sorted.forEach((inventoryId, change) -> {
+            StockChangeDto level = levels.get(inventoryId);
+            changes.add(new StockChangeDto(inventoryId, level.getAfterQuantity().subtract(change), level.getAfterQuantity(),
+                    level.getMinStock(), level.getStockStatus()));
+        });
+        return changes;
+    }
+
+    @Override
+    public List<StockChangeDto> findStockLevelsForUpdate(Collection<Integer> inventoryIds) {
+        if (inventoryIds.isEmpty()) {
+            return List.of();
+        }
+        // 잠금은 PK 순서로
+        TreeSet<Integer> sorted = new TreeSet<>(inventoryIds);
+        return findStockLevels(String.join(", ", Collections.nCopies(sorted.size(), "?")), sorted, " FOR UPDATE");
+    }
+
+    @Override
+    public void updateStockStatuses(Map<Integer, StockStatus> stockStatuses) {
+        List<Object[]> rows = new ArrayList<>(stockStatuses.size());
+        new TreeMap<>(stockStatuses).forEach((inventoryId, stockStatus) -> rows.add(new Object[]{stockStatus.name(), inventoryId}));
+        jdbcTemplate.batchUpdate("UPDATE inventories SET stock_status = ? WHERE ingredient_id = ?", rows);
+    }
+
+    /**
+     * StockStatus.of와 같은 기준으로 계산해 다른 재고만 갱신 (이미 맞으면 바꾸는 행 없음)
+     */
+    @Override
+    public int recomputeStockStatuses() {
+        String computed = "CASE WHEN current_stock <= 0 THEN 'OUT_OF_STOCK' "
+                + "WHEN min_stock_level IS NOT NULL AND current_stock <= min_stock_level THEN 'LOW' "
+                + "ELSE 'SUFFICIENT' END";
+        return jdbcTemplate.update("UPDATE inventories SET stock_status = " + computed
+                + " WHERE stock_status IS NULL OR stock_status <> " + computed);
+    }
+
+    private List<StockChangeDto> findStockLevels(String placeholders, Collection<Integer> inventoryIds, String lock) {
+        return jdbcTemplate.query("SELECT ingredient_id, current_stock, min_stock_level, stock_status FROM inventories "
+                        + "WHERE ingredient_id IN (" + placeholders + ") ORDER BY ingredient_id" + lock,
+                (rs, rowNum) -> new StockChangeDto(rs.getInt(1), rs.getBigDecimal(2), rs.getBigDecimal(2),
+                        rs.getBigDecimal(3), StockStatus.valueOf(rs.getString(4))),
+                inventoryIds.toArray());
+    }
+}
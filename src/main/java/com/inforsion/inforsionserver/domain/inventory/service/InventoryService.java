@@ -1,26 +1,47 @@
 package com.inforsion.inforsionserver.domain.inventory.service;
 
+import com.inforsion.inforsionserver.domain.inventory.buffer.StockWriteBuffer;
 import com.inforsion.inforsionserver.domain.inventory.dto.ExpiringInventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.dto.ExpirySummaryDto;
 import com.inforsion.inforsionserver.domain.inventory.dto.InventoryDto;
+import com.inforsion.inforsionserver.domain.inventory.engine.StockEngine;
+import com.inforsion.inforsionserver.domain.inventory.engine.StockMutation;
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
 import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
 import com.inforsion.inforsionserver.domain.store.entity.StoreEntity;
 import com.inforsion.inforsionserver.domain.store.repository.StoreRepository;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class InventoryService {
 
+    private static final String EXPIRY_SUMMARY_CACHE = "inventoryExpirySummary";
+
     private final InventoryRepository inventoryRepository;
     private final StoreRepository storeRepository;
+    private final StockWriteBuffer stockWriteBuffer;
+    private final StockEngine stockEngine;
+    private final StockStatusService stockStatusService;
+    private final CacheManager cacheManager;
 
     // 생성
     @Transactional
@@ -31,6 +52,8 @@ public class InventoryService {
         InventoryEntity entity = InventoryEntity.builder()
                 .name(inventoryDto.getName())
                 .currentStock(inventoryDto.getCurrentStock())
+                .minStock(inventoryDto.getMinStock())
+                .maxStock(inventoryDto.getMaxStock())
                 .unit(inventoryDto.getUnit())
                 .unitCost(inventoryDto.getUnitCost())
                 .expiryDate(inventoryDto.getExpiryDate())
@@ -39,21 +62,39 @@ public class InventoryService {
                 .build();
 
         InventoryEntity saved = inventoryRepository.save(entity);
+        stockStatusService.apply(saved);
+        evictExpirySummary(store.getId());
 
         return InventoryDto.fromEntity(saved);
 
     }
 
-    // 조회
+    // 조회 (쓰기 결합 버퍼에서 아직 반영되지 않은 변화량 포함, 재고 엔진이 켜져 있으면 엔진의 현재 수량)
     @Transactional(readOnly = true)
     public Page<InventoryDto> getInventories(Integer storeId, Pageable pageable){
-        Page<InventoryEntity> entityPage = inventoryRepository.findInventories(storeId, pageable);
-        return entityPage.map(InventoryDto::fromEntity);
+        Page<InventoryDto> inventories = stockWriteBuffer.readWithPending(
+                () -> inventoryRepository.findInventories(storeId, pageable).map(InventoryDto::fromEntity),
+                (page, pending) -> {
+                    page.forEach(dto -> {
+                        BigDecimal delta = pending.get(dto.getId());
+                        if (delta != null) {
+                            dto.setCurrentStock(dto.getCurrentStock().add(delta));
+                        }
+                    });
+                    return page;
+                });
+        if (stockEngine.isEnabled()) {
+            Map<Integer, BigDecimal> stocks = stockEngine.getStocks(inventories.map(InventoryDto::getId).getContent());
+            inventories.forEach(dto -> dto.setCurrentStock(stocks.getOrDefault(dto.getId(), dto.getCurrentStock())));
+        }
+        return inventories;
     }
 
     // 수정
     @Transactional
     public InventoryDto updateInventory(Integer inventoryId, @Valid InventoryDto inventoryDto) {
+        // 수량을 덮어쓰므로 쓰기 결합 버퍼의 미반영 변화량을 먼저 반영 (덮어쓴 값에 이전 변화량이 더해지지 않게, 첫 조회 전에)
+        stockWriteBuffer.drain(inventoryId);
         InventoryEntity entity = inventoryRepository.findById(inventoryId)
                 .orElseThrow(() -> new IllegalArgumentException("재고 내역을 찾을 수 없습니다."));
 
@@ -62,14 +103,38 @@ public class InventoryService {
 
         entity.setName(inventoryDto.getName());
         entity.setCurrentStock(inventoryDto.getCurrentStock());
+        entity.setMinStock(inventoryDto.getMinStock());
+        entity.setMaxStock(inventoryDto.getMaxStock());
         entity.setUnitCost(inventoryDto.getUnitCost());
+        if (!Objects.equals(entity.getExpiryDate(), inventoryDto.getExpiryDate())) {
+            // 새 유통기한 기준으로 알림을 다시 보냄
+            entity.setExpiryAlertDays(null);
+        }
         entity.setExpiryDate(inventoryDto.getExpiryDate());
         entity.setLastRestockedDate(inventoryDto.getLastRestockedDate());
+        // 매장이 바뀌면 이전 매장 요약도 비움
+        evictExpirySummary(entity.getStore().getId());
+        evictExpirySummary(store.getId());
         entity.setStore(store);
+        stockStatusService.apply(entity);
+
+        // 재고 엔진이 켜져 있으면 수량 변경은 수동 조정 이벤트로 (커밋 직전 엔진에 기록, 다음 checkpoint에서 엔진 수량으로 다시 덮어씀)
+        if (stockEngine.isEnabled()) {
+            stockEngine.applyBeforeCommit(List.of(StockMutation.adjustTo(inventoryId, inventoryDto.getCurrentStock(), "재고 수정")));
+        }
 
         return InventoryDto.fromEntity(entity);
     }
 
+    // 재고 부족/품절 현황 (상태는 수량이 바뀔 때마다 갱신되므로 인덱스 조회)
+    @Transactional(readOnly = true)
+    public List<InventoryDto> getLowStockInventories(Integer storeId) {
+        return inventoryRepository.findByStoreIdAndStockStatusInOrderByName(storeId, List.of(StockStatus.LOW, StockStatus.OUT_OF_STOCK))
+                .stream()
+                .map(InventoryDto::fromEntity)
+                .toList();
+    }
+
     // 삭제
     @Transactional
     public void deleteInventory(Integer inventoryId) {
@@ -77,11 +142,46 @@ public class InventoryService {
                 .orElseThrow(() -> new IllegalArgumentException("Id" + inventoryId + "에 해당하는 재고가 없습니다."));
 
         inventoryRepository.delete(entity);
+        evictExpirySummary(entity.getStore().getId());
     }
 
-    // 유통기한 임박 알림
-    @Transactional
-    public List<ExpiringInventoryDto> getExpiringItems(Integer days){
-        return inventoryRepository.findItemsExpiringBefore(days);
+    // 유통기한 임박 알림 (가장 긴 기간으로 한 번 조회한 뒤, 유통기한 순으로 한 번 훑으며 기간별로 나눔, 기간별 결과는 누적)
+    @Transactional(readOnly = true)
+    public Map<Integer, List<ExpiringInventoryDto>> getExpiringItems(Integer storeId, List<Integer> days){
+        LocalDate today = LocalDate.now();
+        List<Integer> horizons = days.stream().distinct().sorted().toList();
+        Map<Integer, List<ExpiringInventoryDto>> buckets = new LinkedHashMap<>();
+        horizons.forEach(d -> buckets.put(d, new ArrayList<>()));
+        if (horizons.isEmpty()) {
+            return buckets;
+        }
+
+        List<ExpiringInventoryDto> items = inventoryRepository.findItemsExpiringBefore(storeId,
+                today.plusDays(horizons.get(horizons.size() - 1)));
+        int shortest = 0; // 이 재고가 들어가는 가장 짧은 기간 (유통기한 순이므로 줄지 않음)
+        for (ExpiringInventoryDto item : items) {
+            while (item.getExpiryDate().isAfter(today.plusDays(horizons.get(shortest)))) {
+                shortest++;
+            }
+            for (int i = shortest; i < horizons.size(); i++) {
+                buckets.get(horizons.get(i)).add(item);
+            }
+        }
+        return buckets;
+    }
+
+    // 다음 유통기한 요약 (날짜가 바뀌면 새 키, 재고 생성/수정/삭제 시 그 매장의 오늘 키만 비움)
+    @Transactional(readOnly = true)
+    @Cacheable(value = EXPIRY_SUMMARY_CACHE, key = "#storeId + ':' + T(java.time.LocalDate).now()")
+    public ExpirySummaryDto getExpirySummary(Integer storeId) {
+        return inventoryRepository.findExpirySummary(storeId, LocalDate.now());
+    }
+
+    // 매장의 오늘 유통기한 요약 비움 (커밋 후, 커밋 전에 비우면 그 사이 조회가 바뀌기 전 값을 다시 담을 수 있음)
+    private void evictExpirySummary(Integer storeId) {
+        Cache cache = cacheManager.getCache(EXPIRY_SUMMARY_CACHE);
+        if (cache != null) {
+            new TransactionAwareCacheDecorator(cache).evict(storeId + ":" + LocalDate.now());
+        }
     }
 }
@@ -0,0 +1,140 @@
+package com.inforsion.inforsionserver.domain.inventory.service;
+
+import com.inforsion.inforsionserver.domain.alert.entity.AlertEntity;
+import com.inforsion.inforsionserver.domain.alert.repository.AlertRepository;
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
+import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import com.inforsion.inforsionserver.global.enums.AlertType;
+import com.inforsion.inforsionserver.global.enums.StockStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 상태(SUFFICIENT/LOW/OUT_OF_STOCK) 유지 + 재고 부족 알림
+ *
+ * 재고 수량이 바뀌는 곳(변화량 반영, 쓰기 결합 반영, 재고 엔진 checkpoint, 재고 수정)에서 같은 트랜잭션으로 호출합니다.
+ * 새 수량과 최소 재고 수준으로 상태를 다시 계산해 바뀐 재고만 갱신하고, 나빠지는 전이(충분 → 부족, 부족 → 품절 등)에서만 LOW_STOCK 알림을 만듭니다.
+ * 저장된 상태와 비교하는 것은 행 잠금을 쥔 채이므로, 동시에 차감되어도 같은 전이에 대한 알림은 한 번만 생깁니다.
+ * 서버 시작 시 저장된 상태가 수량과 맞지 않는 재고(상태 유지 이전 데이터, 시드 데이터)를 알림 없이 한 번 다시 계산합니다.
+ */
+@Slf4j
+@Service
+public class StockStatusService {
+
+    private final InventoryRepository inventoryRepository;
+    private final AlertRepository alertRepository;
+    private final boolean recomputeOnStartup;
+
+    public StockStatusService(InventoryRepository inventoryRepository,
+                              AlertRepository alertRepository,
+                              @Value("${inventory.stock-status.recompute-on-startup:true}") boolean recomputeOnStartup) {
+        this.inventoryRepository = inventoryRepository;
+        this.alertRepository = alertRepository;
+        this.recomputeOnStartup = recomputeOnStartup;
+    }
+
+    /**
+     * 저장된 상태 보정 (이미 맞는 재고는 바뀌지 않으므로 매번 실행해도 됨)
+     * 과거 상태에 대한 알림은 의미가 없으므로 만들지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeStaleStatuses() {
+        if (!recomputeOnStartup) {
+            return;
+        }
+        try {
+            int updated = inventoryRepository.recomputeStockStatuses();
+            if (updated > 0) {
+                log.info("재고 상태 보정: {}건", updated);
+            }
+        } catch (Exception e) {
+            // 다음 수량 변경 때 해당 재고는 다시 계산되므로 기동은 계속
+            log.error("재고 상태 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변화량 반영 결과(applyStockDeltas)로 상태 전이 반영
+     */
+    public void applyTransitions(List<StockChangeDto> changes) {
+        Map<Integer, StockStatus> transitions = new HashMap<>();
+        Map<Integer, StockChangeDto> worsened = new HashMap<>();
+        for (StockChangeDto change : changes) {
+            StockStatus next = StockStatus.of(change.getAfterQuantity(), change.getMinStock());
+            if (next == change.getStockStatus()) {
+                continue;
+            }
+            transitions.put(change.getInventoryId(), next);
+            if (next.isWorseThan(change.getStockStatus())) {
+                worsened.put(change.getInventoryId(), change);
+            }
+        }
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        inventoryRepository.updateStockStatuses(transitions);
+        if (!worsened.isEmpty()) {
+            List<AlertEntity> alerts = new ArrayList<>(worsened.size());
+            for (InventoryEntity inventory : inventoryRepository.findAllById(worsened.keySet())) {
+                StockChangeDto change = worsened.get(inventory.getId());
+                alerts.add(toAlert(inventory, transitions.get(inventory.getId()), change.getAfterQuantity()));
+            }
+            alertRepository.saveAll(alerts);
+        }
+        log.info("재고 상태 변경: {}건 (알림 {}건) {}", transitions.size(), worsened.size(), transitions);
+    }
+
+    /**
+     * 재고들의 현재 수량으로 상태를 다시 계산 (행 잠금 후, 변화량을 모르는 경로용)
+     */
+    public void refresh(Collection<Integer> inventoryIds) {
+        applyTransitions(inventoryRepository.findStockLevelsForUpdate(inventoryIds));
+    }
+
+    /**
+     * 엔티티로 수량을 바꾼 경우 (재고 생성/수정), 저장 후 호출
+     */
+    public void apply(InventoryEntity inventory) {
+        StockStatus next = StockStatus.of(inventory.getCurrentStock(), inventory.getMinStock());
+        StockStatus previous = inventory.getStockStatus();
+        if (next == previous) {
+            return;
+        }
+        inventory.setStockStatus(next);
+        if (next.isWorseThan(previous)) {
+            alertRepository.save(toAlert(inventory, next, inventory.getCurrentStock()));
+        }
+        log.info("재고 상태 변경: 재고 ID {} {} → {}", inventory.getId(), previous, next);
+    }
+
+    private AlertEntity toAlert(InventoryEntity inventory, StockStatus stockStatus, BigDecimal currentStock) {
+        boolean outOfStock = stockStatus == StockStatus.OUT_OF_STOCK;
+        String message = outOfStock
+                ? String.format("%s의 재고가 모두 소진되었습니다. (현재: %s%s)",
+                        inventory.getName(), currentStock.stripTrailingZeros().toPlainString(), inventory.getUnit())
+                : String.format("%s의 재고가 부족합니다. (현재: %s%s, 최소: %s%s)",
+                        inventory.getName(), currentStock.stripTrailingZeros().toPlainString(), inventory.getUnit(),
+                        inventory.getMinStock().stripTrailingZeros().toPlainString(), inventory.getUnit());
+        return AlertEntity.builder()
+                .user(inventory.getStore().getUser())
+                .store(inventory.getStore())
+                .inventory(inventory)
+                .alertType(AlertType.LOW_STOCK)
+                .title(outOfStock ? "재고 소진 알림" : "재고 부족 알림")
+                .message(message)
+                .metadata(String.format("{\"inventoryId\": %d, \"stockStatus\": \"%s\"}", inventory.getId(), stockStatus.name()))
+                .build();
+    }
+}
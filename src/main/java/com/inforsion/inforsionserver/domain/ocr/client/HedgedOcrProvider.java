@@ -0,0 +1,210 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 헤징 OCR 엔진 (꼬리 지연 단축)
+ *
+ * 기본 엔진이 최근 응답 시간의 percentile 백분위(헤징 기준 시간) 안에 답하지 않으면 보조 엔진에도 같은 요청을 보내고,
+ * 먼저 성공한 결과를 쓰며 나머지 요청은 취소합니다. 기본 엔진이 기준 시간 전에 실패하면 바로 보조 엔진으로 넘깁니다.
+ * 헤징 요청은 전체 요청의 maxHedgeRatio 비율까지만 보내 제공자 부하가 크게 늘지 않게 합니다.
+ * 보조 엔진이 없으면 기본 엔진을 그대로 호출합니다.
+ */
+@Slf4j
+public class HedgedOcrProvider implements OcrProvider {
+
+    // 헤징 기준 시간을 계산하기 위한 최소 표본 수 (이전에는 initialDelay 사용)
+    private static final int MIN_SAMPLES = 20;
+    private static final int WINDOW_SIZE = 256;
+    // 헤징 예산 최대 적립량 (요청이 뜸하다가 몰려도 한 번에 보낼 수 있는 헤징 수)
+    private static final double MAX_HEDGE_CREDITS = 10;
+
+    private final OcrProvider primary;
+    private final OcrProvider secondary;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final double maxHedgeRatio;
+    private final LatencyWindow primaryLatency;
+    private final MeterRegistry meterRegistry;
+
+    private double hedgeCredits = MAX_HEDGE_CREDITS;
+
+    @Builder
+    private HedgedOcrProvider(OcrProvider primary, OcrProvider secondary, double percentile,
+                              Duration initialDelay, Duration minDelay, Duration maxDelay,
+                              double maxHedgeRatio, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.primaryLatency = new LatencyWindow(WINDOW_SIZE, percentile);
+        this.meterRegistry = meterRegistry;
+
+        if (meterRegistry != null) {
+            Gauge.builder("ocr.hedge.delay", this, provider -> provider.hedgeDelay().toMillis())
+                    .description("현재 헤징 기준 시간 (ms)")
+                    .register(meterRegistry);
+        }
+        log.info("OCR 헤징 - 기본: {}, 보조: {}", primary.getName(), secondary != null ? secondary.getName() : "없음");
+    }
+
+    @Override
+    public String getName() {
+        return primary.getName();
+    }
+
+    @Override
+    public Mono<OcrText> recognize(OcrImage image) {
+        return hedge(provider -> provider.recognize(image).map(List::of)).map(pages -> pages.get(0));
+    }
+
+    @Override
+    public Mono<List<OcrText>> recognizePages(OcrImage image) {
+        return hedge(provider -> provider.recognizePages(image));
+    }
+
+    private Mono<List<OcrText>> hedge(Function<OcrProvider, Mono<List<OcrText>>> call) {
+        if (secondary == null) {
+            return Mono.defer(() -> {
+                long startedAt = System.nanoTime();
+                return call.apply(primary)
+                        .map(pages -> complete(pages, startedAt, false, true, true));
+            });
+        }
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            boolean budgetAvailable = earnHedgeCredit();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            AtomicBoolean hedged = new AtomicBoolean();
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+            Mono<List<OcrText>> primaryCall = call.apply(primary)
+                    .doOnError(e -> {
+                        primaryError.set(e);
+                        primaryFailed.tryEmitEmpty();
+                    });
+
+            // 기준 시간 경과 또는 기본 엔진 실패 중 먼저 오는 쪽에서 보조 엔진 호출
+            Mono<Void> trigger = budgetAvailable
+                    ? Mono.firstWithSignal(Mono.delay(hedgeDelay()).then(), primaryFailed.asMono())
+                    : primaryFailed.asMono();
+            Mono<List<OcrText>> hedgeCall = trigger.then(Mono.defer(() -> {
+                boolean failover = primaryError.get() != null;
+                if (!failover && !spendHedgeCredit()) {
+                    // 예산이 없으면 기본 엔진 실패 시에만 보조 엔진 사용
+                    countFired("budget_exhausted");
+                    return primaryFailed.asMono().then(Mono.defer(() -> fire(call, hedged, "failover")));
+                }
+                return fire(call, hedged, failover ? "failover" : "deadline");
+            }));
+
+            return Mono.firstWithValue(primaryCall, hedgeCall)
+                    .map(pages -> complete(pages, startedAt, hedged.get(),
+                            pages.get(0).getEngine().equals(primary.getName()), primaryError.get() == null))
+                    .onErrorMap(NoSuchElementException.class,
+                            e -> primaryError.get() != null ? primaryError.get() : e);
+        });
+    }
+
+    private Mono<List<OcrText>> fire(Function<OcrProvider, Mono<List<OcrText>>> call, AtomicBoolean hedged, String reason) {
+        hedged.set(true);
+        countFired(reason);
+        log.debug("OCR 헤징 요청 ({}): {} -> {}", reason, primary.getName(), secondary.getName());
+        return call.apply(secondary);
+    }
+
+    /**
+     * @param primaryPending 기본 엔진이 실패하지 않은 상태 (보조 엔진이 이겼다면 경과 시간이 기본 엔진 응답 시간의 하한)
+     */
+    private List<OcrText> complete(List<OcrText> pages, long startedAt, boolean hedged, boolean primaryWon,
+                                   boolean primaryPending) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (primaryPending) {
+            primaryLatency.record(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+        if (meterRegistry != null) {
+            String winner = primaryWon ? "primary" : "secondary";
+            Counter.builder("ocr.hedge.requests")
+                    .description("OCR 요청 수 (승자, 헤징 여부별)")
+                    .tags("winner", winner, "hedged", String.valueOf(hedged))
+                    .register(meterRegistry)
+                    .increment();
+            Timer.builder("ocr.hedge.latency")
+                    .description("헤징 포함 OCR 응답 시간")
+                    .tags("winner", winner)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        List<OcrText> stamped = new ArrayList<>(pages.size());
+        for (OcrText text : pages) {
+            stamped.add(OcrText.builder()
+                    .engine(text.getEngine())
+                    .lines(text.getLines())
+                    .confidence(text.getConfidence())
+                    .latencyMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .hedged(hedged)
+                    .build());
+        }
+        return stamped;
+    }
+
+    private void countFired(String reason) {
+        if (meterRegistry != null) {
+            Counter.builder("ocr.hedge.fired")
+                    .description("보조 엔진 요청 수 (deadline: 기준 시간 초과, failover: 기본 엔진 실패, budget_exhausted: 예산 부족으로 보류)")
+                    .tags("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 헤징 기준 시간 (기본 엔진 최근 응답 시간의 백분위수, min~max 범위)
+     */
+    Duration hedgeDelay() {
+        long percentileMillis = primaryLatency.percentile(MIN_SAMPLES);
+        if (percentileMillis < 0) {
+            return initialDelay;
+        }
+        long millis = Math.max(minDelay.toMillis(), Math.min(maxDelay.toMillis(), percentileMillis));
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * 요청마다 maxHedgeRatio만큼 예산 적립, 헤징 가능 여부 반환
+     */
+    private synchronized boolean earnHedgeCredit() {
+        hedgeCredits = Math.min(MAX_HEDGE_CREDITS, hedgeCredits + maxHedgeRatio);
+        return hedgeCredits >= 1;
+    }
+
+    private synchronized boolean spendHedgeCredit() {
+        if (hedgeCredits < 1) {
+            return false;
+        }
+        hedgeCredits -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 창 (헤징 기준 백분위 계산)
+ *
+ * 최근 capacity건의 응답 시간을 링 버퍼에 보관하고, 백분위수는 RECOMPUTE_INTERVAL건마다 다시 계산해 둡니다.
+ */
+class LatencyWindow {
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private long cachedPercentile = -1;
+
+    LatencyWindow(int capacity, double percentile) {
+        this.samples = new long[Math.max(1, capacity)];
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+            recompute();
+        }
+    }
+
+    /**
+     * @return 백분위 응답 시간(ms), 표본이 minSamples보다 적으면 -1
+     */
+    synchronized long percentile(int minSamples) {
+        if (count < minSamples) {
+            return -1;
+        }
+        if (cachedPercentile < 0) {
+            recompute();
+        }
+        return cachedPercentile;
+    }
+
+    private void recompute() {
+        sinceRecompute = 0;
+        if (count == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        cachedPercentile = sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
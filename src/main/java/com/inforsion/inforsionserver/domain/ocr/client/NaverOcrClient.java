@@ -0,0 +1,248 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import com.inforsion.inforsionserver.global.concurrent.CircuitBreaker;
+import com.inforsion.inforsionserver.global.concurrent.TokenBucket;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import com.inforsion.inforsionserver.global.error.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Naver Clova OCR 클라이언트 (논블로킹)
+ *
+ * 호출 순서: 토큰 버킷(제공자 호출 한도) → 서킷 브레이커 → WebClient(커넥션 풀) → 일시 오류면 지터를 섞은 지수 백오프로 재시도
+ * - 토큰 버킷: 토큰이 없으면 maxRateLimitWait 안에서 스레드를 막지 않고 지연 후 전송, 넘으면 429
+ * - 서킷 브레이커: 5xx/429/타임아웃/연결 오류만 실패로 집계, OPEN이면 바로 OCR_PROVIDER_UNAVAILABLE(503)
+ * - 재시도: 일시 오류만 maxRetries회, 재시도도 토큰 버킷과 서킷 브레이커를 다시 거칩니다.
+ * 커넥션 풀/타임아웃은 OcrClientConfig의 ocrWebClient에서 설정합니다.
+ */
+@Slf4j
+public class NaverOcrClient implements OcrProvider {
+
+    public static final String ENGINE_NAME = "naver-clova";
+
+    private final String name;
+    private final WebClient webClient;
+    private final String apiUrl;
+    private final String secretKey;
+    private final TokenBucket rateLimiter;
+    private final long maxRateLimitWaitNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+
+    @Builder
+    private NaverOcrClient(String name, WebClient webClient, String apiUrl, String secretKey,
+                           TokenBucket rateLimiter, Duration maxRateLimitWait, CircuitBreaker circuitBreaker,
+                           int maxRetries, Duration minBackoff, Duration maxBackoff, double jitter,
+                           MeterRegistry meterRegistry) {
+        this.name = name != null ? name : ENGINE_NAME;
+        this.webClient = webClient;
+        this.apiUrl = apiUrl;
+        this.secretKey = secretKey;
+        this.rateLimiter = rateLimiter;
+        this.maxRateLimitWaitNanos = maxRateLimitWait.toNanos();
+        this.circuitBreaker = circuitBreaker;
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.meterRegistry = meterRegistry;
+
+        if (meterRegistry != null) {
+            retryCounter = Counter.builder("ocr.provider.retries")
+                    .description("OCR API 재시도 횟수")
+                    .tags("provider", this.name)
+                    .register(meterRegistry);
+            Gauge.builder("ocr.provider.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .tags("provider", this.name)
+                    .register(meterRegistry);
+        } else {
+            retryCounter = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Mono<OcrText> recognize(OcrImage image) {
+        return recognizePages(image).map(pages -> pages.get(0));
+    }
+
+    /**
+     * 여러 페이지 문서 인식 (응답의 images 항목 하나가 한 페이지)
+     */
+    @Override
+    public Mono<List<OcrText>> recognizePages(OcrImage image) {
+        return Mono.defer(() -> attempt(image))
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(jitter)
+                        .filter(NaverOcrClient::isTransient)
+                        .doBeforeRetry(signal -> {
+                            log.warn("[{}] OCR API 재시도 {}회차: {}", name, signal.totalRetries() + 1, signal.failure().getMessage());
+                            if (retryCounter != null) {
+                                retryCounter.increment();
+                            }
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorMap(e -> !(e instanceof BusinessException),
+                        e -> new BusinessException(ErrorCode.OCR_PROVIDER_ERROR,
+                                "OCR API 호출에 실패했습니다: " + e.getMessage(), e));
+    }
+
+    private Mono<List<OcrText>> attempt(OcrImage image) {
+        if (apiUrl == null || apiUrl.isBlank()) {
+            return Mono.error(new BusinessException(ErrorCode.OCR_PROVIDER_UNAVAILABLE, "OCR API 주소가 설정되지 않았습니다."));
+        }
+
+        long waitNanos = rateLimiter.reserve(maxRateLimitWaitNanos);
+        if (waitNanos < 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(rateLimiter.nanosUntilAvailable()) + 1);
+            record("rate_limited", 0);
+            return Mono.error(new TooManyRequestsException("OCR API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", retryAfter));
+        }
+        if (waitNanos == 0) {
+            return call(image);
+        }
+        return Mono.delay(Duration.ofNanos(waitNanos)).then(Mono.defer(() -> call(image)));
+    }
+
+    private Mono<List<OcrText>> call(OcrImage image) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            record("circuit_open", 0);
+            return Mono.error(new BusinessException(ErrorCode.OCR_PROVIDER_UNAVAILABLE));
+        }
+
+        long startedAt = System.nanoTime();
+        return webClient.post()
+                .uri(apiUrl)
+                .header("X-OCR-SECRET", secretKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(NaverOcrRequest.of(image))
+                .retrieve()
+                .bodyToMono(NaverOcrResponse.class)
+                .map(response -> toPages(response, System.nanoTime() - startedAt))
+                .doOnSuccess(pages -> {
+                    circuitBreaker.onSuccess();
+                    record("success", System.nanoTime() - startedAt);
+                })
+                .doOnError(e -> {
+                    // 4xx, 인식 실패는 제공자 장애가 아니므로 성공으로 집계
+                    if (isTransient(e)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                    record("error", System.nanoTime() - startedAt);
+                })
+                .doOnCancel(circuitBreaker::release);
+    }
+
+    /**
+     * 응답을 페이지별 결과로 변환 (인식에 실패한 페이지는 건너뛰고, 모두 실패하면 오류)
+     */
+    private List<OcrText> toPages(NaverOcrResponse response, long elapsedNanos) {
+        if (response.getImages() == null || response.getImages().isEmpty()) {
+            throw new BusinessException(ErrorCode.OCR_PROVIDER_ERROR, "OCR 응답에 이미지 결과가 없습니다.");
+        }
+
+        List<OcrText> pages = new ArrayList<>(response.getImages().size());
+        String failureMessage = null;
+        for (NaverOcrResponse.Image result : response.getImages()) {
+            if ("SUCCESS".equals(result.getInferResult())) {
+                pages.add(toOcrText(result, elapsedNanos));
+            } else {
+                failureMessage = result.getMessage();
+                log.warn("[{}] OCR 페이지 인식 실패: {}", name, failureMessage);
+            }
+        }
+        if (pages.isEmpty()) {
+            throw new BusinessException(ErrorCode.OCR_PROVIDER_ERROR, "OCR 인식 실패: " + failureMessage);
+        }
+        return pages;
+    }
+
+    private OcrText toOcrText(NaverOcrResponse.Image result, long elapsedNanos) {
+        // 필드를 공백으로 잇고 lineBreak에서 줄을 나눔
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        double confidenceSum = 0;
+        int fieldCount = 0;
+        if (result.getFields() != null) {
+            for (NaverOcrResponse.Field field : result.getFields()) {
+                if (field.getInferText() != null) {
+                    if (line.length() > 0) {
+                        line.append(' ');
+                    }
+                    line.append(field.getInferText());
+                }
+                if (field.getInferConfidence() != null) {
+                    confidenceSum += field.getInferConfidence();
+                    fieldCount++;
+                }
+                if (field.isLineBreak() && line.length() > 0) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+            }
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+
+        return OcrText.builder()
+                .engine(name)
+                .lines(lines)
+                .confidence(fieldCount > 0 ? confidenceSum / fieldCount : null)
+                .latencyMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder("ocr.provider.requests")
+                .description("OCR API 호출 시간")
+                .tags("provider", name, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 재시도할 일시 오류 (5xx, 429, 타임아웃, 연결 오류)
+     */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
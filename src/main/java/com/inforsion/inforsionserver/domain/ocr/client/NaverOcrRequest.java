@@ -0,0 +1,51 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Naver Clova OCR (General) 요청 본문
+ */
+@Getter
+@Builder
+public class NaverOcrRequest {
+
+    private final String version;
+
+    private final String requestId;
+
+    private final long timestamp;
+
+    private final String lang;
+
+    private final List<Image> images;
+
+    public static NaverOcrRequest of(OcrImage image) {
+        return NaverOcrRequest.builder()
+                .version("V2")
+                .requestId(UUID.randomUUID().toString())
+                .timestamp(System.currentTimeMillis())
+                .lang("ko")
+                .images(List.of(Image.builder()
+                        .format(image.getFormat())
+                        .name(image.getName())
+                        .data(Base64.getEncoder().encodeToString(image.getData()))
+                        .build()))
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Image {
+
+        private final String format;
+
+        private final String name;
+
+        private final String data; // Base64 인코딩된 이미지
+    }
+}
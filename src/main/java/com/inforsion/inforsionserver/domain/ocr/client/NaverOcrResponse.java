@@ -0,0 +1,48 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Naver Clova OCR (General) 응답 본문
+ */
+@Data
+@NoArgsConstructor
+public class NaverOcrResponse {
+
+    private String version;
+
+    private String requestId;
+
+    private Long timestamp;
+
+    private List<Image> images;
+
+    @Data
+    @NoArgsConstructor
+    public static class Image {
+
+        private String uid;
+
+        private String name;
+
+        private String inferResult; // SUCCESS, FAILURE, ERROR
+
+        private String message;
+
+        private List<Field> fields;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Field {
+
+        private String inferText;
+
+        private Double inferConfidence;
+
+        private boolean lineBreak; // 이 필드 뒤에서 줄이 바뀜
+    }
+}
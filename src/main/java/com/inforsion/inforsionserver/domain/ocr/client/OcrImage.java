@@ -0,0 +1,29 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * OCR 요청 이미지
+ */
+@Getter
+@Builder
+public class OcrImage {
+
+    private final String name;
+
+    private final String format; // jpg, png, pdf, tiff
+
+    private final byte[] data;
+
+    public static OcrImage of(String fileName, byte[] data) {
+        String name = fileName != null ? fileName : "receipt";
+        int dot = name.lastIndexOf('.');
+        String format = dot >= 0 ? name.substring(dot + 1).toLowerCase() : "jpg";
+        return OcrImage.builder()
+                .name(dot > 0 ? name.substring(0, dot) : name)
+                .format("jpeg".equals(format) ? "jpg" : format)
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * OCR 엔진
+ */
+public interface OcrProvider {
+
+    /**
+     * 엔진 이름 (OcrJobResult.ocrEngine)
+     */
+    String getName();
+
+    /**
+     * 이미지 인식 (논블로킹)
+     */
+    Mono<OcrText> recognize(OcrImage image);
+
+    /**
+     * 여러 페이지 문서(PDF) 인식, 페이지 순서대로 결과 반환 (논블로킹)
+     */
+    default Mono<List<OcrText>> recognizePages(OcrImage image) {
+        return recognize(image).map(List::of);
+    }
+}
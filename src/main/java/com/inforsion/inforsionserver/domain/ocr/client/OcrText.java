@@ -0,0 +1,28 @@
+package com.inforsion.inforsionserver.domain.ocr.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * OCR 인식 결과 (줄 단위 텍스트)
+ */
+@Getter
+@Builder
+public class OcrText {
+
+    private final String engine;
+
+    private final List<String> lines;
+
+    private final Double confidence; // 필드 인식 신뢰도 평균 (0~1)
+
+    private final long latencyMs;
+
+    private final boolean hedged; // 보조 엔진에도 요청을 보냈는지
+
+    public String getText() {
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,46 @@
+package com.inforsion.inforsionserver.domain.ocr.controller;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrBatchItemResult;
+import com.inforsion.inforsionserver.domain.ocr.service.OcrBatchService;
+import com.inforsion.inforsionserver.global.enums.DocumentType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@Tag(name = "OCR Batch", description = "영수증 일괄 OCR API")
+@RestController
+@RequestMapping("/api/v1/ocr/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class OcrBatchController {
+
+    private final OcrBatchService ocrBatchService;
+
+    @Operation(summary = "영수증 일괄 처리",
+            description = "영수증 이미지 여러 장 또는 여러 페이지 PDF 1개를 올리면 OCR, 파싱, 제품 매칭, 원본 저장까지 처리하고 " +
+                    "영수증 한 장이 끝날 때마다 결과를 NDJSON 한 줄로 내보냅니다. 결과 순서는 업로드 순서와 다를 수 있습니다 (fileIndex 참고).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 시작 (영수증별 결과 스트리밍)"),
+            @ApiResponse(responseCode = "400", description = "파일이 없거나 개수 초과, PDF를 다른 파일과 함께 업로드")
+    })
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OcrBatchItemResult> processBatch(
+            @Parameter(description = "가게 ID", required = true, example = "1")
+            @RequestParam Integer storeId,
+            @Parameter(description = "문서 유형 (SALES_RECEIPT, SUPPLY_INVOICE)")
+            @RequestParam(defaultValue = "SUPPLY_INVOICE") DocumentType documentType,
+            @Parameter(description = "영수증 이미지 파일들 또는 PDF 1개", required = true)
+            @RequestParam("files") List<MultipartFile> files) {
+        return ocrBatchService.processBatch(storeId, documentType, files);
+    }
+}
@@ -0,0 +1,75 @@
+package com.inforsion.inforsionserver.domain.ocr.controller;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
+import com.inforsion.inforsionserver.domain.ocr.service.OcrJobService;
+import com.inforsion.inforsionserver.global.enums.DocumentType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "OCR Jobs", description = "비동기 OCR 작업 API")
+@RestController
+@RequestMapping("/api/v1/ocr/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class OcrJobController {
+
+    private final OcrJobService ocrJobService;
+
+    @Operation(summary = "OCR 작업 등록", description = "OCR 데이터를 처리할 작업을 등록하고 작업 ID를 즉시 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록 성공"),
+            @ApiResponse(responseCode = "429", description = "OCR 작업 대기열 포화 (Retry-After 헤더 참고)")
+    })
+    @PostMapping
+    public ResponseEntity<OcrJobResult> submitJob(@RequestBody OcrProcessingRequestDto requestDto) {
+        OcrJobResult job = ocrJobService.submitJob(requestDto);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @Operation(summary = "이미지 OCR 작업 등록", description = "영수증 이미지를 업로드하고 OCR 인식부터 제품 매칭까지 처리할 작업을 등록합니다. "
+            + "같은 매장에서 이미 처리한 이미지 파일이면 기존 결과를 바로 반환합니다. (duplicate=true) "
+            + "비슷해 보이기만 하는 이미지는 새로 처리하고 가까운 기존 이미지 주소를 함께 반환합니다. (possibleDuplicateImageUrl)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이미 처리한 이미지 (기존 결과 반환)"),
+            @ApiResponse(responseCode = "202", description = "작업 등록 성공 (처리 중인 같은 이미지의 작업 포함)"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식 또는 크기 초과"),
+            @ApiResponse(responseCode = "429", description = "OCR 작업 대기열 포화 (Retry-After 헤더 참고)")
+    })
+    @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<OcrJobResult> submitImageJob(
+            @Parameter(description = "가게 ID", required = true, example = "1")
+            @RequestParam Integer storeId,
+            @Parameter(description = "문서 유형 (SALES_RECEIPT, SUPPLY_INVOICE)")
+            @RequestParam(defaultValue = "SALES_RECEIPT") DocumentType documentType,
+            @Parameter(description = "영수증 이미지 파일", required = true)
+            @RequestParam("file") MultipartFile file) {
+        OcrJobResult job = ocrJobService.submitImageJob(storeId, documentType, file);
+        if (job.getStatus() == OcrJobStatus.COMPLETED) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @Operation(summary = "OCR 작업 상태 조회", description = "작업 상태, 진행률, 완료 시 매칭 결과를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<OcrJobResult> getJob(
+            @Parameter(description = "OCR 작업 ID", required = true)
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(ocrJobService.getJob(jobId));
+    }
+}
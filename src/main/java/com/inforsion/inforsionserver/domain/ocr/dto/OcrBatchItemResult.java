@@ -0,0 +1,42 @@
+package com.inforsion.inforsionserver.domain.ocr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 OCR 처리 결과 (영수증 한 장, NDJSON 한 줄)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OcrBatchItemResult {
+
+    private String batchId;
+
+    private Integer fileIndex; // 업로드한 파일 순번 (0부터)
+
+    private Integer page; // PDF 페이지 번호 (1부터, 이미지는 null)
+
+    private String originalFileName;
+
+    private OcrJobStatus status; // COMPLETED, FAILED
+
+    private String imageUrl;
+
+    private String ocrEngine;
+
+    private Double confidence;
+
+    private Long processingTimeMs; // 업로드부터 원본 저장까지
+
+    private ProductMatchingResultDto matchingResult;
+
+    private Boolean duplicate; // 이미 처리한 이미지라 OCR 없이 기존 결과를 돌려준 경우 true
+
+    private String possibleDuplicateImageUrl; // 새로 처리했지만 pHash가 가까운 기존 이미지 (중복일 수 있음)
+
+    private String errorMessage;
+}
@@ -1,5 +1,6 @@
 package com.inforsion.inforsionserver.domain.ocr.dto;
 
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrJobEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -42,6 +43,34 @@ public class OcrJobResult {
     
     private Integer progress; // 0-100
     
+    private OcrJobStage stage;
+    
+    private Integer rawDataId;
+    
+    private ProductMatchingResultDto matchingResult;
+    
+    private Boolean duplicate; // 이미 처리한 이미지라 기존 결과를 돌려준 경우 true
+    
+    private String possibleDuplicateImageUrl; // 새로 처리했지만 pHash가 가까운 기존 이미지 (중복일 수 있음)
+    
+    public static OcrJobResult from(OcrJobEntity job) {
+        return OcrJobResult.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .stage(job.getStage())
+                .progress(job.getProgress())
+                .rawDataId(job.getRawDataId())
+                .ocrEngine(job.getOcrEngine())
+                .confidence(job.getOcrConfidence())
+                .processingTimeMs(job.getProcessingTimeMs())
+                .matchingResult(job.getResult())
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .possibleDuplicateImageUrl(job.getPossibleDuplicateImageUrl())
+                .build();
+    }
+    
     public static OcrJobResult pending(String jobId, String originalFileName) {
         return OcrJobResult.builder()
                 .jobId(jobId)
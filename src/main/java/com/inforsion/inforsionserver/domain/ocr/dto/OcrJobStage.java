@@ -0,0 +1,19 @@
+package com.inforsion.inforsionserver.domain.ocr.dto;
+
+public enum OcrJobStage {
+    RECOGNIZE("이미지 인식"),
+    STORE_RAW("원본 저장"),
+    PARSE("품목 파싱"),
+    MATCH("제품 매칭"),
+    DONE("완료");
+    
+    private final String description;
+    
+    OcrJobStage(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -18,6 +18,7 @@ public class OcrProcessingRequestDto {
     private Integer storeId;
     private DocumentType documentType;
     private String rawOcrText;
+    private String imageUrl; // 이미지로 등록된 작업의 S3 URL (rawOcrText가 없으면 OCR 수행)
     private List<OcrItemDto> parsedItems;
     private String supplierName;
     private LocalDateTime documentDate;
@@ -31,5 +32,14 @@ public class OcrProcessingRequestDto {
         private Integer quantity;
         private Integer price;
         private Integer totalAmount;
+        
+        public static OcrItemDto from(ReceiptItem item) {
+            return OcrItemDto.builder()
+                    .itemName(item.getProductName())
+                    .quantity(item.getQuantity())
+                    .price(item.getUnitPrice())
+                    .totalAmount(item.getTotalPrice())
+                    .build();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.inforsion.inforsionserver.domain.ocr.fingerprint;
+
+import lombok.Getter;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 영수증 이미지 지문
+ *
+ * - contentHash: 파일 내용 SHA-256 (같은 파일을 다시 올린 경우)
+ * - perceptualHash: 64비트 pHash (다시 인코딩/축소한 같은 사진, 이미지가 아니면 null)
+ * pHash는 8비트씩 8개 밴드로 나눠 색인합니다. 해밍 거리가 7 이하인 두 해시는 비둘기집 원리로 적어도 한 밴드가 같으므로,
+ * 밴드가 하나라도 같은 지문만 후보로 가져와 거리를 계산하면 됩니다.
+ */
+@Getter
+public class ImageFingerprint {
+
+    public static final int BAND_COUNT = 8;
+    // 밴드 색인으로 빠짐없이 찾을 수 있는 최대 해밍 거리
+    public static final int MAX_INDEXED_DISTANCE = BAND_COUNT - 1;
+
+    private final String contentHash;
+
+    private final Long perceptualHash;
+
+    private ImageFingerprint(String contentHash, Long perceptualHash) {
+        this.contentHash = contentHash;
+        this.perceptualHash = perceptualHash;
+    }
+
+    public static ImageFingerprint of(byte[] data) {
+        return of(contentHash(data), data);
+    }
+
+    /**
+     * 내용 해시를 먼저 구해 정확히 같은 파일을 찾아본 뒤, 없을 때만 지각 해시를 계산할 때 사용
+     */
+    public static ImageFingerprint of(String contentHash, byte[] data) {
+        return new ImageFingerprint(contentHash, PerceptualHash.compute(data));
+    }
+
+    public static String contentHash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * pHash 밴드 키 (밴드 위치 * 256 + 밴드 값), pHash가 없으면 빈 목록
+     */
+    public List<Integer> getBands() {
+        List<Integer> bands = new ArrayList<>(BAND_COUNT);
+        if (perceptualHash == null) {
+            return bands;
+        }
+        for (int i = 0; i < BAND_COUNT; i++) {
+            bands.add(i * 256 + (int) ((perceptualHash >>> (i * 8)) & 0xff));
+        }
+        return bands;
+    }
+
+    /**
+     * pHash 해밍 거리 (어느 한쪽이라도 pHash가 없으면 Integer.MAX_VALUE)
+     */
+    public int distance(Long otherPerceptualHash) {
+        if (perceptualHash == null || otherPerceptualHash == null) {
+            return Integer.MAX_VALUE;
+        }
+        return Long.bitCount(perceptualHash ^ otherPerceptualHash);
+    }
+}
@@ -0,0 +1,136 @@
+package com.inforsion.inforsionserver.domain.ocr.fingerprint;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 이미지 지각 해시 (pHash, 64비트)
+ *
+ * 32x32 회색조로 줄인 뒤 2차원 DCT의 저주파 8x8 계수(직류 성분 제외)를 중앙값과 비교해 비트를 만듭니다.
+ * 다시 인코딩하거나 크기를 바꾼 사진은 해밍 거리가 작게 나옵니다.
+ * 원본 해상도로 디코딩하지 않도록 리더의 서브샘플링으로 짧은 변이 약 128px이 되게 읽습니다.
+ */
+@Slf4j
+final class PerceptualHash {
+
+    private static final int SIZE = 32;
+    private static final int LOW = 8;
+    // 디코딩 목표 크기 (짧은 변)
+    private static final int DECODE_SIZE = SIZE * 4;
+    private static final double[][] COS = new double[LOW][SIZE];
+
+    static {
+        for (int u = 0; u < LOW; u++) {
+            for (int x = 0; x < SIZE; x++) {
+                COS[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2 * SIZE));
+            }
+        }
+    }
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * @return 64비트 해시, 이미지로 읽을 수 없으면(PDF, 지원하지 않는 형식) null
+     */
+    static Long compute(byte[] data) {
+        BufferedImage image = decode(data);
+        if (image == null) {
+            return null;
+        }
+
+        double[][] pixels = toGrayscale(image);
+        double[] coefficients = new double[LOW * LOW];
+        for (int u = 0; u < LOW; u++) {
+            for (int v = 0; v < LOW; v++) {
+                double sum = 0;
+                for (int x = 0; x < SIZE; x++) {
+                    double cu = COS[u][x];
+                    double[] row = pixels[x];
+                    for (int y = 0; y < SIZE; y++) {
+                        sum += row[y] * cu * COS[v][y];
+                    }
+                }
+                coefficients[u * LOW + v] = sum;
+            }
+        }
+
+        // 직류 성분(0,0)을 뺀 63개 계수의 중앙값
+        double[] sorted = new double[LOW * LOW - 1];
+        System.arraycopy(coefficients, 1, sorted, 0, sorted.length);
+        Arrays.sort(sorted);
+        double median = sorted[sorted.length / 2];
+
+        long hash = 0;
+        for (int i = 1; i < coefficients.length; i++) {
+            if (coefficients[i] > median) {
+                hash |= 1L << i;
+            }
+        }
+        return hash;
+    }
+
+    private static BufferedImage decode(byte[] data) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shortSide / DECODE_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("지각 해시 계산용 이미지 디코딩 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * SIZE x SIZE 회색조로 축소 (영역 평균)
+     */
+    private static double[][] toGrayscale(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] rgb = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[][] sums = new double[SIZE][SIZE];
+        int[][] counts = new int[SIZE][SIZE];
+        for (int y = 0; y < height; y++) {
+            int cellY = y * SIZE / height;
+            int rowOffset = y * width;
+            for (int x = 0; x < width; x++) {
+                int pixel = rgb[rowOffset + x];
+                double luma = 0.299 * ((pixel >> 16) & 0xff) + 0.587 * ((pixel >> 8) & 0xff) + 0.114 * (pixel & 0xff);
+                int cellX = x * SIZE / width;
+                sums[cellX][cellY] += luma;
+                counts[cellX][cellY]++;
+            }
+        }
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                sums[x][y] = counts[x][y] > 0 ? sums[x][y] / counts[x][y] : 0;
+            }
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,96 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import java.util.Arrays;
+
+/**
+ * 한글 인식 n-gram 생성기
+ *
+ * 한글 음절을 초성/중성/종성 자모로 분해한 뒤 자모 3-gram을 만듭니다.
+ * OCR이 받침 하나를 잘못 읽어도 ("라떼" → "랏떼") 대부분의 gram이 유지되므로
+ * 음절 단위 n-gram보다 후보 검색 재현율이 높습니다.
+ * 공백은 무시하여 "아이스 아메리카노"와 "아이스아메리카노"가 같은 gram을 갖습니다.
+ */
+final class HangulNgrams {
+
+    static final int GRAM_SIZE = 3;
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char CHOSEONG_BASE = 0x1100;
+    private static final char JUNGSEONG_BASE = 0x1161;
+    private static final char JONGSEONG_BASE = 0x11A7;
+
+    private static final long[] EMPTY = new long[0];
+
+    private HangulNgrams() {
+    }
+
+    /**
+     * 문자열을 자모 단위로 분해 (소문자화, 공백 제거 포함)
+     */
+    static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int index = c - HANGUL_BASE;
+                int jong = index % JONGSEONG_COUNT;
+                jamo.append((char) (CHOSEONG_BASE + index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                jamo.append((char) (JUNGSEONG_BASE + (index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT));
+                if (jong != 0) {
+                    jamo.append((char) (JONGSEONG_BASE + jong));
+                }
+            } else {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 중복 제거된 gram 키 목록 (정렬됨)
+     *
+     * gram 하나는 UTF-16 문자 3개를 long 하나에 압축한 값입니다.
+     * 자모가 3개 미만인 짧은 문자열은 문자열 전체를 하나의 gram으로 사용합니다.
+     */
+    static long[] grams(String text) {
+        String jamo = decompose(text);
+        if (jamo.isEmpty()) {
+            return EMPTY;
+        }
+        if (jamo.length() < GRAM_SIZE) {
+            return new long[]{pack(jamo, 0, jamo.length())};
+        }
+
+        long[] grams = new long[jamo.length() - GRAM_SIZE + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = pack(jamo, i, GRAM_SIZE);
+        }
+        Arrays.sort(grams);
+
+        int distinct = 1;
+        for (int i = 1; i < grams.length; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    private static long pack(String jamo, int offset, int length) {
+        long key = length; // 길이를 포함시켜 짧은 gram과 충돌하지 않도록 함
+        for (int i = 0; i < length; i++) {
+            key = (key << 16) | jamo.charAt(offset + i);
+        }
+        return key;
+    }
+}
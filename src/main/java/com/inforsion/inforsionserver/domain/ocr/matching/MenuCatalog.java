@@ -0,0 +1,133 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import com.inforsion.inforsionserver.domain.product.entity.ProductEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 단위 메뉴 카탈로그 (불변 스냅샷)
+ *
+ * 메뉴명 자모 n-gram 역색인을 가지고 있어 OCR 품목명과 gram을 공유하는 메뉴만
+ * 빠르게 후보로 추려냅니다. 유사도 계산은 이 후보들에 대해서만 수행합니다.
+ * 영수증 라인 매칭용으로 메뉴명/메뉴 단어 Aho–Corasick 사전도 함께 가집니다.
+ */
+public class MenuCatalog {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final MenuEntry[] entries;
+
+    private final Map<Long, int[]> postings;
+
+    private final MenuDictionary dictionary;
+
+    private MenuCatalog(MenuEntry[] entries, Map<Long, int[]> postings) {
+        this.entries = entries;
+        this.postings = postings;
+        this.dictionary = MenuDictionary.build(entries);
+    }
+
+    /**
+     * 매장 상품 목록으로 카탈로그 생성
+     */
+    public static MenuCatalog build(List<ProductEntity> products) {
+        MenuEntry[] entries = new MenuEntry[products.size()];
+        Map<Long, List<Integer>> builder = new HashMap<>();
+
+        for (int i = 0; i < entries.length; i++) {
+            ProductEntity product = products.get(i);
+            long[] grams = HangulNgrams.grams(product.getName());
+            entries[i] = new MenuEntry(product, grams.length);
+            for (long gram : grams) {
+                builder.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(builder.size() * 2);
+        builder.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new MenuCatalog(entries, postings);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public MenuEntry get(int index) {
+        return entries[index];
+    }
+
+    /**
+     * 영수증 라인에 해당하는 메뉴 찾기
+     *
+     * @param normalizedLine ReceiptTextNormalizer로 정규화된 라인
+     * @return 매칭 결과, 없으면 null
+     */
+    public MenuMatch matchReceiptLine(String normalizedLine) {
+        return dictionary.match(normalizedLine);
+    }
+
+    /**
+     * 유사도 계산 대상 후보 추리기
+     *
+     * 공유 gram 수로 Dice 계수를 계산하여 상위 limit개 메뉴의 인덱스를 반환합니다.
+     * 메뉴 수가 limit 이하인 매장은 색인을 거치지 않고 전체를 반환합니다.
+     *
+     * @param itemName OCR 품목명
+     * @param limit 최대 후보 수
+     * @return 후보 메뉴 인덱스 (Dice 계수 내림차순)
+     */
+    public int[] shortlist(String itemName, int limit) {
+        if (entries.length <= limit) {
+            int[] all = new int[entries.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        long[] queryGrams = HangulNgrams.grams(itemName);
+        if (queryGrams.length == 0) {
+            return EMPTY;
+        }
+
+        int[] shared = new int[entries.length];
+        for (long gram : queryGrams) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            for (int index : posting) {
+                shared[index]++;
+            }
+        }
+
+        // 상위 limit개 선택 (삽입 정렬, limit이 작으므로 충분히 빠름)
+        int[] top = new int[limit];
+        double[] topScore = new double[limit];
+        int count = 0;
+        for (int i = 0; i < shared.length; i++) {
+            if (shared[i] == 0) {
+                continue;
+            }
+            double score = 2.0 * shared[i] / (queryGrams.length + entries[i].getGramCount());
+            if (count == limit && score <= topScore[count - 1]) {
+                continue;
+            }
+            int pos = count < limit ? count++ : count - 1;
+            while (pos > 0 && topScore[pos - 1] < score) {
+                top[pos] = top[pos - 1];
+                topScore[pos] = topScore[pos - 1];
+                pos--;
+            }
+            top[pos] = i;
+            topScore[pos] = score;
+        }
+
+        return count == limit ? top : Arrays.copyOf(top, count);
+    }
+}
@@ -0,0 +1,111 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import com.inforsion.inforsionserver.domain.product.event.ProductChangedEvent;
+import com.inforsion.inforsionserver.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매장별 메뉴 카탈로그 캐시
+ *
+ * 최초 요청 시 매장 상품을 한 번 읽어 카탈로그를 만들고,
+ * 상품이 변경되면(ProductChangedEvent) 해당 매장의 카탈로그만 무효화합니다.
+ * 보관하는 매장 수는 ocr.menu-catalog.max-stores로 제한되며, 초과 시 가장 오래 사용되지 않은 매장부터 제거합니다.
+ * 세대는 카탈로그와 함께 보관하므로(무효화 표시 포함) 메모리는 보관 중인 매장 수에 비례합니다.
+ */
+@Slf4j
+@Component
+public class MenuCatalogCache {
+
+    private final ProductRepository productRepository;
+
+    private final Map<Integer, Entry> catalogs;
+
+    // 무효화할 때마다 오르는 전체 시각 - 로딩 중에 무효화된 카탈로그가 캐시에 남지 않도록 하고, 세대 값으로 씀
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MenuCatalogCache(ProductRepository productRepository,
+                            @Value("${ocr.menu-catalog.max-stores:500}") int maxStores) {
+        this.productRepository = productRepository;
+        this.catalogs = Collections.synchronizedMap(new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > maxStores;
+            }
+        });
+    }
+
+    /**
+     * 매장 카탈로그 조회 (없으면 생성)
+     */
+    public MenuCatalog getCatalog(Integer storeId) {
+        return load(storeId).catalog;
+    }
+
+    /**
+     * 매장 상품 목록의 세대 (상품이 바뀔 때마다 달라지고 이전 값으로 돌아가지 않음, 카탈로그에서 파생된 결과의 캐시 키용)
+     * 카탈로그가 없으면 만들어서 세대를 정합니다.
+     */
+    public long generation(Integer storeId) {
+        return load(storeId).generation;
+    }
+
+    /**
+     * 매장 카탈로그 무효화 (보관 중이면 무효화 표시로 바꿈, 없으면 전체 시각만 올림)
+     */
+    public void evict(Integer storeId) {
+        long invalidatedAt = invalidations.incrementAndGet();
+        catalogs.computeIfPresent(storeId, (key, current) -> new Entry(null, invalidatedAt));
+        log.debug("메뉴 카탈로그 무효화: storeId={}", storeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getStoreId());
+    }
+
+    private Entry load(Integer storeId) {
+        Entry cached = catalogs.get(storeId);
+        if (cached != null && cached.catalog != null) {
+            return cached;
+        }
+
+        // 읽기 전 시각이 세대 (무효화 이후에 읽기 시작한 카탈로그는 무효화 시각 이상)
+        long startedAt = invalidations.get();
+        MenuCatalog loaded = MenuCatalog.build(productRepository.findByStoreId(storeId));
+        log.debug("메뉴 카탈로그 생성: storeId={}, 메뉴 수={}", storeId, loaded.size());
+        Entry entry = new Entry(loaded, startedAt);
+
+        Entry result = catalogs.compute(storeId, (key, current) -> {
+            if (current != null && current.catalog != null) {
+                return current;
+            }
+            // 읽는 동안 이 매장이 무효화됐으면 담지 않음 (무효화 표시가 밀려났으면 어느 매장이든 무효화가 없었을 때만 담음)
+            boolean invalidated = current != null ? current.generation > startedAt : invalidations.get() != startedAt;
+            return invalidated ? current : entry;
+        });
+        return result != null && result.catalog != null ? result : entry;
+    }
+
+    /**
+     * 보관 항목 (catalog가 있으면 generation은 읽기 시작 시각, null이면 무효화 표시이고 generation은 무효화 시각)
+     */
+    private static final class Entry {
+
+        private final MenuCatalog catalog;
+        private final long generation;
+
+        private Entry(MenuCatalog catalog, long generation) {
+            this.catalog = catalog;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 영수증 라인 메뉴 매칭용 Aho–Corasick 사전
+ *
+ * 정규화된 메뉴명과 메뉴 단어를 하나의 오토마톤에 넣어, 영수증 라인을 한 번 훑는 것으로
+ * 라인에 포함된 모든 메뉴명/메뉴 단어를 찾습니다.
+ * 반대 방향(라인 단어가 메뉴 단어의 일부인 경우)은 메뉴 단어의 부분 문자열 색인으로 조회합니다.
+ */
+final class MenuDictionary {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int[] EMPTY = new int[0];
+
+    private final MenuEntry[] entries;
+
+    // 트라이 전이 (노드별 정렬된 문자/대상 노드)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+
+    // 실패 링크와 출력 링크 (실패 경로상 다음 출력 노드, 없으면 ROOT)
+    private final int[] fail;
+    private final int[] outLink;
+
+    // 노드에서 끝나는 메뉴명/메뉴 단어 id
+    private final int[] nodeName;
+    private final int[] nodeWord;
+
+    // 메뉴명 id -> 메뉴 인덱스, 메뉴 단어 id -> 메뉴 인덱스 (메뉴 안 중복 단어는 중복 포함)
+    private final int[][] nameEntries;
+    private final int[][] wordEntries;
+
+    // 메뉴 단어의 부분 문자열 -> 메뉴 단어 id
+    private final Map<String, int[]> wordsBySubstring;
+
+    private MenuDictionary(MenuEntry[] entries, char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] outLink,
+                           int[] nodeName, int[] nodeWord, int[][] nameEntries, int[][] wordEntries,
+                           Map<String, int[]> wordsBySubstring) {
+        this.entries = entries;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outLink = outLink;
+        this.nodeName = nodeName;
+        this.nodeWord = nodeWord;
+        this.nameEntries = nameEntries;
+        this.wordEntries = wordEntries;
+        this.wordsBySubstring = wordsBySubstring;
+    }
+
+    static MenuDictionary build(MenuEntry[] entries) {
+        Map<String, Integer> nameIds = new HashMap<>();
+        List<List<Integer>> nameLists = new ArrayList<>();
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        List<List<Integer>> wordLists = new ArrayList<>();
+
+        for (int i = 0; i < entries.length; i++) {
+            String name = entries[i].getReceiptName();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Integer nameId = nameIds.get(name);
+            if (nameId == null) {
+                nameId = nameLists.size();
+                nameIds.put(name, nameId);
+                nameLists.add(new ArrayList<>());
+            }
+            nameLists.get(nameId).add(i);
+
+            for (String word : entries[i].getReceiptTokens()) {
+                Integer wordId = wordIds.get(word);
+                if (wordId == null) {
+                    wordId = words.size();
+                    wordIds.put(word, wordId);
+                    words.add(word);
+                    wordLists.add(new ArrayList<>());
+                }
+                wordLists.get(wordId).add(i);
+            }
+        }
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> names = new ArrayList<>();
+        List<Integer> wordsAtNode = new ArrayList<>();
+        children.add(new TreeMap<>());
+        names.add(NONE);
+        wordsAtNode.add(NONE);
+
+        nameIds.forEach((name, id) -> names.set(insert(children, names, wordsAtNode, name), id));
+        wordIds.forEach((word, id) -> wordsAtNode.set(insert(children, names, wordsAtNode, word), id));
+
+        int nodeCount = children.size();
+        char[][] edgeChars = new char[nodeCount][];
+        int[][] edgeTargets = new int[nodeCount][];
+        int[] nodeName = new int[nodeCount];
+        int[] nodeWord = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][k] = edge.getKey();
+                edgeTargets[node][k] = edge.getValue();
+                k++;
+            }
+            nodeName[node] = names.get(node);
+            nodeWord[node] = wordsAtNode.get(node);
+        }
+
+        // 2. 실패/출력 링크 계산 (BFS)
+        int[] fail = new int[nodeCount];
+        int[] outLink = new int[nodeCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int k = 0; k < edgeChars[node].length; k++) {
+                char c = edgeChars[node][k];
+                int child = edgeTargets[node][k];
+                int f = fail[node];
+                int next = child(edgeChars, edgeTargets, f, c);
+                while (next == NONE && f != ROOT) {
+                    f = fail[f];
+                    next = child(edgeChars, edgeTargets, f, c);
+                }
+                fail[child] = next == NONE ? ROOT : next;
+                int failNode = fail[child];
+                boolean failHasOutput = nodeName[failNode] != NONE || nodeWord[failNode] != NONE;
+                outLink[child] = failHasOutput ? failNode : outLink[failNode];
+                queue.add(child);
+            }
+        }
+
+        // 3. 메뉴 단어 부분 문자열 색인
+        Map<String, List<Integer>> substrings = new HashMap<>();
+        for (int wordId = 0; wordId < words.size(); wordId++) {
+            String word = words.get(wordId);
+            Set<String> seen = new HashSet<>();
+            for (int from = 0; from < word.length(); from++) {
+                for (int to = from + 1; to <= word.length(); to++) {
+                    String part = word.substring(from, to);
+                    if (seen.add(part)) {
+                        substrings.computeIfAbsent(part, key -> new ArrayList<>()).add(wordId);
+                    }
+                }
+            }
+        }
+        Map<String, int[]> wordsBySubstring = new HashMap<>(substrings.size() * 2);
+        substrings.forEach((part, ids) -> wordsBySubstring.put(part, toArray(ids)));
+
+        int[][] nameEntries = new int[nameLists.size()][];
+        for (int id = 0; id < nameEntries.length; id++) {
+            nameEntries[id] = toArray(nameLists.get(id));
+        }
+        int[][] wordEntries = new int[wordLists.size()][];
+        for (int id = 0; id < wordEntries.length; id++) {
+            wordEntries[id] = toArray(wordLists.get(id));
+        }
+
+        return new MenuDictionary(entries, edgeChars, edgeTargets, fail, outLink,
+                nodeName, nodeWord, nameEntries, wordEntries, wordsBySubstring);
+    }
+
+    /**
+     * 정규화된 영수증 라인에 해당하는 메뉴 찾기
+     *
+     * 1. 메뉴명이 라인에 포함되거나 라인이 메뉴명에 포함되면 완전 일치
+     * 2. 아니면 메뉴 단어의 50% 이상이 라인 단어와 (포함 관계로) 일치하면 부분 일치
+     * 여러 메뉴가 조건을 만족하면 카탈로그 순서상 앞선 메뉴를 선택합니다.
+     *
+     * @param line ReceiptTextNormalizer로 정규화된 라인
+     * @return 매칭 결과, 없으면 null
+     */
+    MenuMatch match(String line) {
+        String[] lineWords = ReceiptTextNormalizer.tokens(line);
+        if (lineWords.length == 0) {
+            return null;
+        }
+
+        int bestExact = Integer.MAX_VALUE;
+        BitSet hitWords = new BitSet();
+
+        // 라인을 한 번 훑으며 포함된 메뉴명/메뉴 단어 수집
+        int state = ROOT;
+        for (int i = 0; i < line.length(); i++) {
+            state = step(state, line.charAt(i));
+            int node = hasOutput(state) ? state : outLink[state];
+            while (node != ROOT) {
+                if (nodeName[node] != NONE) {
+                    bestExact = Math.min(bestExact, nameEntries[nodeName[node]][0]);
+                }
+                if (nodeWord[node] != NONE) {
+                    hitWords.set(nodeWord[node]);
+                }
+                node = outLink[node];
+            }
+        }
+
+        // 라인 전체가 메뉴명에 포함되는 경우: 라인 첫 단어를 포함하는 메뉴 단어를 가진 메뉴만 확인
+        for (int wordId : wordsBySubstring.getOrDefault(lineWords[0], EMPTY)) {
+            for (int index : wordEntries[wordId]) {
+                if (index < bestExact && entries[index].getReceiptName().contains(line)) {
+                    bestExact = index;
+                }
+            }
+        }
+
+        if (bestExact != Integer.MAX_VALUE) {
+            return new MenuMatch(entries[bestExact], true, entries[bestExact].getReceiptTokens().length);
+        }
+
+        // 라인 단어가 메뉴 단어의 일부인 경우
+        for (String lineWord : lineWords) {
+            for (int wordId : wordsBySubstring.getOrDefault(lineWord, EMPTY)) {
+                hitWords.set(wordId);
+            }
+        }
+
+        Map<Integer, Integer> matchCounts = new HashMap<>();
+        for (int wordId = hitWords.nextSetBit(0); wordId >= 0; wordId = hitWords.nextSetBit(wordId + 1)) {
+            for (int index : wordEntries[wordId]) {
+                matchCounts.merge(index, 1, Integer::sum);
+            }
+        }
+
+        int bestPartial = Integer.MAX_VALUE;
+        int bestCount = 0;
+        for (Map.Entry<Integer, Integer> count : matchCounts.entrySet()) {
+            int index = count.getKey();
+            if (index < bestPartial && count.getValue() >= Math.max(1, entries[index].getReceiptTokens().length / 2)) {
+                bestPartial = index;
+                bestCount = count.getValue();
+            }
+        }
+
+        return bestPartial == Integer.MAX_VALUE ? null : new MenuMatch(entries[bestPartial], false, bestCount);
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = child(edgeChars, edgeTargets, state, c);
+            if (next != NONE) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private boolean hasOutput(int node) {
+        return nodeName[node] != NONE || nodeWord[node] != NONE;
+    }
+
+    private static int child(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        char[] chars = edgeChars[node];
+        int low = 0;
+        int high = chars.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (chars[mid] < c) {
+                low = mid + 1;
+            } else if (chars[mid] > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[node][mid];
+            }
+        }
+        return NONE;
+    }
+
+    private static int insert(List<TreeMap<Character, Integer>> children, List<Integer> names,
+                              List<Integer> words, String pattern) {
+        int node = ROOT;
+        for (int i = 0; i < pattern.length(); i++) {
+            Integer next = children.get(node).get(pattern.charAt(i));
+            if (next == null) {
+                next = children.size();
+                children.get(node).put(pattern.charAt(i), next);
+                children.add(new TreeMap<>());
+                names.add(NONE);
+                words.add(NONE);
+            }
+            node = next;
+        }
+        return node;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,40 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import com.inforsion.inforsionserver.domain.product.entity.ProductEntity;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 매장 메뉴 카탈로그의 메뉴 한 건
+ *
+ * 요청마다 엔티티를 다시 읽지 않도록 매칭에 필요한 값만 복사해 둡니다.
+ */
+@Getter
+public class MenuEntry {
+
+    private final Integer productId;
+
+    private final String name;
+
+    private final BigDecimal price;
+
+    private final int gramCount;
+
+    // 유사도 계산용으로 정규화/컴파일된 메뉴명
+    private final NamePattern pattern;
+
+    // 영수증 매칭용으로 정규화된 메뉴명과 단어 목록
+    private final String receiptName;
+    private final String[] receiptTokens;
+
+    MenuEntry(ProductEntity product, int gramCount) {
+        this.productId = product.getId();
+        this.name = product.getName();
+        this.price = product.getPrice();
+        this.gramCount = gramCount;
+        this.pattern = NamePattern.compile(NameSimilarity.normalize(product.getName()));
+        this.receiptName = ReceiptTextNormalizer.normalize(product.getName());
+        this.receiptTokens = ReceiptTextNormalizer.tokens(receiptName);
+    }
+}
@@ -0,0 +1,20 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영수증 라인 메뉴 매칭 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuMatch {
+
+    private final MenuEntry entry;
+
+    // true: 메뉴명 전체 일치, false: 단어 단위 부분 일치
+    private final boolean exact;
+
+    // 부분 일치 시 라인과 매칭된 메뉴 단어 수
+    private final int matchedWords;
+}
@@ -0,0 +1,71 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 편집 거리 계산용으로 미리 컴파일된 메뉴명
+ *
+ * 정규화된 메뉴명과, 64자 이하인 경우 Myers 비트 병렬 알고리즘의 문자별 위치 마스크(Peq)를
+ * 가지고 있습니다. 마스크는 등장 문자를 정렬한 배열로 보관하여 한글처럼 문자 공간이 넓어도
+ * 메뉴명 길이만큼의 메모리만 사용합니다.
+ */
+@Getter
+public class NamePattern {
+
+    static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+
+    private final String text;
+
+    // 등장 문자(정렬) 및 문자별 위치 비트마스크 - 64자 초과면 null
+    private final char[] alphabet;
+    private final long[] masks;
+
+    private NamePattern(String text, char[] alphabet, long[] masks) {
+        this.text = text;
+        this.alphabet = alphabet;
+        this.masks = masks;
+    }
+
+    /**
+     * 정규화된 메뉴명으로 패턴 생성
+     */
+    public static NamePattern compile(String normalizedText) {
+        if (normalizedText.length() > MAX_BIT_PARALLEL_LENGTH) {
+            return new NamePattern(normalizedText, null, null);
+        }
+
+        char[] alphabet = normalizedText.toCharArray();
+        Arrays.sort(alphabet);
+        int distinct = 0;
+        for (int i = 0; i < alphabet.length; i++) {
+            if (i == 0 || alphabet[i] != alphabet[distinct - 1]) {
+                alphabet[distinct++] = alphabet[i];
+            }
+        }
+        alphabet = Arrays.copyOf(alphabet, distinct);
+
+        long[] masks = new long[distinct];
+        for (int i = 0; i < normalizedText.length(); i++) {
+            masks[Arrays.binarySearch(alphabet, normalizedText.charAt(i))] |= 1L << i;
+        }
+        return new NamePattern(normalizedText, alphabet, masks);
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    boolean isBitParallel() {
+        return masks != null;
+    }
+
+    /**
+     * 문자 c가 등장하는 위치의 비트마스크 (없으면 0)
+     */
+    long maskOf(char c) {
+        int index = Arrays.binarySearch(alphabet, c);
+        return index >= 0 ? masks[index] : 0L;
+    }
+}
@@ -0,0 +1,154 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+/**
+ * 메뉴명 유사도 계산기 (레벤슈타인 거리 기반)
+ *
+ * 유사도는 기존과 동일하게 1 - (편집 거리 / 긴 문자열 길이)로 계산하지만,
+ * 컷오프를 넘을 수 없는 것이 확정되는 순간 계산을 중단합니다.
+ * - 메뉴명 64자 이하: Myers/Hyyrö 비트 병렬 알고리즘 (텍스트 한 글자당 상수 번의 비트 연산)
+ * - 메뉴명 64자 초과: 허용 거리 k 폭의 대각 띠(band)만 채우는 DP
+ * DP 행 버퍼는 스레드별로 재사용하므로 호출마다 객체를 할당하지 않습니다.
+ */
+public final class NameSimilarity {
+
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    private static final ThreadLocal<int[][]> BAND_ROWS = ThreadLocal.withInitial(() -> new int[2][128]);
+
+    private NameSimilarity() {
+    }
+
+    /**
+     * 유사도 비교용 정규화 (소문자화, 앞뒤 공백 제거)
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase().trim();
+    }
+
+    /**
+     * 정규화된 텍스트와 메뉴명 패턴의 유사도
+     *
+     * @param pattern 미리 컴파일된 메뉴명
+     * @param text 정규화된 OCR 품목명
+     * @param cutoff 최소 유사도 (0.0 ~ 1.0)
+     * @return 유사도, cutoff 미만이면 0.0
+     */
+    public static double similarity(NamePattern pattern, String text, double cutoff) {
+        int m = pattern.length();
+        int n = text.length();
+        int maxLength = Math.max(m, n);
+        if (maxLength == 0 || pattern.getText().equals(text)) {
+            return 1.0;
+        }
+
+        // 컷오프를 만족하는 최대 편집 거리
+        int k = (int) Math.floor((1.0 - cutoff) * maxLength + 1e-9);
+        if (Math.abs(m - n) > k) {
+            return 0.0;
+        }
+
+        int distance = pattern.isBitParallel()
+                ? bitParallelDistance(pattern, text, k)
+                : bandedDistance(pattern.getText(), text, k);
+        if (distance > k) {
+            return 0.0;
+        }
+        return 1.0 - (double) distance / maxLength;
+    }
+
+    /**
+     * Myers/Hyyrö 비트 병렬 편집 거리 (k 초과가 확정되면 k + 1 반환)
+     */
+    static int bitParallelDistance(NamePattern pattern, String text, int k) {
+        int m = pattern.length();
+        int n = text.length();
+        if (m == 0) {
+            return n;
+        }
+
+        long highBit = 1L << (m - 1);
+        long pv = -1L;
+        long mv = 0L;
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long eq = pattern.maskOf(text.charAt(j));
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+
+            if ((ph & highBit) != 0) {
+                score++;
+            } else if ((mh & highBit) != 0) {
+                score--;
+            }
+
+            // 첫 행 D[0][j] = j 이므로 가로 변화량은 항상 +1
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+
+            // 남은 글자를 모두 맞혀도 거리는 글자당 1씩만 줄어들 수 있음
+            if (score - (n - j - 1) > k) {
+                return k + 1;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * 폭 k 대각 띠 DP 편집 거리 (k 초과가 확정되면 k + 1 반환)
+     */
+    static int bandedDistance(String pattern, String text, int k) {
+        int m = pattern.length();
+        int n = text.length();
+
+        int[][] rows = BAND_ROWS.get();
+        if (rows[0].length < n + 2) {
+            rows = new int[2][Math.max(n + 2, rows[0].length * 2)];
+            BAND_ROWS.set(rows);
+        }
+        int[] prev = rows[0];
+        int[] cur = rows[1];
+
+        int firstHi = Math.min(n, k);
+        for (int j = 0; j <= firstHi; j++) {
+            prev[j] = j;
+        }
+        if (firstHi < n) {
+            prev[firstHi + 1] = INF;
+        }
+
+        for (int i = 1; i <= m; i++) {
+            int lo = Math.max(1, i - k);
+            int hi = Math.min(n, i + k);
+            char pc = pattern.charAt(i - 1);
+
+            cur[lo - 1] = lo == 1 && i <= k ? i : INF;
+            int rowMin = cur[lo - 1];
+
+            for (int j = lo; j <= hi; j++) {
+                int value = prev[j - 1] + (pc == text.charAt(j - 1) ? 0 : 1);
+                value = Math.min(value, prev[j] + 1);
+                value = Math.min(value, cur[j - 1] + 1);
+                cur[j] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+            if (hi < n) {
+                cur[hi + 1] = INF;
+            }
+            if (rowMin > k) {
+                return k + 1;
+            }
+
+            int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        return Math.min(prev[n], k + 1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영수증 라인 토큰 결과 (ReceiptLineLexer)
+ *
+ * 라인 분류와 함께 수량/가격 토큰을 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ReceiptLine {
+
+    public enum Type {
+        BLANK,          // 빈 라인
+        SKIP_KEYWORD,   // 합계/결제/사업자 정보 등 제외 키워드 포함
+        DATE_TIME,      // 숫자, '-', ':', 공백으로만 구성 (날짜/시간)
+        SEPARATOR,      // '*' 구분선
+        TEXT,           // 가격(숫자)이 없는 라인
+        ITEM            // 상품 후보 라인
+    }
+
+    // 정리된 라인 (trim, 개행 제거)
+    private final String text;
+
+    private final Type type;
+
+    // 1~100 범위의 첫 번째 수량, 없으면 null
+    private final Integer quantity;
+
+    // 합리적인 범위(100 이상 1,000,000 미만)의 가격들 (등장 순서)
+    private final int[] prices;
+
+    // 가격 토큰 위치 (상품명 추출 시 제거용)
+    @Getter(AccessLevel.NONE)
+    private final int[] priceStarts;
+    @Getter(AccessLevel.NONE)
+    private final int[] priceEnds;
+
+    public boolean isItem() {
+        return type == Type.ITEM;
+    }
+
+    /**
+     * 메뉴 매칭 실패 시 사용할 상품명
+     *
+     * 가격 토큰과 기호(* - = ( ) [ ] { })를 공백으로 바꾸고 연속 공백을 하나로 합칩니다.
+     */
+    public String productName() {
+        StringBuilder builder = new StringBuilder(text.length());
+        int span = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (span < priceStarts.length && i == priceStarts[span]) {
+                appendSpace(builder);
+                i = priceEnds[span++] - 1;
+                continue;
+            }
+            char c = text.charAt(i);
+            if (ReceiptLineLexer.isSymbol(c) || ReceiptLineLexer.isWhitespace(c)) {
+                appendSpace(builder);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString().trim();
+    }
+
+    private static void appendSpace(StringBuilder builder) {
+        if (builder.length() == 0 || builder.charAt(builder.length() - 1) != ' ') {
+            builder.append(' ');
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import java.util.Arrays;
+
+/**
+ * 영수증 라인 렉서
+ *
+ * 라인을 한 번 순회하면서 분류(제외 키워드, 날짜/시간, 구분선, 상품)와
+ * 수량/가격 토큰 추출을 함께 처리합니다. 정규식을 사용하지 않습니다.
+ *
+ * 토큰 규칙은 기존 정규식과 같습니다.
+ * - 가격: 1~3자리 숫자 + (",3자리")* 반복
+ * - 수량: 연속된 숫자 중 1~100 범위의 첫 번째 값
+ */
+public final class ReceiptLineLexer {
+
+    // 상품 라인에서 제외할 키워드 (대소문자 구분)
+    private static final String[] SKIP_KEYWORDS = {
+            "Subtotal", "Discount", "NET Amount", "Tax", "Total", "TEL",
+            "영수증", "합계", "총액", "받은돈", "거스름돈", "카드", "현금", "사업자", "전화", "주소", "대표"
+    };
+
+    // 키워드 첫 글자 (해당 글자에서만 키워드 비교)
+    private static final String KEYWORD_FIRST_CHARS;
+
+    static {
+        StringBuilder firstChars = new StringBuilder();
+        for (String keyword : SKIP_KEYWORDS) {
+            if (firstChars.indexOf(String.valueOf(keyword.charAt(0))) < 0) {
+                firstChars.append(keyword.charAt(0));
+            }
+        }
+        KEYWORD_FIRST_CHARS = firstChars.toString();
+    }
+
+    private static final int MIN_PRICE = 100;
+    private static final int MAX_PRICE = 1_000_000;
+    private static final int MAX_QUANTITY = 100;
+
+    private static final int[] EMPTY = new int[0];
+
+    private ReceiptLineLexer() {
+    }
+
+    public static ReceiptLine lex(String line) {
+        if (line == null) {
+            return new ReceiptLine("", ReceiptLine.Type.BLANK, null, EMPTY, EMPTY, EMPTY);
+        }
+
+        String text = line.trim().replace("\n", "");
+        int length = text.length();
+        if (length == 0) {
+            return new ReceiptLine(text, ReceiptLine.Type.BLANK, null, EMPTY, EMPTY, EMPTY);
+        }
+
+        boolean skipKeyword = false;
+        boolean dateTimeOnly = true;
+        boolean separatorOnly = true;
+        boolean hasDigit = false;
+
+        Integer quantity = null;
+        int[] prices = new int[4];
+        int priceCount = 0;
+        int[] priceStarts = new int[4];
+        int[] priceEnds = new int[4];
+        int spanCount = 0;
+        int priceCursor = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (!skipKeyword && KEYWORD_FIRST_CHARS.indexOf(c) >= 0) {
+                skipKeyword = startsWithKeyword(text, i);
+            }
+            if (!isDigit(c) && c != '-' && c != ':' && !isWhitespace(c)) {
+                dateTimeOnly = false;
+            }
+            if (c != '*') {
+                separatorOnly = false;
+            }
+            if (!isDigit(c)) {
+                continue;
+            }
+            hasDigit = true;
+
+            // 가격 토큰: 직전 가격 토큰이 끝난 위치부터 새로 시작
+            if (i >= priceCursor) {
+                int end = Math.min(i + 3, length);
+                int digitsEnd = i;
+                while (digitsEnd < end && isDigit(text.charAt(digitsEnd))) {
+                    digitsEnd++;
+                }
+                long value = parseDigits(text, i, digitsEnd, 0);
+                while (digitsEnd + 3 < length && text.charAt(digitsEnd) == ','
+                        && isDigit(text.charAt(digitsEnd + 1))
+                        && isDigit(text.charAt(digitsEnd + 2))
+                        && isDigit(text.charAt(digitsEnd + 3))) {
+                    value = parseDigits(text, digitsEnd + 1, digitsEnd + 4, value);
+                    digitsEnd += 4;
+                }
+                if (spanCount == priceStarts.length) {
+                    priceStarts = Arrays.copyOf(priceStarts, spanCount * 2);
+                    priceEnds = Arrays.copyOf(priceEnds, spanCount * 2);
+                }
+                priceStarts[spanCount] = i;
+                priceEnds[spanCount++] = digitsEnd;
+                if (value >= MIN_PRICE && value < MAX_PRICE) {
+                    if (priceCount == prices.length) {
+                        prices = Arrays.copyOf(prices, priceCount * 2);
+                    }
+                    prices[priceCount++] = (int) value;
+                }
+                priceCursor = digitsEnd;
+            }
+
+            // 수량 토큰: 연속된 숫자의 시작에서만 판단
+            if (quantity == null && (i == 0 || !isDigit(text.charAt(i - 1)))) {
+                int runEnd = i;
+                while (runEnd < length && isDigit(text.charAt(runEnd))) {
+                    runEnd++;
+                }
+                long value = parseDigits(text, i, runEnd, 0);
+                if (value > 0 && value <= MAX_QUANTITY) {
+                    quantity = (int) value;
+                }
+            }
+        }
+
+        ReceiptLine.Type type;
+        if (skipKeyword) {
+            type = ReceiptLine.Type.SKIP_KEYWORD;
+        } else if (dateTimeOnly) {
+            type = ReceiptLine.Type.DATE_TIME;
+        } else if (separatorOnly) {
+            type = ReceiptLine.Type.SEPARATOR;
+        } else if (!hasDigit) {
+            type = ReceiptLine.Type.TEXT;
+        } else {
+            type = ReceiptLine.Type.ITEM;
+        }
+
+        return new ReceiptLine(text, type, quantity,
+                Arrays.copyOf(prices, priceCount),
+                Arrays.copyOf(priceStarts, spanCount),
+                Arrays.copyOf(priceEnds, spanCount));
+    }
+
+    private static boolean startsWithKeyword(String text, int offset) {
+        for (String keyword : SKIP_KEYWORDS) {
+            if (text.startsWith(keyword, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 숫자 구간을 누적 파싱 (int 범위를 넘으면 -1, 이후 범위 검사에서 걸러짐)
+     */
+    private static long parseDigits(String text, int from, int to, long value) {
+        if (value < 0) {
+            return value;
+        }
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 정규식 \s 와 동일한 공백 문자
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // 상품명 추출 시 공백으로 바꾸는 기호
+    static boolean isSymbol(char c) {
+        switch (c) {
+            case '*': case '-': case '=': case '(': case ')': case '[': case ']': case '{': case '}':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
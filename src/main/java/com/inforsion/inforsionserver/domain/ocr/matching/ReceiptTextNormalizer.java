@@ -0,0 +1,57 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+/**
+ * 영수증 메뉴 매칭용 텍스트 정규화
+ *
+ * 기호(* - = ( ) [ ] { })를 공백으로 바꾸고, 연속 공백을 하나로 합친 뒤 소문자로 변환합니다.
+ * 정규식 없이 한 번의 순회로 처리합니다.
+ */
+public final class ReceiptTextNormalizer {
+
+    private static final String[] EMPTY_TOKENS = new String[0];
+
+    private ReceiptTextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSeparator(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 텍스트를 단어 단위로 분리
+     */
+    public static String[] tokens(String normalized) {
+        if (normalized.isEmpty()) {
+            return EMPTY_TOKENS;
+        }
+        return normalized.split(" ");
+    }
+
+    private static boolean isSeparator(char c) {
+        switch (c) {
+            case ' ': case '\t': case '\n': case '\u000B': case '\f': case '\r':
+            case '*': case '-': case '=': case '(': case ')': case '[': case ']': case '{': case '}':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
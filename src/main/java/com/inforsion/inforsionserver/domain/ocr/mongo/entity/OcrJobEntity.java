@@ -0,0 +1,68 @@
+package com.inforsion.inforsionserver.domain.ocr.mongo.entity;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStage;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
+import com.inforsion.inforsionserver.domain.ocr.dto.ProductMatchingResultDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 OCR 작업 상태
+ *
+ * 단계(stage)별로 완료 시점을 저장하므로, 서버가 재시작되면 마지막으로 끝난 단계 다음부터 이어서 처리합니다.
+ */
+@Document(collection = "ocr_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OcrJobEntity {
+
+    @Id
+    private String id; // jobId
+
+    private OcrJobStatus status;
+
+    private OcrJobStage stage; // 다음에 수행할 단계
+
+    private Integer progress; // 0-100, 실패 시 -1
+
+    private OcrProcessingRequestDto request;
+
+    private Integer rawDataId; // 원본 저장 단계 완료 후 설정
+
+    private String ocrEngine; // 이미지 인식 단계에서 결과를 낸 엔진
+
+    private Double ocrConfidence;
+
+    private Long processingTimeMs; // 이미지 인식 소요 시간 (헤징 포함)
+
+    private Boolean hedged; // 보조 OCR 엔진에도 요청했는지
+
+    private String possibleDuplicateImageUrl; // 등록 시 pHash가 가까웠던 기존 이미지 (중복일 수 있음)
+
+    private ProductMatchingResultDto result;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    private String leaseOwner; // 작업을 실행 중인 서버 (OcrJobLease)
+
+    private LocalDateTime leaseExpiresAt; // 이 시각이 지나면 다른 서버가 재개할 수 있음
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -30,6 +30,8 @@ public class OcrRawDataEntity {
 
     private String rawOcrText;
 
+    private String imageUrl; // 원본 이미지/문서 S3 URL (이미지로 등록된 경우)
+
     private String parsedItem; // JSON 형태
 
     private String supplierName;
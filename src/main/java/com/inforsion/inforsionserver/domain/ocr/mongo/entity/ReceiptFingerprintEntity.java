@@ -0,0 +1,51 @@
+package com.inforsion.inforsionserver.domain.ocr.mongo.entity;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.ProductMatchingResultDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 처리한 영수증 이미지 지문 (매장별 중복 업로드 색인)
+ *
+ * 단건 작업으로 등록된 이미지는 jobId로 작업 결과를 찾고, 일괄 처리된 이미지는 매칭 결과를 함께 보관합니다.
+ * 인덱스(매장+내용 해시 유일, 매장+pHash 밴드, jobId, createdAt TTL)는 MongoConfig에서 생성합니다.
+ */
+@Document(collection = "ocr_fingerprints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReceiptFingerprintEntity {
+
+    @Id
+    private String id;
+
+    private Integer storeId;
+
+    private String contentHash; // SHA-256
+
+    private Long perceptualHash; // 64비트 pHash (이미지로 읽을 수 없으면 null)
+
+    private List<Integer> perceptualBands; // pHash 8비트 밴드 키 (근접 후보 조회용)
+
+    private String jobId; // 단건 작업으로 등록된 경우
+
+    private Integer rawDataId;
+
+    private String imageUrl;
+
+    private String ocrEngine;
+
+    private Double ocrConfidence;
+
+    private ProductMatchingResultDto result; // 일괄 처리로 등록된 경우의 매칭 결과
+
+    private LocalDateTime createdAt; // 보관 기간(TTL) 기준
+}
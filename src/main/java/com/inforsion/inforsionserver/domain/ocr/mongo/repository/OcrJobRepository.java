@@ -0,0 +1,9 @@
+package com.inforsion.inforsionserver.domain.ocr.mongo.repository;
+
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrJobEntity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OcrJobRepository extends MongoRepository<OcrJobEntity, String> {
+}
@@ -0,0 +1,19 @@
+package com.inforsion.inforsionserver.domain.ocr.mongo.repository;
+
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.ReceiptFingerprintEntity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReceiptFingerprintRepository extends MongoRepository<ReceiptFingerprintEntity, String> {
+
+    Optional<ReceiptFingerprintEntity> findByStoreIdAndContentHash(Integer storeId, String contentHash);
+
+    List<ReceiptFingerprintEntity> findTop50ByStoreIdAndPerceptualBandsInOrderByCreatedAtDesc(Integer storeId, Collection<Integer> bands);
+
+    void deleteByJobId(String jobId);
+}
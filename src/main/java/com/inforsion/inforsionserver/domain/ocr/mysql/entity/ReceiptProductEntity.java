@@ -22,8 +22,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ReceiptProductEntity {
     
+    // saveAll이 배치로 나가도록 id_sequences 테이블에서 블록 단위로 할당 (IdSequenceInitializer)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "receipt_product_id")
+    @TableGenerator(name = "receipt_product_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "receipt_products", allocationSize = 100)
     private Long id;
     
     @Column(name = "product_name", nullable = false, length = 500)
@@ -22,4 +22,7 @@ public interface OcrResultRepositoryCustom {
     Page<OcrResultEntity> findOcrResultsByRawDataIdWithPaging(Integer rawDataId, Pageable pageable);
     
     Long countOcrResultsByStoreAndMatchType(Integer storeId, MatchType matchType);
+    
+    // JDBC 배치 insert, 생성된 ocr_id를 엔티티에 채움 (영속성 컨텍스트를 거치지 않음)
+    void insertAll(List<OcrResultEntity> results);
 }
\ No newline at end of file
@@ -9,16 +9,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class OcrResultRepositoryImpl implements OcrResultRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
     private final QOcrResultEntity qOcr = QOcrResultEntity.ocrResultEntity;
 
     @Override
@@ -98,4 +109,59 @@ public class OcrResultRepositoryImpl implements OcrResultRepositoryCustom {
                         .and(qOcr.matchType.eq(matchType)))
                 .fetchOne();
     }
-}
\ No newline at end of file
+
+    /**
+     * OCR 결과 일괄 저장 (IDENTITY 키라 Hibernate는 insert를 묶지 못하므로 JDBC 배치로 전송)
+     * 재고 로그가 ocr_id를 참조하므로 생성된 키를 순서대로 엔티티에 채웁니다.
+     */
+    @Override
+    public void insertAll(List<OcrResultEntity> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(
+                        "INSERT INTO ocr_results (store_id, raw_data_id, ocr_item_name, quantity, price, match_type, "
+                                + "target_id, total_amount, match_method, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OcrResultEntity result = results.get(i);
+                        ps.setInt(1, result.getStore().getId());
+                        ps.setInt(2, result.getRawDataId());
+                        ps.setString(3, result.getOcrItemName());
+                        ps.setInt(4, result.getQuantity());
+                        if (result.getPrice() != null) {
+                            ps.setInt(5, result.getPrice());
+                        } else {
+                            ps.setNull(5, Types.INTEGER);
+                        }
+                        ps.setString(6, result.getMatchType().name());
+                        ps.setInt(7, result.getTargetId());
+                        ps.setBigDecimal(8, result.getTotalAmount());
+                        ps.setString(9, result.getMatchMethod().name());
+                        ps.setTimestamp(10, timestamp);
+                        ps.setTimestamp(11, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return results.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < results.size(); i++) {
+            OcrResultEntity result = results.get(i);
+            result.setOcrId(((Number) keys.get(i).values().iterator().next()).intValue());
+            result.setCreatedAt(now);
+            result.setUpdatedAt(now);
+        }
+    }
+}
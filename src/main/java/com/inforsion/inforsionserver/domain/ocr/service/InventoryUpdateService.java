@@ -1,13 +1,16 @@
 package com.inforsion.inforsionserver.domain.ocr.service;
 
-import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.domain.inventory.buffer.StockWriteBuffer;
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
+import com.inforsion.inforsionserver.domain.inventory.engine.StockEngine;
+import com.inforsion.inforsionserver.domain.inventory.engine.StockMutation;
 import com.inforsion.inforsionserver.domain.inventory.entity.InventoryLogEntity;
 import com.inforsion.inforsionserver.domain.inventory.repository.InventoryLogRepository;
 import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import com.inforsion.inforsionserver.domain.inventory.service.StockStatusService;
 import com.inforsion.inforsionserver.domain.ocr.mysql.entity.OcrResultEntity;
-import com.inforsion.inforsionserver.domain.product.entity.ProductEntity;
-import com.inforsion.inforsionserver.domain.recipe.entity.RecipeEntity;
-import com.inforsion.inforsionserver.domain.recipe.repository.RecipeRepository;
+import com.inforsion.inforsionserver.domain.recipe.bom.MenuBom;
+import com.inforsion.inforsionserver.domain.recipe.bom.RecipeBomCache;
 import com.inforsion.inforsionserver.global.enums.InventoryLogType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,161 +18,181 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * OCR 결과에 따른 재고 반영
+ *
+ * 영수증 한 장의 결과를 한 번에 처리합니다.
+ * 1. 메뉴 매칭 결과를 메뉴별 재료 구성 캐시(RecipeBomCache)로 펼침 (레시피 조회 없음, 소요량은 재고 단위)
+ * 2. 재고별 변화량을 합쳐 UPDATE 한 번으로 원자적으로 반영 (current_stock = current_stock + ?)
+ *    → 동시에 확정/주문해도 갱신이 유실되지 않고, 재고를 미리 읽어올 필요가 없음
+ * 3. 반영 전 수량에서 변화를 차례로 더해 결과별 이전/이후 수량을 계산하고, 재고 로그는 배치 insert (id는 id_sequences에서 블록 단위로 할당)
+ * 4. 재고 상태가 바뀐 재고만 상태 갱신, 부족/품절로 바뀌면 알림 (StockStatusService)
+ * 이벤트 소싱 재고 엔진(StockEngine)이 켜져 있으면 2~3 대신 커밋 직전에 엔진에 변화별 이벤트로 반영합니다 (재고 로그는 엔진이 투영).
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class InventoryUpdateService {
 
-    private final RecipeRepository recipeRepository;
+    private final RecipeBomCache recipeBomCache;
     private final InventoryRepository inventoryRepository;
     private final InventoryLogRepository inventoryLogRepository;
+    private final StockWriteBuffer stockWriteBuffer;
+    private final StockEngine stockEngine;
+    private final StockStatusService stockStatusService;
 
     /**
      * OCR 결과에 따른 재고 자동 차감
      */
     @Transactional
     public void updateInventoryFromOcr(OcrResultEntity ocrResult) {
-        try {
-            // OCR 결과가 메뉴 매칭인 경우에만 재고 차감
-            if (isMenuMatch(ocrResult)) {
-                deductInventoryForMenu(ocrResult);
-            }
-        } catch (Exception e) {
-            log.error("재고 업데이트 중 오류 발생: OCR ID {}, 오류: {}", ocrResult.getOcrId(), e.getMessage(), e);
-            throw new RuntimeException("재고 업데이트에 실패했습니다.", e);
+        if (isMenuMatch(ocrResult)) {
+            applyOcrResults(List.of(ocrResult));
         }
     }
 
     /**
-     * 메뉴 매칭인지 확인
+     * 재고 입고 처리 (공급업체 인보이스인 경우)
      */
-    private boolean isMenuMatch(OcrResultEntity ocrResult) {
-        return ocrResult.getMatchType() != null && 
-               "Menu".equals(ocrResult.getMatchType().getValue());
+    @Transactional
+    public void restockInventoryFromOcr(OcrResultEntity ocrResult) {
+        if (isInventoryRestock(ocrResult)) {
+            applyOcrResults(List.of(ocrResult));
+        }
     }
 
     /**
-     * 메뉴에 해당하는 재료들의 재고 차감
+     * 저장된 OCR 결과들을 재고에 일괄 반영 (메뉴 매칭은 레시피대로 차감, 재고 매칭은 입고)
      */
-    private void deductInventoryForMenu(OcrResultEntity ocrResult) {
-        Integer menuId = ocrResult.getTargetId();
-        Integer quantity = ocrResult.getQuantity();
-        
-        // 해당 메뉴의 레시피 조회
-        List<RecipeEntity> recipes = recipeRepository.findByMenuIdAndIsActive(menuId, true);
-        
-        if (recipes.isEmpty()) {
-            log.warn("메뉴 ID {}에 대한 활성 레시피가 없습니다.", menuId);
-            return;
-        }
-        
-        // 각 레시피의 재료별로 재고 차감
-        for (RecipeEntity recipe : recipes) {
-            deductIngredientInventory(recipe, quantity, ocrResult);
+    @Transactional
+    public void applyOcrResults(List<OcrResultEntity> ocrResults) {
+        try {
+            List<StockChange> changes = collectChanges(ocrResults);
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            if (stockEngine.isEnabled()) {
+                stockEngine.applyBeforeCommit(changes.stream()
+                        .map(change -> StockMutation.change(change.inventoryId, change.logType, change.quantityChange,
+                                change.ocrResult.getOcrId(), change.reason))
+                        .toList());
+                log.info("OCR 결과 재고 이벤트 등록: 결과 {}건, 변화 {}건", ocrResults.size(), changes.size());
+                return;
+            }
+
+            Map<Integer, BigDecimal> deltas = changes.stream()
+                    .collect(Collectors.toMap(change -> change.inventoryId, change -> change.quantityChange, BigDecimal::add));
+            // 인기 재고는 쓰기 결합 버퍼로 (커밋 후 누산, 주기적으로 요약 로그와 함께 반영)
+            Map<Integer, BigDecimal> buffered = stockWriteBuffer.divert(deltas);
+            // 재고 부족은 경고만 하고 반영 (음수 허용)
+            List<StockChangeDto> applied = inventoryRepository.applyStockDeltas(deltas, true);
+            stockStatusService.applyTransitions(applied);
+            Map<Integer, BigDecimal> quantities = applied.stream()
+                    .collect(Collectors.toMap(StockChangeDto::getInventoryId, StockChangeDto::getBeforeQuantity));
+
+            List<InventoryLogEntity> logs = new ArrayList<>(changes.size());
+            for (StockChange change : changes) {
+                if (!buffered.containsKey(change.inventoryId)) {
+                    logs.add(toLog(change, quantities));
+                }
+            }
+
+            inventoryLogRepository.saveAll(logs);
+            log.info("OCR 결과 재고 반영 완료: 결과 {}건, 재고 {}건 (버퍼 {}건), 로그 {}건",
+                    ocrResults.size(), deltas.size() + buffered.size(), buffered.size(), logs.size());
+
+        } catch (Exception e) {
+            log.error("재고 업데이트 중 오류 발생: OCR 결과 {}건, 오류: {}", ocrResults.size(), e.getMessage(), e);
+            throw new RuntimeException("재고 업데이트에 실패했습니다.", e);
         }
-        
-        log.info("메뉴 ID {} (수량: {})에 대한 재고 차감 완료", menuId, quantity);
     }
 
     /**
-     * 개별 재료의 재고 차감
+     * OCR 결과 → 재고 변화 목록
      */
-    private void deductIngredientInventory(RecipeEntity recipe, Integer menuQuantity, OcrResultEntity ocrResult) {
-        InventoryEntity inventory = recipe.getInventory();
-        
-        // 필요한 재료 수량 계산 (레시피의 1인분 * 주문 수량)
-        BigDecimal requiredAmount = recipe.getAmountPerMenu().multiply(BigDecimal.valueOf(menuQuantity));
-        
-        // 현재 재고 확인
-        BigDecimal currentStock = inventory.getCurrentStock();
-        if (currentStock.compareTo(requiredAmount) < 0) {
-            log.warn("재고 부족: {} (현재: {}, 필요: {})", 
-                    inventory.getName(), currentStock, requiredAmount);
-            // 재고 부족 알림 생성 (추후 AlertService 연동)
+    private List<StockChange> collectChanges(List<OcrResultEntity> ocrResults) {
+        List<StockChange> changes = new ArrayList<>();
+        for (OcrResultEntity ocrResult : ocrResults) {
+            if (isMenuMatch(ocrResult)) {
+                MenuBom bom = recipeBomCache.get(ocrResult.getTargetId());
+                if (bom.isEmpty()) {
+                    log.warn("메뉴 ID {}에 대한 활성 레시피가 없습니다.", ocrResult.getTargetId());
+                }
+                // 필요한 재료 수량 = 레시피의 1인분 * 주문 수량
+                BigDecimal quantity = BigDecimal.valueOf(ocrResult.getQuantity());
+                for (int i = 0; i < bom.size(); i++) {
+                    BigDecimal requiredAmount = bom.amountPerMenu(i).multiply(quantity);
+                    changes.add(new StockChange(bom.inventoryId(i), ocrResult, InventoryLogType.DEDUCTION,
+                            requiredAmount.negate(), "OCR 매칭을 통한 자동 차감: " + ocrResult.getOcrItemName()));
+                }
+            } else if (isInventoryRestock(ocrResult)) {
+                changes.add(new StockChange(ocrResult.getTargetId(), ocrResult, InventoryLogType.RESTOCK,
+                        BigDecimal.valueOf(ocrResult.getQuantity()), "OCR 매칭을 통한 자동 입고: " + ocrResult.getOcrItemName()));
+            }
         }
-        
-        // 재고 차감
-        BigDecimal newStock = currentStock.subtract(requiredAmount);
-        BigDecimal beforeQuantity = inventory.getCurrentStock();
-        
-        inventory.setCurrentStock(newStock);
-        inventoryRepository.save(inventory);
-        
-        // 재고 변화 로그 생성
-        createInventoryLog(inventory, ocrResult, InventoryLogType.DEDUCTION, 
-                          requiredAmount.negate(), beforeQuantity, newStock, 
-                          "OCR 매칭을 통한 자동 차감: " + ocrResult.getOcrItemName());
-        
-        log.info("재료 재고 차감: {} ({} -> {})", inventory.getName(), beforeQuantity, newStock);
+        return changes;
     }
 
     /**
-     * 재고 변화 로그 생성
+     * 변화 하나의 로그 생성 (quantities: 재고별 현재까지 반영된 수량, 반영 전 수량에서 시작)
      */
-    private void createInventoryLog(InventoryEntity inventory, OcrResultEntity ocrResult, 
-                                  InventoryLogType logType, BigDecimal quantityChange,
-                                  BigDecimal beforeQuantity, BigDecimal afterQuantity, String reason) {
-        
-        InventoryLogEntity logEntity = InventoryLogEntity.builder()
-                .inventory(inventory)
-                .ocrResult(ocrResult)
-                .logType(logType)
-                .quantityChange(quantityChange)
+    private InventoryLogEntity toLog(StockChange change, Map<Integer, BigDecimal> quantities) {
+        BigDecimal beforeQuantity = quantities.get(change.inventoryId);
+        BigDecimal afterQuantity = beforeQuantity.add(change.quantityChange);
+        quantities.put(change.inventoryId, afterQuantity);
+        if (afterQuantity.signum() < 0) {
+            log.warn("재고 부족: 재고 ID {} (현재: {}, 필요: {})",
+                    change.inventoryId, beforeQuantity, change.quantityChange.negate());
+        }
+
+        return InventoryLogEntity.builder()
+                .inventory(inventoryRepository.getReferenceById(change.inventoryId))
+                .ocrResult(change.ocrResult)
+                .logType(change.logType)
+                .quantityChange(change.quantityChange)
                 .beforeQuantity(beforeQuantity)
                 .afterQuantity(afterQuantity)
-                .reason(reason)
+                .reason(change.reason)
                 .build();
-                
-        inventoryLogRepository.save(logEntity);
     }
 
     /**
-     * 재고 입고 처리 (공급업체 인보이스인 경우)
+     * 메뉴 매칭인지 확인
      */
-    @Transactional
-    public void restockInventoryFromOcr(OcrResultEntity ocrResult) {
-        try {
-            if (isInventoryRestock(ocrResult)) {
-                restockInventory(ocrResult);
-            }
-        } catch (Exception e) {
-            log.error("재고 입고 처리 중 오류 발생: OCR ID {}, 오류: {}", ocrResult.getOcrId(), e.getMessage(), e);
-            throw new RuntimeException("재고 입고 처리에 실패했습니다.", e);
-        }
+    private boolean isMenuMatch(OcrResultEntity ocrResult) {
+        return ocrResult.getMatchType() != null &&
+               "Menu".equals(ocrResult.getMatchType().getValue());
     }
 
     /**
      * 재고 입고인지 확인 (공급업체 인보이스)
      */
     private boolean isInventoryRestock(OcrResultEntity ocrResult) {
-        return ocrResult.getMatchType() != null && 
+        return ocrResult.getMatchType() != null &&
                "Inventory".equals(ocrResult.getMatchType().getValue());
     }
 
-    /**
-     * 재고 입고 처리
-     */
-    private void restockInventory(OcrResultEntity ocrResult) {
-        Integer inventoryId = ocrResult.getTargetId();
-        Integer quantity = ocrResult.getQuantity();
-        
-        InventoryEntity inventory = inventoryRepository.findById(inventoryId)
-                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다: " + inventoryId));
-        
-        BigDecimal beforeQuantity = inventory.getCurrentStock();
-        BigDecimal restockAmount = BigDecimal.valueOf(quantity);
-        BigDecimal afterQuantity = beforeQuantity.add(restockAmount);
-        
-        inventory.setCurrentStock(afterQuantity);
-        inventoryRepository.save(inventory);
-        
-        // 재고 변화 로그 생성
-        createInventoryLog(inventory, ocrResult, InventoryLogType.RESTOCK, 
-                          restockAmount, beforeQuantity, afterQuantity,
-                          "OCR 매칭을 통한 자동 입고: " + ocrResult.getOcrItemName());
-        
-        log.info("재고 입고 완료: {} ({} -> {})", inventory.getName(), beforeQuantity, afterQuantity);
+    private static final class StockChange {
+
+        private final Integer inventoryId;
+        private final OcrResultEntity ocrResult;
+        private final InventoryLogType logType;
+        private final BigDecimal quantityChange;
+        private final String reason;
+
+        private StockChange(Integer inventoryId, OcrResultEntity ocrResult, InventoryLogType logType,
+                            BigDecimal quantityChange, String reason) {
+            this.inventoryId = inventoryId;
+            this.ocrResult = ocrResult;
+            this.logType = logType;
+            this.quantityChange = quantityChange;
+            this.reason = reason;
+        }
     }
-}
\ No newline at end of file
+}
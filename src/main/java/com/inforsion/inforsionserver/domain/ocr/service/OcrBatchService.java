@@ -0,0 +1,336 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.client.OcrImage;
+import com.inforsion.inforsionserver.domain.ocr.client.OcrProvider;
+import com.inforsion.inforsionserver.domain.ocr.client.OcrText;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrBatchItemResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
+import com.inforsion.inforsionserver.domain.ocr.dto.ProductMatchingResultDto;
+import com.inforsion.inforsionserver.domain.ocr.dto.ReceiptItem;
+import com.inforsion.inforsionserver.domain.ocr.fingerprint.ImageFingerprint;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrRawDataEntity;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.ReceiptFingerprintEntity;
+import com.inforsion.inforsionserver.global.concurrent.Downstream;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
+import com.inforsion.inforsionserver.global.concurrent.FairTaskDispatcher;
+import com.inforsion.inforsionserver.global.concurrent.TaskLane;
+import com.inforsion.inforsionserver.global.enums.DocumentType;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import com.inforsion.inforsionserver.global.error.exception.FileUploadException;
+import com.inforsion.inforsionserver.global.service.S3FileUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 장 영수증 일괄 처리 (파이프라인)
+ *
+ * 파일마다 업로드 → OCR → 파싱/매칭 → 원본 저장 단계를 따로 흘려보내, 한 영수증이 OCR을 기다리는 동안 다른 영수증은 업로드나 매칭을 진행합니다.
+ * 동시에 단계를 밟는 영수증은 최대 concurrency건이고, 끝난 영수증부터 결과를 내보냅니다. PDF 한 건은 OCR 후 페이지마다 영수증 하나로 나뉩니다.
+ * 원본 데이터는 raw-flush-window 동안 끝난 영수증을 모아 insertMany 한 번으로 저장한 뒤 결과를 내보내므로,
+ * 받은 결과의 rawDataId로 바로 확정해도 됩니다. (한 묶음이 비슷한 시간에 끝나면 배치 전체가 insert 한 번)
+ * 이미지 파일은 업로드 전에 매장의 중복 이미지 색인을 조회해, 이미 처리한 영수증 파일이면 OCR 없이 기존 결과를 내보냅니다. (duplicate=true)
+ * pHash만 가까운 이미지는 그대로 처리하고 가까운 이미지 주소를 함께 내보냅니다. (possibleDuplicateImageUrl)
+ * 새로 처리한 이미지의 지문은 원본 저장 직후 한 번의 bulk write로 등록합니다. PDF는 중복 검사를 하지 않습니다.
+ * 블로킹 단계(중복 조회, S3 업로드, OCR, 파싱/매칭, 원본 저장)는 fileProcessingDispatcher의 BULK 레인에서 실행합니다.
+ * OCR 호출은 DownstreamLimiter(OCR_PROVIDER) 한도 안에서 끝날 때까지 기다립니다.
+ */
+@Slf4j
+@Service
+public class OcrBatchService {
+
+    // insertMany 한 번에 넣을 최대 문서 수
+    private static final int MAX_RAW_INSERT_SIZE = 500;
+    private static final String UPLOAD_DIRECTORY = "receipts";
+
+    private final S3FileUploadService s3FileUploadService;
+    private final OcrProvider ocrProvider;
+    private final ReceiptAnalysisService receiptAnalysisService;
+    private final OcrProcessingService ocrProcessingService;
+    private final ReceiptDeduplicationService receiptDeduplicationService;
+    private final DownstreamLimiter downstreamLimiter;
+    private final FairTaskDispatcher fileProcessingDispatcher;
+    private final int maxFiles;
+    private final int concurrency;
+    private final Duration rawFlushWindow;
+
+    public OcrBatchService(S3FileUploadService s3FileUploadService,
+                           OcrProvider ocrProvider,
+                           ReceiptAnalysisService receiptAnalysisService,
+                           OcrProcessingService ocrProcessingService,
+                           ReceiptDeduplicationService receiptDeduplicationService,
+                           DownstreamLimiter downstreamLimiter,
+                           @Qualifier("fileProcessingDispatcher") FairTaskDispatcher fileProcessingDispatcher,
+                           @Value("${ocr.batch.max-files:50}") int maxFiles,
+                           @Value("${ocr.batch.concurrency:8}") int concurrency,
+                           @Value("${ocr.batch.raw-flush-window-ms:500}") long rawFlushWindowMillis) {
+        this.s3FileUploadService = s3FileUploadService;
+        this.ocrProvider = ocrProvider;
+        this.receiptAnalysisService = receiptAnalysisService;
+        this.ocrProcessingService = ocrProcessingService;
+        this.receiptDeduplicationService = receiptDeduplicationService;
+        this.downstreamLimiter = downstreamLimiter;
+        this.fileProcessingDispatcher = fileProcessingDispatcher;
+        this.maxFiles = maxFiles;
+        this.concurrency = Math.max(1, concurrency);
+        this.rawFlushWindow = Duration.ofMillis(rawFlushWindowMillis);
+    }
+
+    /**
+     * 일괄 처리 (영수증 한 장이 끝날 때마다 결과 발행)
+     *
+     * @param files 영수증 이미지 N장 또는 여러 페이지 PDF 1개
+     */
+    public Flux<OcrBatchItemResult> processBatch(Integer storeId, DocumentType documentType, List<MultipartFile> files) {
+        validateFiles(files);
+        String batchId = UUID.randomUUID().toString();
+        log.info("일괄 OCR 시작: batchId={}, storeId={}, 파일 {}개", batchId, storeId, files.size());
+
+        List<Integer> indexes = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            indexes.add(i);
+        }
+
+        return Flux.fromIterable(indexes)
+                .flatMap(index -> processFile(batchId, storeId, documentType, index, files.get(index)), concurrency)
+                .bufferTimeout(MAX_RAW_INSERT_SIZE, rawFlushWindow)
+                .concatMap(processed -> saveRawData(storeId, processed))
+                .doOnComplete(() -> log.info("일괄 OCR 완료: batchId={}", batchId));
+    }
+
+    /**
+     * 파일 하나: 중복 조회 → (새 이미지면) 업로드 → OCR → 페이지별 파싱/매칭 (실패하면 실패 결과 한 건)
+     */
+    private Flux<ProcessedReceipt> processFile(String batchId, Integer storeId, DocumentType documentType,
+                                               int index, MultipartFile file) {
+        long startedAt = System.nanoTime();
+        if (isPdf(file)) {
+            return recognizeFile(batchId, storeId, documentType, index, file, null, null, startedAt);
+        }
+
+        return onDispatcher(storeId, () -> receiptDeduplicationService.lookup(storeId, readBytes(file)))
+                .flatMapMany(lookup -> {
+                    OcrJobResult duplicate = lookup.getDuplicate();
+                    // 처리 중인 단건 작업과 겹친 경우는 결과가 없으므로 그대로 처리
+                    if (duplicate != null && duplicate.getStatus() == OcrJobStatus.COMPLETED) {
+                        return Flux.just(new ProcessedReceipt(OcrBatchItemResult.builder()
+                                .batchId(batchId)
+                                .fileIndex(index)
+                                .originalFileName(file.getOriginalFilename())
+                                .status(OcrJobStatus.COMPLETED)
+                                .ocrEngine(duplicate.getOcrEngine())
+                                .confidence(duplicate.getConfidence())
+                                .matchingResult(duplicate.getMatchingResult())
+                                .duplicate(true)
+                                .build(), null, null, startedAt));
+                    }
+                    return recognizeFile(batchId, storeId, documentType, index, file,
+                            lookup.getFingerprint(), lookup.getSimilarImageUrl(), startedAt);
+                })
+                .onErrorResume(e -> failed(batchId, index, file, e, startedAt));
+    }
+
+    private Flux<ProcessedReceipt> recognizeFile(String batchId, Integer storeId, DocumentType documentType,
+                                                 int index, MultipartFile file, ImageFingerprint fingerprint,
+                                                 String similarImageUrl, long startedAt) {
+        boolean multiPage = isPdf(file);
+
+        return onDispatcher(storeId, () -> s3FileUploadService.uploadDocumentFile(file, UPLOAD_DIRECTORY))
+                .flatMapMany(imageUrl -> onDispatcher(storeId, () -> downstreamLimiter.call(Downstream.OCR_PROVIDER,
+                                () -> ocrProvider.recognizePages(OcrImage.of(file.getOriginalFilename(), readBytes(file))).block()))
+                        .flatMapIterable(pages -> numberPages(pages, multiPage))
+                        .flatMap(page -> onDispatcher(storeId, () -> parseAndMatch(
+                                OcrBatchItemResult.builder()
+                                        .batchId(batchId)
+                                        .fileIndex(index)
+                                        .page(page.number)
+                                        .originalFileName(file.getOriginalFilename())
+                                        .imageUrl(imageUrl)
+                                        .ocrEngine(page.text.getEngine())
+                                        .confidence(page.text.getConfidence())
+                                        .possibleDuplicateImageUrl(similarImageUrl)
+                                        .build(),
+                                storeId, documentType, page.text, fingerprint, startedAt))))
+                .onErrorResume(e -> failed(batchId, index, file, e, startedAt));
+    }
+
+    private Mono<ProcessedReceipt> failed(String batchId, int index, MultipartFile file, Throwable e, long startedAt) {
+        log.warn("일괄 OCR 파일 처리 실패: batchId={}, 파일={}, 오류={}", batchId, file.getOriginalFilename(), e.getMessage());
+        return Mono.just(new ProcessedReceipt(OcrBatchItemResult.builder()
+                .batchId(batchId)
+                .fileIndex(index)
+                .originalFileName(file.getOriginalFilename())
+                .status(OcrJobStatus.FAILED)
+                .errorMessage(e.getMessage())
+                .processingTimeMs(elapsedMillis(startedAt))
+                .build(), null, null, startedAt));
+    }
+
+    private ProcessedReceipt parseAndMatch(OcrBatchItemResult result, Integer storeId, DocumentType documentType,
+                                           OcrText text, ImageFingerprint fingerprint, long startedAt) throws IOException {
+        List<ReceiptItem> receiptItems = receiptAnalysisService.extractReceiptItems(storeId, text.getLines());
+        OcrProcessingRequestDto request = OcrProcessingRequestDto.builder()
+                .storeId(storeId)
+                .documentType(documentType)
+                .rawOcrText(text.getText())
+                .imageUrl(result.getImageUrl())
+                .parsedItems(receiptItems.stream()
+                        .map(OcrProcessingRequestDto.OcrItemDto::from)
+                        .collect(Collectors.toList()))
+                .build();
+
+        OcrRawDataEntity rawData = ocrProcessingService.prepareRawData(request);
+        ProductMatchingResultDto matchingResult = ocrProcessingService.matchProducts(request, rawData.getRawDataId());
+        result.setMatchingResult(matchingResult);
+        result.setStatus(OcrJobStatus.COMPLETED);
+        return new ProcessedReceipt(result, rawData, fingerprint, startedAt);
+    }
+
+    /**
+     * 모인 영수증의 원본 데이터를 insertMany 한 번으로 저장하고 이미지 지문을 등록한 뒤 결과 발행 (저장 실패 시 해당 영수증은 실패 처리)
+     */
+    private Flux<OcrBatchItemResult> saveRawData(Integer storeId, List<ProcessedReceipt> processed) {
+        List<OcrRawDataEntity> rawData = processed.stream()
+                .map(receipt -> receipt.rawData)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Mono<Integer> insert = rawData.isEmpty() ? Mono.just(0) : onDispatcher(storeId, () -> {
+            downstreamLimiter.run(Downstream.MONGO, () -> ocrProcessingService.insertRawData(rawData));
+            receiptDeduplicationService.registerAll(processed.stream()
+                    .filter(receipt -> receipt.rawData != null && receipt.fingerprint != null)
+                    .map(ProcessedReceipt::toFingerprint)
+                    .collect(Collectors.toList()));
+            return rawData.size();
+        });
+
+        return insert
+                .doOnNext(count -> log.debug("일괄 OCR 원본 저장: {}건", count))
+                .thenMany(Flux.fromIterable(processed))
+                .onErrorResume(e -> {
+                    log.error("일괄 OCR 원본 저장 실패: {}건, 오류={}", rawData.size(), e.getMessage(), e);
+                    processed.stream()
+                            .filter(receipt -> receipt.rawData != null)
+                            .forEach(receipt -> {
+                                receipt.result.setStatus(OcrJobStatus.FAILED);
+                                receipt.result.setMatchingResult(null);
+                                receipt.result.setErrorMessage("원본 데이터 저장에 실패했습니다: " + e.getMessage());
+                            });
+                    return Flux.fromIterable(processed);
+                })
+                .map(receipt -> {
+                    receipt.result.setProcessingTimeMs(elapsedMillis(receipt.startedAt));
+                    return receipt.result;
+                });
+    }
+
+    /**
+     * 블로킹 작업을 파일 처리 분배기(BULK 레인)에서 실행
+     * 분배기가 작업을 버리면(실행기 종료 등) 거부 예외로 끝나 해당 영수증은 실패 결과가 됩니다.
+     */
+    private <T> Mono<T> onDispatcher(Integer storeId, Callable<T> task) {
+        return Mono.create(sink -> fileProcessingDispatcher.submit(TaskLane.BULK, storeId, () -> {
+            try {
+                sink.success(task.call());
+            } catch (Throwable e) {
+                sink.error(e);
+            }
+        }, sink::error));
+    }
+
+    private void validateFiles(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드할 파일이 없습니다.");
+        }
+        if (files.size() > maxFiles) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 최대 " + maxFiles + "개까지 업로드할 수 있습니다.");
+        }
+        if (files.size() > 1 && files.stream().anyMatch(this::isPdf)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "PDF는 한 번에 한 개만 업로드할 수 있습니다.");
+        }
+    }
+
+    private boolean isPdf(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+        return fileName != null && fileName.toLowerCase().endsWith(".pdf");
+    }
+
+    private static List<NumberedPage> numberPages(List<OcrText> pages, boolean multiPage) {
+        List<NumberedPage> numbered = new ArrayList<>(pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            numbered.add(new NumberedPage(multiPage ? i + 1 : null, pages.get(i)));
+        }
+        return numbered;
+    }
+
+    private static byte[] readBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new FileUploadException("업로드한 파일을 읽을 수 없습니다: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static final class NumberedPage {
+
+        private final Integer number;
+        private final OcrText text;
+
+        private NumberedPage(Integer number, OcrText text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+
+    private static final class ProcessedReceipt {
+
+        private final OcrBatchItemResult result;
+        private final OcrRawDataEntity rawData; // 실패했거나 중복인 영수증은 null
+        private final ImageFingerprint fingerprint; // PDF, 중복 검사 실패 시 null
+        private final long startedAt;
+
+        private ProcessedReceipt(OcrBatchItemResult result, OcrRawDataEntity rawData, ImageFingerprint fingerprint,
+                                 long startedAt) {
+            this.result = result;
+            this.rawData = rawData;
+            this.fingerprint = fingerprint;
+            this.startedAt = startedAt;
+        }
+
+        private ReceiptFingerprintEntity toFingerprint() {
+            return ReceiptFingerprintEntity.builder()
+                    .storeId(rawData.getStoreId())
+                    .contentHash(fingerprint.getContentHash())
+                    .perceptualHash(fingerprint.getPerceptualHash())
+                    .perceptualBands(fingerprint.getBands())
+                    .rawDataId(rawData.getRawDataId())
+                    .imageUrl(result.getImageUrl())
+                    .ocrEngine(result.getOcrEngine())
+                    .ocrConfidence(result.getConfidence())
+                    .result(result.getMatchingResult())
+                    .build();
+        }
+    }
+}
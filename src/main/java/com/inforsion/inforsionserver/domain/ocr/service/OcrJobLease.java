@@ -0,0 +1,129 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrJobEntity;
+import com.inforsion.inforsionserver.global.concurrent.Downstream;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * OCR 작업 임대(lease)
+ *
+ * 작업을 실행할 서버는 먼저 findAndModify 한 번으로 작업을 점유합니다.
+ * 미완료(PENDING/PROCESSING)이면서 임대가 없거나 만료된 작업(실행 직전에는 이 서버가 가진 작업 포함)만 점유되므로
+ * 여러 서버가 동시에 시작해도 같은 작업을 한 서버만 실행합니다.
+ * 실행 중에는 단계가 끝날 때마다 임대를 연장하고, 임대가 끝난 작업(서버 장애)은 다른 서버가 재개합니다.
+ */
+@Component
+public class OcrJobLease {
+
+    @Getter
+    private final String owner;
+    private final Duration duration;
+    private final MongoTemplate mongoTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+
+    public OcrJobLease(MongoTemplate mongoTemplate,
+                       DownstreamLimiter downstreamLimiter,
+                       @Value("${ocr.job.node-id:local}") String nodeId,
+                       @Value("${ocr.job.lease-seconds:600}") long leaseSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.downstreamLimiter = downstreamLimiter;
+        // 같은 호스트 이름으로 여러 프로세스가 떠도 구분되도록 실행마다 다른 값
+        this.owner = nodeId + ":" + UUID.randomUUID();
+        this.duration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 실행 직전 작업 점유 (원자적)
+     * 이 서버가 이미 임대한 작업(등록 직후, 재개로 점유한 작업)도 점유됩니다.
+     *
+     * @return 점유한 작업 (임대 반영 후), 다른 서버가 임대 중이거나 끝난 작업이면 null
+     */
+    public OcrJobEntity claim(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        return claim(jobId, now, new Criteria().orOperator(expired(now), Criteria.where("leaseOwner").is(owner)));
+    }
+
+    /**
+     * 재개할 작업 점유 (원자적, 임대가 없거나 만료된 작업만)
+     *
+     * @return 점유한 작업, 이미 누가(이 서버 포함) 임대 중이거나 끝난 작업이면 null
+     */
+    public OcrJobEntity claimExpired(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        return claim(jobId, now, expired(now));
+    }
+
+    /**
+     * 임대가 없거나 만료된 미완료 작업 ID (오래된 순)
+     */
+    public List<String> findExpiredJobIds(int limit) {
+        Query query = new Query(unfinished().andOperator(expired(LocalDateTime.now())))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                .limit(limit);
+        query.fields().include("_id");
+        return downstreamLimiter.call(Downstream.MONGO, () -> mongoTemplate.find(query, OcrJobEntity.class)).stream()
+                .map(OcrJobEntity::getId)
+                .toList();
+    }
+
+    /**
+     * 점유했지만 실행하지 못한 작업을 바로 다시 재개할 수 있게 임대 해제
+     */
+    public void unclaim(String jobId) {
+        Query query = new Query(Criteria.where("_id").is(jobId).and("leaseOwner").is(owner));
+        Update update = new Update().unset("leaseOwner").unset("leaseExpiresAt");
+        downstreamLimiter.run(Downstream.MONGO, () -> mongoTemplate.updateFirst(query, update, OcrJobEntity.class));
+    }
+
+    private OcrJobEntity claim(String jobId, LocalDateTime now, Criteria leaseCondition) {
+        Query query = new Query(Criteria.where("_id").is(jobId)
+                .andOperator(unfinished(), leaseCondition));
+        Update update = new Update()
+                .set("leaseOwner", owner)
+                .set("leaseExpiresAt", now.plus(duration));
+        return downstreamLimiter.call(Downstream.MONGO, () -> mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), OcrJobEntity.class));
+    }
+
+    private static Criteria unfinished() {
+        return Criteria.where("status").in(List.of(OcrJobStatus.PENDING, OcrJobStatus.PROCESSING));
+    }
+
+    // 임대 필드가 없는 예전 작업도 만료로 봄
+    private static Criteria expired(LocalDateTime now) {
+        return new Criteria().orOperator(
+                Criteria.where("leaseExpiresAt").is(null),
+                Criteria.where("leaseExpiresAt").lt(now));
+    }
+
+    /**
+     * 저장 직전에 호출해 임대 연장 (실행 중인 작업)
+     */
+    public void renew(OcrJobEntity job) {
+        job.setLeaseOwner(owner);
+        job.setLeaseExpiresAt(LocalDateTime.now().plus(duration));
+    }
+
+    /**
+     * 끝난 작업의 임대 해제
+     */
+    public void release(OcrJobEntity job) {
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
+    }
+}
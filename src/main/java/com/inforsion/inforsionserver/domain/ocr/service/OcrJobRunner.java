@@ -0,0 +1,171 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.client.OcrImage;
+import com.inforsion.inforsionserver.domain.ocr.client.OcrProvider;
+import com.inforsion.inforsionserver.domain.ocr.client.OcrText;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStage;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
+import com.inforsion.inforsionserver.domain.ocr.dto.ReceiptItem;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrJobEntity;
+import com.inforsion.inforsionserver.domain.ocr.mongo.repository.OcrJobRepository;
+import com.inforsion.inforsionserver.global.concurrent.Downstream;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
+import com.inforsion.inforsionserver.global.service.S3FileUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * OCR 작업 실행기
+ *
+ * ocrTaskDispatcher를 통해 ocrTaskExecutor에서 (이미지 인식 →) 원본 저장 → 품목 파싱 → 제품 매칭 단계를 순서대로 실행합니다.
+ * 이미지 인식은 헤징 OCR 엔진(ocrProvider)으로 수행하고, 결과를 낸 엔진과 소요 시간을 작업에 기록합니다.
+ * DB 트랜잭션 밖에서 실행되며, 각 단계가 끝날 때마다 진행률과 다음 단계를 MongoDB에 기록합니다.
+ * MongoDB 호출과 이미지 인식은 각각 DownstreamLimiter(MONGO, OCR_PROVIDER) 한도 안에서 실행합니다.
+ * 실행 전에 작업을 임대(OcrJobLease)로 점유하고, 다른 서버가 임대 중인 작업은 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcrJobRunner {
+
+    private static final int PROGRESS_RECOGNIZED = 20;
+    private static final int PROGRESS_RAW_STORED = 30;
+    private static final int PROGRESS_PARSED = 60;
+
+    private final OcrJobRepository ocrJobRepository;
+    private final OcrProcessingService ocrProcessingService;
+    private final ReceiptAnalysisService receiptAnalysisService;
+    private final CacheManager cacheManager;
+    private final DownstreamLimiter downstreamLimiter;
+    private final OcrProvider ocrProvider;
+    private final S3FileUploadService s3FileUploadService;
+    private final ReceiptDeduplicationService receiptDeduplicationService;
+    private final OcrJobLease ocrJobLease;
+
+    public void run(String jobId) {
+        // 끝났거나 다른 서버가 임대 중인 작업이면 null
+        OcrJobEntity job = ocrJobLease.claim(jobId);
+        if (job == null) {
+            log.debug("OCR 작업 건너뜀 (완료 또는 다른 서버에서 실행 중): jobId={}", jobId);
+            return;
+        }
+
+        try {
+            job.setStatus(OcrJobStatus.PROCESSING);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(LocalDateTime.now());
+            }
+            save(job);
+
+            OcrProcessingRequestDto request = job.getRequest();
+
+            // 0. 이미지 인식 (이미지로 등록된 작업)
+            if (job.getStage() == OcrJobStage.RECOGNIZE) {
+                OcrText text = recognize(request);
+                request.setRawOcrText(text.getText());
+                job.setOcrEngine(text.getEngine());
+                job.setOcrConfidence(text.getConfidence());
+                job.setProcessingTimeMs(text.getLatencyMs());
+                job.setHedged(text.isHedged());
+                advance(job, OcrJobStage.STORE_RAW, PROGRESS_RECOGNIZED);
+            }
+
+            // 1. 원본 저장 (작업 ID로 문서를 정하므로 저장 후 단계 기록 전에 중단됐다 재개되어도 같은 문서를 씀)
+            if (job.getStage() == OcrJobStage.STORE_RAW) {
+                job.setRawDataId(downstreamLimiter.call(Downstream.MONGO, () -> ocrProcessingService.saveRawData(request, jobId)));
+                advance(job, OcrJobStage.PARSE, PROGRESS_RAW_STORED);
+            }
+
+            // 2. 품목 파싱 (요청에 파싱된 품목이 없으면 원문에서 추출)
+            if (job.getStage() == OcrJobStage.PARSE) {
+                if ((request.getParsedItems() == null || request.getParsedItems().isEmpty())
+                        && request.getRawOcrText() != null) {
+                    request.setParsedItems(parseItems(request));
+                }
+                advance(job, OcrJobStage.MATCH, PROGRESS_PARSED);
+            }
+
+            // 3. 제품 매칭
+            if (job.getStage() == OcrJobStage.MATCH) {
+                job.setResult(ocrProcessingService.matchProducts(request, job.getRawDataId()));
+                job.setStatus(OcrJobStatus.COMPLETED);
+                job.setCompletedAt(LocalDateTime.now());
+                ocrJobLease.release(job);
+                advance(job, OcrJobStage.DONE, 100);
+            }
+
+            log.info("OCR 작업 완료: jobId={}, rawDataId={}", jobId, job.getRawDataId());
+
+        } catch (Exception e) {
+            log.error("OCR 작업 실패: jobId={}, 단계={}, 오류={}", jobId, job.getStage(), e.getMessage(), e);
+            job.setStatus(OcrJobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+            job.setProgress(-1);
+            job.setCompletedAt(LocalDateTime.now());
+            ocrJobLease.release(job);
+            save(job);
+            // 같은 이미지를 다시 올리면 실패한 결과 대신 새로 처리
+            if (job.getRequest() != null && job.getRequest().getImageUrl() != null) {
+                receiptDeduplicationService.forgetJob(jobId);
+            }
+        }
+    }
+
+    private OcrText recognize(OcrProcessingRequestDto request) {
+        byte[] image = s3FileUploadService.downloadFile(request.getImageUrl());
+        String fileName = request.getImageUrl().substring(request.getImageUrl().lastIndexOf('/') + 1);
+        return downstreamLimiter.call(Downstream.OCR_PROVIDER,
+                () -> ocrProvider.recognize(OcrImage.of(fileName, image)).block());
+    }
+
+    private List<OcrProcessingRequestDto.OcrItemDto> parseItems(OcrProcessingRequestDto request) {
+        List<String> lines = Arrays.asList(request.getRawOcrText().split("\\r?\\n"));
+        List<ReceiptItem> receiptItems = receiptAnalysisService.extractReceiptItems(request.getStoreId(), lines);
+
+        return receiptItems.stream()
+                .map(OcrProcessingRequestDto.OcrItemDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private void advance(OcrJobEntity job, OcrJobStage nextStage, int progress) {
+        job.setStage(nextStage);
+        job.setProgress(progress);
+        save(job);
+    }
+
+    /**
+     * 접수되지 않은 작업 삭제 (MongoDB + ocrJobStatus 캐시)
+     */
+    void delete(OcrJobEntity job) {
+        downstreamLimiter.run(Downstream.MONGO, () -> ocrJobRepository.deleteById(job.getId()));
+        Cache cache = cacheManager.getCache("ocrJobStatus");
+        if (cache != null) {
+            cache.evict(job.getId());
+        }
+    }
+
+    /**
+     * 작업 상태 저장 (MongoDB + ocrJobStatus 캐시)
+     * 실행 중인 작업은 저장할 때마다 임대를 연장합니다.
+     */
+    void save(OcrJobEntity job) {
+        if (job.getStatus() == OcrJobStatus.PENDING || job.getStatus() == OcrJobStatus.PROCESSING) {
+            ocrJobLease.renew(job);
+        }
+        downstreamLimiter.call(Downstream.MONGO, () -> ocrJobRepository.save(job));
+        Cache cache = cacheManager.getCache("ocrJobStatus");
+        if (cache != null) {
+            cache.put(job.getId(), OcrJobResult.from(job));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStage;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrJobEntity;
+import com.inforsion.inforsionserver.domain.ocr.mongo.repository.OcrJobRepository;
+import com.inforsion.inforsionserver.global.concurrent.FairTaskDispatcher;
+import com.inforsion.inforsionserver.global.concurrent.TaskLane;
+import com.inforsion.inforsionserver.global.enums.DocumentType;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import com.inforsion.inforsionserver.global.error.exception.FileUploadException;
+import com.inforsion.inforsionserver.global.error.exception.TooManyRequestsException;
+import com.inforsion.inforsionserver.global.service.S3FileUploadService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 OCR 작업 관리
+ *
+ * 작업을 MongoDB에 기록한 뒤 바로 jobId를 반환하고, 실제 처리는 OcrJobRunner가 ocrTaskExecutor에서 수행합니다.
+ * 사용자 요청은 INTERACTIVE 레인, 재시작 후 재개 작업은 BULK 레인으로 매장 단위 공정 분배기(ocrTaskDispatcher)에 제출합니다.
+ * 서버 시작 시와 주기적으로, 임대가 끝난 미완료 작업(PENDING/PROCESSING)을 점유해 다시 실행합니다.
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+
+    private static final int RESUME_BATCH_SIZE = 1000;
+
+    private final OcrJobRepository ocrJobRepository;
+    private final OcrJobRunner ocrJobRunner;
+    private final FairTaskDispatcher ocrTaskDispatcher;
+    private final S3FileUploadService s3FileUploadService;
+    private final ReceiptDeduplicationService receiptDeduplicationService;
+    private final OcrJobLease ocrJobLease;
+    private final boolean resumeOnStartup;
+    private final long resumeIntervalSeconds;
+    private ScheduledExecutorService resumer;
+
+    public OcrJobService(OcrJobRepository ocrJobRepository,
+                         OcrJobRunner ocrJobRunner,
+                         OcrJobLease ocrJobLease,
+                         @Qualifier("ocrTaskDispatcher") FairTaskDispatcher ocrTaskDispatcher,
+                         S3FileUploadService s3FileUploadService,
+                         ReceiptDeduplicationService receiptDeduplicationService,
+                         @Value("${ocr.job.resume-on-startup:true}") boolean resumeOnStartup,
+                         @Value("${ocr.job.resume-interval-seconds:60}") long resumeIntervalSeconds) {
+        this.ocrJobRepository = ocrJobRepository;
+        this.ocrJobRunner = ocrJobRunner;
+        this.ocrTaskDispatcher = ocrTaskDispatcher;
+        this.s3FileUploadService = s3FileUploadService;
+        this.receiptDeduplicationService = receiptDeduplicationService;
+        this.ocrJobLease = ocrJobLease;
+        this.resumeOnStartup = resumeOnStartup;
+        this.resumeIntervalSeconds = resumeIntervalSeconds;
+    }
+
+    /**
+     * OCR 작업 등록
+     *
+     * @return 대기 상태의 작업 (jobId 포함)
+     * @throws TooManyRequestsException OCR 대기열이 가득 찬 경우 (429, Retry-After)
+     */
+    public OcrJobResult submitJob(OcrProcessingRequestDto requestDto) {
+        OcrJobEntity job = createJob(requestDto, null);
+        dispatch(job);
+        return OcrJobResult.from(job);
+    }
+
+    /**
+     * 영수증 이미지로 OCR 작업 등록 (이미지는 S3에 올린 뒤 작업에서 인식)
+     * 같은 매장에서 이미 처리했거나 처리 중인 이미지 파일이면 업로드/OCR 없이 기존 작업 결과를 돌려줍니다. (duplicate=true)
+     * pHash만 가까운 이미지는 그대로 처리하고 가까운 이미지 주소를 작업에 남깁니다. (possibleDuplicateImageUrl)
+     *
+     * @throws TooManyRequestsException OCR 대기열이 가득 찬 경우 (429, Retry-After)
+     */
+    public OcrJobResult submitImageJob(Integer storeId, DocumentType documentType, MultipartFile image) {
+        ReceiptDeduplicationService.Lookup lookup = receiptDeduplicationService.lookup(storeId, readBytes(image));
+        if (lookup.isDuplicate()) {
+            OcrJobResult duplicate = lookup.getDuplicate();
+            duplicate.setOriginalFileName(image.getOriginalFilename());
+            duplicate.setFileSizeBytes(image.getSize());
+            return duplicate;
+        }
+
+        String imageUrl = s3FileUploadService.uploadImageFile(image, "receipts");
+        OcrProcessingRequestDto requestDto = OcrProcessingRequestDto.builder()
+                .storeId(storeId)
+                .documentType(documentType)
+                .imageUrl(imageUrl)
+                .build();
+
+        OcrJobEntity job = createJob(requestDto, lookup.getSimilarImageUrl());
+        // 실행 전에 지문을 등록해야 그사이 같은 이미지가 올라와도 이 작업을 찾음
+        receiptDeduplicationService.register(storeId, lookup.getFingerprint(), job.getId(), imageUrl);
+        try {
+            dispatch(job);
+        } catch (TooManyRequestsException e) {
+            receiptDeduplicationService.forgetJob(job.getId());
+            s3FileUploadService.deleteFile(imageUrl);
+            throw e;
+        }
+
+        OcrJobResult result = OcrJobResult.from(job);
+        result.setOriginalFileName(image.getOriginalFilename());
+        result.setFileSizeBytes(image.getSize());
+        return result;
+    }
+
+    private OcrJobEntity createJob(OcrProcessingRequestDto requestDto, String possibleDuplicateImageUrl) {
+        OcrJobEntity job = OcrJobEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .status(OcrJobStatus.PENDING)
+                .stage(needsRecognition(requestDto) ? OcrJobStage.RECOGNIZE : OcrJobStage.STORE_RAW)
+                .progress(0)
+                .request(requestDto)
+                .possibleDuplicateImageUrl(possibleDuplicateImageUrl)
+                .createdAt(LocalDateTime.now())
+                .build();
+        ocrJobRunner.save(job);
+        return job;
+    }
+
+    /**
+     * @throws TooManyRequestsException OCR 대기열이 가득 찬 경우 (작업은 삭제)
+     */
+    private void dispatch(OcrJobEntity job) {
+        Integer storeId = job.getRequest().getStoreId();
+        try {
+            ocrTaskDispatcher.submit(TaskLane.INTERACTIVE, storeId, () -> ocrJobRunner.run(job.getId()));
+        } catch (TooManyRequestsException e) {
+            // 접수되지 않은 작업은 남기지 않음 (클라이언트가 Retry-After 후 다시 등록)
+            ocrJobRunner.delete(job);
+            throw e;
+        }
+        log.info("OCR 작업 등록: jobId={}, storeId={}", job.getId(), storeId);
+    }
+
+    private static byte[] readBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new FileUploadException("업로드한 파일을 읽을 수 없습니다: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private boolean needsRecognition(OcrProcessingRequestDto requestDto) {
+        return requestDto.getImageUrl() != null && requestDto.getRawOcrText() == null
+                && (requestDto.getParsedItems() == null || requestDto.getParsedItems().isEmpty());
+    }
+
+    /**
+     * OCR 작업 상태 조회
+     */
+    @Cacheable(value = "ocrJobStatus", key = "#jobId")
+    public OcrJobResult getJob(String jobId) {
+        return ocrJobRepository.findById(jobId)
+                .map(OcrJobResult::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.OCR_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 끝나지 않은 작업 재개 (서버 시작 시 + resume-interval-seconds 주기)
+     * 임대가 없거나 만료된 작업만 하나씩 점유(OcrJobLease)한 뒤 제출하므로, 여러 서버가 함께 돌아도 한 서버만 재개합니다.
+     * 장애로 멈춘 서버의 작업은 임대가 끝난 뒤의 주기에서 재개됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startResuming() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        resumer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ocr-job-resume");
+            thread.setDaemon(true);
+            return thread;
+        });
+        resumer.scheduleWithFixedDelay(this::resumeExpiredJobs, 0, resumeIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (resumer != null) {
+            resumer.shutdownNow();
+        }
+    }
+
+    void resumeExpiredJobs() {
+        List<String> jobIds;
+        try {
+            jobIds = ocrJobLease.findExpiredJobIds(RESUME_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("미완료 OCR 작업 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        int resumed = 0;
+        for (String jobId : jobIds) {
+            OcrJobEntity job;
+            try {
+                job = ocrJobLease.claimExpired(jobId);
+            } catch (Exception e) {
+                log.warn("OCR 작업 점유 실패: jobId={}, {}", jobId, e.getMessage());
+                break;
+            }
+            if (job == null) {
+                continue; // 다른 서버가 먼저 점유했거나 그사이 끝남
+            }
+
+            try {
+                Integer storeId = job.getRequest() != null ? job.getRequest().getStoreId() : null;
+                ocrTaskDispatcher.submit(TaskLane.BULK, storeId, () -> ocrJobRunner.run(jobId));
+                resumed++;
+            } catch (TooManyRequestsException e) {
+                // 대기열이 가득 차면 점유를 풀고 남은 작업은 다음 주기에 재개
+                ocrJobLease.unclaim(jobId);
+                log.warn("OCR 작업 재개 중단 (대기열 포화): 남은 작업 {}개", jobIds.size() - resumed);
+                break;
+            }
+        }
+
+        if (resumed > 0) {
+            log.info("미완료 OCR 작업 {}개 재개", resumed);
+        }
+    }
+}
@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inforsion.inforsionserver.domain.ocr.dto.OcrConfirmationRequestDto;
 import com.inforsion.inforsionserver.domain.ocr.dto.OcrProcessingRequestDto;
 import com.inforsion.inforsionserver.domain.ocr.dto.ProductMatchingResultDto;
+import com.inforsion.inforsionserver.domain.ocr.matching.MenuCatalog;
+import com.inforsion.inforsionserver.domain.ocr.matching.MenuCatalogCache;
+import com.inforsion.inforsionserver.domain.ocr.matching.MenuEntry;
+import com.inforsion.inforsionserver.domain.ocr.matching.NameSimilarity;
 import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrRawDataEntity;
 import com.inforsion.inforsionserver.domain.ocr.mongo.repository.OcrRawDataRepository;
 import com.inforsion.inforsionserver.domain.ocr.mysql.entity.OcrResultEntity;
@@ -16,15 +20,24 @@ import com.inforsion.inforsionserver.domain.recipe.repository.RecipeRepository;
 import com.inforsion.inforsionserver.domain.store.entity.StoreEntity;
 import com.inforsion.inforsionserver.domain.store.repository.StoreRepository;
 import com.inforsion.inforsionserver.global.enums.MatchMethod;
+import com.inforsion.inforsionserver.global.id.MongoBlockIdAllocator;
 import com.inforsion.inforsionserver.global.enums.MatchType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,19 +51,31 @@ public class OcrProcessingService {
     private final StoreRepository storeRepository;
     private final RecipeRepository recipeRepository;
     private final InventoryUpdateService inventoryUpdateService;
+    private final MenuCatalogCache menuCatalogCache;
     private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
+    private final MongoBlockIdAllocator rawDataIdAllocator;
+
+    // n-gram 색인으로 추린 뒤 유사도를 계산할 최대 후보 수
+    private static final int CANDIDATE_SHORTLIST_SIZE = 20;
+    // 후보로 인정하는 최소 유사도
+    private static final double MIN_CANDIDATE_SIMILARITY = 0.5;
+    // 작업에서 저장한 원본 데이터의 문서 ID 접두사 (ObjectId 형식이 아니므로 문자열 그대로 저장됨)
+    private static final String JOB_RAW_DATA_ID_PREFIX = "job-";
 
     /**
      * 1단계: OCR 원본 데이터를 MongoDB에 저장
+     *
+     * 동기 처리용입니다. MongoDB 저장과 조회만 수행하므로 JDBC 트랜잭션을 열지 않습니다.
+     * 요청 스레드를 점유하지 않으려면 OcrJobService.submitJob을 사용합니다.
      */
-    @Transactional
     public ProductMatchingResultDto processOcrData(OcrProcessingRequestDto requestDto) {
         try {
             // 1. MongoDB에 원본 데이터 저장
             Integer rawDataId = saveRawData(requestDto);
             
             // 2. 제품 매칭 수행
-            ProductMatchingResultDto matchingResult = performProductMatching(requestDto, rawDataId);
+            ProductMatchingResultDto matchingResult = matchProducts(requestDto, rawDataId);
             
             return matchingResult;
             
@@ -61,41 +86,96 @@ public class OcrProcessingService {
     }
 
     /**
-     * MongoDB에 원본 데이터 저장
+     * MongoDB에 원본 데이터 저장 (rawDataId를 먼저 할당하고 insert 한 번)
+     *
+     * @return 생성된 rawDataId
      */
-    private Integer saveRawData(OcrProcessingRequestDto requestDto) throws JsonProcessingException {
+    public Integer saveRawData(OcrProcessingRequestDto requestDto) throws JsonProcessingException {
+        OcrRawDataEntity rawDataEntity = buildRawData(requestDto);
+        rawDataEntity.setRawDataId(nextRawDataId());
+        ocrRawDataRepository.insert(rawDataEntity);
+        return rawDataEntity.getRawDataId();
+    }
+
+    /**
+     * OCR 작업의 원본 데이터 저장 (작업당 한 번)
+     *
+     * 문서 ID를 작업 ID로 정하므로, 저장 후 단계를 기록하기 전에 중단된 작업이 임대 만료 뒤 다시 실행되어도
+     * 두 번째 문서를 만들지 않고 처음 저장한 문서의 rawDataId를 돌려줍니다.
+     *
+     * @return 작업의 rawDataId
+     */
+    public Integer saveRawData(OcrProcessingRequestDto requestDto, String jobId) throws JsonProcessingException {
+        String id = JOB_RAW_DATA_ID_PREFIX + jobId;
+        Optional<OcrRawDataEntity> saved = ocrRawDataRepository.findById(id);
+        if (saved.isPresent()) {
+            return saved.get().getRawDataId();
+        }
+
+        OcrRawDataEntity rawDataEntity = buildRawData(requestDto);
+        rawDataEntity.setId(id);
+        rawDataEntity.setRawDataId(nextRawDataId());
+        // id가 미리 정해져 있으면 auditing이 새 문서로 보지 않으므로 생성 시각을 직접 설정
+        rawDataEntity.setCreatedAt(LocalDateTime.now());
+        try {
+            ocrRawDataRepository.insert(rawDataEntity);
+            return rawDataEntity.getRawDataId();
+        } catch (DuplicateKeyException e) {
+            // 임대가 만료된 작업을 다른 서버가 동시에 저장한 경우 (할당한 rawDataId는 건너뜀)
+            return ocrRawDataRepository.findById(id)
+                    .map(OcrRawDataEntity::getRawDataId)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 일괄 저장용 원본 데이터 생성 (저장하지 않음)
+     *
+     * ObjectId와 rawDataId를 미리 정해 두므로, 매칭 결과에 rawDataId를 먼저 넣고 저장은 insertRawData로 모아서 합니다.
+     */
+    public OcrRawDataEntity prepareRawData(OcrProcessingRequestDto requestDto) throws JsonProcessingException {
+        OcrRawDataEntity rawDataEntity = buildRawData(requestDto);
+        String id = new ObjectId().toHexString();
+        rawDataEntity.setId(id);
+        rawDataEntity.setRawDataId(nextRawDataId());
+        // id가 미리 정해져 있으면 auditing이 새 문서로 보지 않으므로 생성 시각을 직접 설정
+        rawDataEntity.setCreatedAt(LocalDateTime.now());
+        return rawDataEntity;
+    }
+
+    /**
+     * 원본 데이터 일괄 저장 (insertMany 한 번)
+     */
+    public void insertRawData(List<OcrRawDataEntity> rawDataEntities) {
+        if (!rawDataEntities.isEmpty()) {
+            mongoTemplate.insert(rawDataEntities, OcrRawDataEntity.class);
+        }
+    }
+
+    private OcrRawDataEntity buildRawData(OcrProcessingRequestDto requestDto) throws JsonProcessingException {
         // 파싱된 아이템들을 JSON으로 변환
         String parsedItemJson = objectMapper.writeValueAsString(requestDto.getParsedItems());
         
-        OcrRawDataEntity rawDataEntity = OcrRawDataEntity.builder()
+        return OcrRawDataEntity.builder()
                 .storeId(requestDto.getStoreId())
                 .documentType(requestDto.getDocumentType())
                 .rawOcrText(requestDto.getRawOcrText())
+                .imageUrl(requestDto.getImageUrl())
                 .parsedItem(parsedItemJson)
                 .supplierName(requestDto.getSupplierName())
                 .documentDate(requestDto.getDocumentDate())
                 .build();
-                
-        // MongoDB에 저장하고 자동 증가된 rawDataId 설정
-        OcrRawDataEntity savedEntity = ocrRawDataRepository.save(rawDataEntity);
-        
-        // MongoDB의 ObjectId를 기반으로 rawDataId 생성 (간단한 해시 또는 순번 사용)
-        Integer rawDataId = generateRawDataId(savedEntity.getId());
-        savedEntity.setRawDataId(rawDataId);
-        ocrRawDataRepository.save(savedEntity);
-        
-        return rawDataId;
     }
 
     /**
      * 제품 매칭 수행
      */
-    private ProductMatchingResultDto performProductMatching(OcrProcessingRequestDto requestDto, Integer rawDataId) {
-        List<ProductEntity> storeProducts = productRepository.findByStoreId(requestDto.getStoreId());
+    public ProductMatchingResultDto matchProducts(OcrProcessingRequestDto requestDto, Integer rawDataId) {
+        MenuCatalog catalog = menuCatalogCache.getCatalog(requestDto.getStoreId());
         List<ProductMatchingResultDto.MatchedItemDto> matchedItems = new ArrayList<>();
         
         for (OcrProcessingRequestDto.OcrItemDto ocrItem : requestDto.getParsedItems()) {
-            List<ProductMatchingResultDto.ProductCandidateDto> candidates = findProductCandidates(ocrItem, storeProducts);
+            List<ProductMatchingResultDto.ProductCandidateDto> candidates = findProductCandidates(ocrItem, catalog);
             
             ProductMatchingResultDto.MatchedItemDto matchedItem = ProductMatchingResultDto.MatchedItemDto.builder()
                     .ocrItemName(ocrItem.getItemName())
@@ -125,82 +205,54 @@ public class OcrProcessingService {
     }
 
     /**
-     * 제품 후보 찾기 (유사도 기반)
+     * 제품 후보 찾기 (n-gram 색인으로 추린 후 유사도 기반)
      */
     private List<ProductMatchingResultDto.ProductCandidateDto> findProductCandidates(
-            OcrProcessingRequestDto.OcrItemDto ocrItem, List<ProductEntity> storeProducts) {
-        
-        return storeProducts.stream()
-                .map(product -> {
-                    double similarity = calculateSimilarity(ocrItem.getItemName(), product.getName());
-                    boolean exactMatch = similarity >= 0.9; // 90% 이상 유사하면 정확한 매치로 간주
-                    
-                    return ProductMatchingResultDto.ProductCandidateDto.builder()
-                            .productId(product.getId())
-                            .productName(product.getName())
-                            .price(product.getPrice())
-                            .similarityScore(similarity)
-                            .exactMatch(exactMatch)
-                            .build();
-                })
-                .filter(candidate -> candidate.getSimilarityScore() >= 0.5) // 50% 이상 유사한 것만 후보로
-                .sorted((a, b) -> Double.compare(b.getSimilarityScore(), a.getSimilarityScore())) // 유사도 높은 순으로 정렬
-                .limit(5) // 상위 5개만
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 문자열 유사도 계산 (레벤슈타인 거리 기반)
-     */
-    private double calculateSimilarity(String str1, String str2) {
-        if (str1 == null || str2 == null) return 0.0;
+            OcrProcessingRequestDto.OcrItemDto ocrItem, MenuCatalog catalog) {
         
-        str1 = str1.toLowerCase().trim();
-        str2 = str2.toLowerCase().trim();
-        
-        if (str1.equals(str2)) return 1.0;
+        if (ocrItem.getItemName() == null) {
+            return new ArrayList<>();
+        }
         
-        int maxLength = Math.max(str1.length(), str2.length());
-        if (maxLength == 0) return 1.0;
+        int[] shortlist = catalog.shortlist(ocrItem.getItemName(), CANDIDATE_SHORTLIST_SIZE);
+        String normalizedItemName = NameSimilarity.normalize(ocrItem.getItemName());
+        List<ProductMatchingResultDto.ProductCandidateDto> candidates = new ArrayList<>(shortlist.length);
         
-        int levenshteinDistance = calculateLevenshteinDistance(str1, str2);
-        return 1.0 - (double) levenshteinDistance / maxLength;
-    }
-
-    /**
-     * 레벤슈타인 거리 계산
-     */
-    private int calculateLevenshteinDistance(String str1, String str2) {
-        int[][] dp = new int[str1.length() + 1][str2.length() + 1];
-        
-        for (int i = 0; i <= str1.length(); i++) {
-            for (int j = 0; j <= str2.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = Math.min(Math.min(
-                            dp[i - 1][j] + 1,      // deletion
-                            dp[i][j - 1] + 1),    // insertion
-                            dp[i - 1][j - 1] + (str1.charAt(i - 1) == str2.charAt(j - 1) ? 0 : 1)); // substitution
-                }
+        for (int index : shortlist) {
+            MenuEntry menu = catalog.get(index);
+            // 50% 이상 유사한 것만 후보로 (컷오프에 못 미치면 계산을 조기 종료하고 0.0 반환)
+            double similarity = NameSimilarity.similarity(menu.getPattern(), normalizedItemName, MIN_CANDIDATE_SIMILARITY);
+            if (similarity < MIN_CANDIDATE_SIMILARITY) {
+                continue;
             }
+            
+            candidates.add(ProductMatchingResultDto.ProductCandidateDto.builder()
+                    .productId(menu.getProductId())
+                    .productName(menu.getName())
+                    .price(menu.getPrice())
+                    .similarityScore(similarity)
+                    .exactMatch(similarity >= 0.9) // 90% 이상 유사하면 정확한 매치로 간주
+                    .build());
         }
         
-        return dp[str1.length()][str2.length()];
+        return candidates.stream()
+                .sorted((a, b) -> Double.compare(b.getSimilarityScore(), a.getSimilarityScore())) // 유사도 높은 순으로 정렬
+                .limit(5) // 상위 5개만
+                .collect(Collectors.toList());
     }
 
     /**
-     * MongoDB ObjectId를 기반으로 rawDataId 생성
+     * rawDataId 할당 (MySQL raw_data_id가 INT이므로 범위를 넘으면 실패)
      */
-    private Integer generateRawDataId(String mongoId) {
-        // 간단한 해시 기반 ID 생성 (실제로는 더 정교한 방법 사용 가능)
-        return Math.abs(mongoId.hashCode() % 1000000);
+    private Integer nextRawDataId() {
+        return Math.toIntExact(rawDataIdAllocator.nextId());
     }
 
     /**
      * 3단계: 사용자 확인/수정 후 MySQL에 저장하고 재고 업데이트
+     *
+     * 아이템 수와 관계없이 테이블마다 한 번씩 왕복합니다.
+     * 선택 제품 findAllById 한 번 → OCR 결과 JDBC 배치 insert 한 번 → 재고 일괄 반영(InventoryUpdateService.applyOcrResults)
      */
     @Transactional
     public void confirmOcrResults(OcrConfirmationRequestDto confirmationDto) {
@@ -212,13 +264,24 @@ public class OcrProcessingService {
             StoreEntity store = storeRepository.findById(rawData.getStoreId())
                     .orElseThrow(() -> new IllegalArgumentException("매장을 찾을 수 없습니다: " + rawData.getStoreId()));
             
-            // 각 확정된 아이템을 MySQL에 저장하고 재고 업데이트
-            for (OcrConfirmationRequestDto.ConfirmedItemDto confirmedItem : confirmationDto.getConfirmedItems()) {
-                saveOcrResultToMySQL(rawData, store, confirmedItem);
-            }
+            List<OcrConfirmationRequestDto.ConfirmedItemDto> confirmedItems = confirmationDto.getConfirmedItems();
+            
+            // 선택된 제품 한 번에 조회
+            Set<Integer> productIds = confirmedItems.stream()
+                    .map(OcrConfirmationRequestDto.ConfirmedItemDto::getSelectedProductId)
+                    .collect(Collectors.toSet());
+            Map<Integer, ProductEntity> products = productRepository.findAllById(productIds).stream()
+                    .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+            
+            // 확정된 아이템을 MySQL에 일괄 저장하고 재고 업데이트
+            List<OcrResultEntity> ocrResults = confirmedItems.stream()
+                    .map(confirmedItem -> toOcrResult(rawData, store, confirmedItem, products))
+                    .collect(Collectors.toList());
+            ocrResultRepository.insertAll(ocrResults);
+            inventoryUpdateService.applyOcrResults(ocrResults);
             
             log.info("OCR 결과 확정 완료: rawDataId={}, 아이템 수={}", 
-                    confirmationDto.getRawDataId(), confirmationDto.getConfirmedItems().size());
+                    confirmationDto.getRawDataId(), confirmedItems.size());
                     
         } catch (Exception e) {
             log.error("OCR 결과 확정 중 오류 발생: {}", e.getMessage(), e);
@@ -227,14 +290,17 @@ public class OcrProcessingService {
     }
 
     /**
-     * 확정된 OCR 결과를 MySQL에 저장
+     * 확정된 아이템 → MySQL에 저장할 OCR 결과
      */
-    private void saveOcrResultToMySQL(OcrRawDataEntity rawData, StoreEntity store, 
-                                     OcrConfirmationRequestDto.ConfirmedItemDto confirmedItem) {
+    private OcrResultEntity toOcrResult(OcrRawDataEntity rawData, StoreEntity store,
+                                        OcrConfirmationRequestDto.ConfirmedItemDto confirmedItem,
+                                        Map<Integer, ProductEntity> products) {
         
-        // 선택된 제품 정보 조회
-        ProductEntity selectedProduct = productRepository.findById(confirmedItem.getSelectedProductId())
-                .orElseThrow(() -> new IllegalArgumentException("선택된 제품을 찾을 수 없습니다: " + confirmedItem.getSelectedProductId()));
+        // 선택된 제품 정보
+        ProductEntity selectedProduct = products.get(confirmedItem.getSelectedProductId());
+        if (selectedProduct == null) {
+            throw new IllegalArgumentException("선택된 제품을 찾을 수 없습니다: " + confirmedItem.getSelectedProductId());
+        }
         
         // 매치 방법 결정 (사용자가 수정했는지 여부에 따라)
         MatchMethod matchMethod = (confirmedItem.getCorrectedItemName() != null && 
@@ -244,8 +310,7 @@ public class OcrProcessingService {
         // 매치 타입 결정 (제품 매칭이므로 Menu)
         MatchType matchType = MatchType.MENU;
         
-        // OCR 결과 엔티티 생성
-        OcrResultEntity ocrResult = OcrResultEntity.builder()
+        return OcrResultEntity.builder()
                 .store(store)
                 .rawDataId(rawData.getRawDataId())
                 .ocrItemName(confirmedItem.getCorrectedItemName() != null ? 
@@ -257,15 +322,6 @@ public class OcrProcessingService {
                 .totalAmount(BigDecimal.valueOf(confirmedItem.getTotalAmount()))
                 .matchMethod(matchMethod)
                 .build();
-        
-        // MySQL에 저장
-        OcrResultEntity savedResult = ocrResultRepository.save(ocrResult);
-        
-        // 재고 업데이트
-        inventoryUpdateService.updateInventoryFromOcr(savedResult);
-        
-        log.info("OCR 결과 MySQL 저장 완료: {}, 제품: {}, 수량: {}", 
-                savedResult.getOcrId(), selectedProduct.getName(), confirmedItem.getQuantity());
     }
 
     /**
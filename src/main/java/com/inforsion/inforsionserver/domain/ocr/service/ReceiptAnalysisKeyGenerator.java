@@ -0,0 +1,61 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.matching.MenuCatalogCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * receiptAnalysis 캐시 키 생성기
+ *
+ * 키 = "매장ID:상품 세대:라인 목록 SHA-256"
+ * hashCode 기반 키는 서로 다른 영수증이 같은 값을 가질 수 있어 다른 영수증의 결과를 돌려줄 수 있습니다.
+ * 각 라인은 길이를 앞에 붙여 다이제스트에 넣으므로 라인 경계가 달라지는 경우도 구분됩니다.
+ * 상품 세대(MenuCatalogCache.generation)는 매장 상품이 추가/수정/삭제될 때마다 오르므로,
+ * 자주 반복되는 영수증도 상품이 바뀐 뒤에는 새 메뉴 목록으로 다시 분석됩니다.
+ */
+@Component("receiptAnalysisKeyGenerator")
+@RequiredArgsConstructor
+public class ReceiptAnalysisKeyGenerator implements KeyGenerator {
+
+    private final MenuCatalogCache menuCatalogCache;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Integer storeId = (Integer) params[0];
+        @SuppressWarnings("unchecked")
+        List<String> extractedLines = (List<String>) params[1];
+        return storeId + ":" + menuCatalogCache.generation(storeId) + ":" + digest(extractedLines);
+    }
+
+    static String digest(List<String> lines) {
+        MessageDigest digest = newDigest();
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        for (String line : lines) {
+            if (line == null) {
+                digest.update(length.clear().putInt(-1).array());
+                continue;
+            }
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            digest.update(length.clear().putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
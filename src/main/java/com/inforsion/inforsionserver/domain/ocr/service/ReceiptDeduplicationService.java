@@ -0,0 +1,259 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStage;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.domain.ocr.fingerprint.ImageFingerprint;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.ReceiptFingerprintEntity;
+import com.inforsion.inforsionserver.domain.ocr.mongo.repository.OcrJobRepository;
+import com.inforsion.inforsionserver.domain.ocr.mongo.repository.ReceiptFingerprintRepository;
+import com.inforsion.inforsionserver.global.concurrent.Downstream;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 영수증 이미지 중복 업로드 감지
+ *
+ * 매장마다 최근 처리한 이미지 지문(ocr_fingerprints)을 보관하고, 같은 이미지가 다시 올라오면 OCR 호출 없이 기존 결과를 돌려줍니다.
+ * 1. 내용 해시(SHA-256)가 같은 지문 → 같은 파일이므로 기존 결과 재사용
+ * 2. 없으면 pHash 밴드가 하나라도 같은 최근 지문 중 해밍 거리 max-distance 이하인 가장 가까운 것 → 중복일 수 있음
+ * 영수증은 서로 비슷하게 생겨 다른 영수증도 pHash가 가깝게 나올 수 있으므로, 근접 일치는 결과를 재사용하지 않고
+ * 그대로 OCR 처리하면서 가까운 이미지 주소만 알려줍니다. (possibleDuplicate, 확인은 사용자가)
+ * 중복 감지는 최적화이므로 조회/등록이 실패해도 업로드는 그대로 처리합니다.
+ */
+@Slf4j
+@Service
+public class ReceiptDeduplicationService {
+
+    private final ReceiptFingerprintRepository fingerprintRepository;
+    private final OcrJobRepository ocrJobRepository;
+    private final MongoTemplate mongoTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+    private final boolean enabled;
+    private final int maxDistance;
+    private final Counter exactHits;
+    private final Counter perceptualHits;
+    private final Counter misses;
+
+    public ReceiptDeduplicationService(ReceiptFingerprintRepository fingerprintRepository,
+                                       OcrJobRepository ocrJobRepository,
+                                       MongoTemplate mongoTemplate,
+                                       DownstreamLimiter downstreamLimiter,
+                                       @Value("${ocr.dedup.enabled:true}") boolean enabled,
+                                       @Value("${ocr.dedup.max-distance:4}") int maxDistance,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.ocrJobRepository = ocrJobRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.downstreamLimiter = downstreamLimiter;
+        this.enabled = enabled;
+        // 밴드 색인으로 빠짐없이 찾을 수 있는 거리까지만 허용
+        this.maxDistance = Math.max(0, Math.min(maxDistance, ImageFingerprint.MAX_INDEXED_DISTANCE));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        exactHits = counter(registry, "ocr.dedup.lookups", "exact");
+        perceptualHits = counter(registry, "ocr.dedup.lookups", "perceptual");
+        misses = counter(registry, "ocr.dedup.lookups", "miss");
+    }
+
+    /**
+     * 중복 이미지 조회
+     *
+     * @return 같은 파일이면 기존 결과(완료 또는 진행 중인 작업), 아니면 등록에 쓸 지문과 (있으면) 근접한 이미지 주소
+     */
+    public Lookup lookup(Integer storeId, byte[] data) {
+        if (!enabled || storeId == null) {
+            return new Lookup(null, null, null);
+        }
+
+        String contentHash = ImageFingerprint.contentHash(data);
+        try {
+            Optional<OcrJobResult> exact = downstreamLimiter.call(Downstream.MONGO,
+                            () -> fingerprintRepository.findByStoreIdAndContentHash(storeId, contentHash))
+                    .map(this::toResult);
+            if (exact.isPresent()) {
+                increment(exactHits);
+                log.info("중복 영수증 이미지 (내용 해시 일치): storeId={}, jobId={}", storeId, exact.get().getJobId());
+                return new Lookup(null, exact.get(), null);
+            }
+
+            ImageFingerprint fingerprint = ImageFingerprint.of(contentHash, data);
+            if (fingerprint.getPerceptualHash() != null) {
+                Optional<ReceiptFingerprintEntity> similar = findSimilar(storeId, fingerprint);
+                if (similar.isPresent()) {
+                    increment(perceptualHits);
+                    log.info("중복일 수 있는 영수증 이미지 (지각 해시 근접): storeId={}, 근접 이미지={}",
+                            storeId, similar.get().getImageUrl());
+                    return new Lookup(fingerprint, null, similar.get().getImageUrl());
+                }
+            }
+            increment(misses);
+            return new Lookup(fingerprint, null, null);
+        } catch (Exception e) {
+            log.warn("중복 영수증 조회 실패 (중복 검사 없이 처리): storeId={}, 오류={}", storeId, e.getMessage());
+            return new Lookup(ImageFingerprint.of(contentHash, data), null, null);
+        }
+    }
+
+    /**
+     * 단건 작업으로 등록한 이미지 지문 저장 (결과는 작업에서 조회)
+     */
+    public void register(Integer storeId, ImageFingerprint fingerprint, String jobId, String imageUrl) {
+        if (fingerprint == null) {
+            return;
+        }
+        registerAll(List.of(ReceiptFingerprintEntity.builder()
+                .storeId(storeId)
+                .contentHash(fingerprint.getContentHash())
+                .perceptualHash(fingerprint.getPerceptualHash())
+                .perceptualBands(fingerprint.getBands())
+                .jobId(jobId)
+                .imageUrl(imageUrl)
+                .build()));
+    }
+
+    /**
+     * 지문 일괄 저장 (매장+내용 해시 기준 upsert, 한 번의 bulk write)
+     * 같은 파일의 이전 지문(실패한 작업 등)은 새 결과로 덮어씁니다.
+     */
+    public void registerAll(List<ReceiptFingerprintEntity> fingerprints) {
+        if (!enabled || fingerprints.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            downstreamLimiter.run(Downstream.MONGO, () -> {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReceiptFingerprintEntity.class);
+                for (ReceiptFingerprintEntity fingerprint : fingerprints) {
+                    bulk.upsert(Query.query(Criteria.where("storeId").is(fingerprint.getStoreId())
+                                    .and("contentHash").is(fingerprint.getContentHash())),
+                            new Update()
+                                    .set("perceptualHash", fingerprint.getPerceptualHash())
+                                    .set("perceptualBands", fingerprint.getPerceptualBands())
+                                    .set("jobId", fingerprint.getJobId())
+                                    .set("rawDataId", fingerprint.getRawDataId())
+                                    .set("imageUrl", fingerprint.getImageUrl())
+                                    .set("ocrEngine", fingerprint.getOcrEngine())
+                                    .set("ocrConfidence", fingerprint.getOcrConfidence())
+                                    .set("result", fingerprint.getResult())
+                                    .set("createdAt", now));
+                }
+                bulk.execute();
+            });
+        } catch (Exception e) {
+            // 동시에 같은 파일을 올려 upsert가 겹친 경우 등: 먼저 저장된 지문을 사용
+            log.warn("영수증 지문 저장 실패: {}건, 오류={}", fingerprints.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 실패한 작업의 지문 삭제 (같은 이미지를 다시 올리면 새로 처리)
+     */
+    public void forgetJob(String jobId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            downstreamLimiter.run(Downstream.MONGO, () -> fingerprintRepository.deleteByJobId(jobId));
+        } catch (Exception e) {
+            log.warn("영수증 지문 삭제 실패: jobId={}, 오류={}", jobId, e.getMessage());
+        }
+    }
+
+    private Optional<ReceiptFingerprintEntity> findSimilar(Integer storeId, ImageFingerprint fingerprint) {
+        List<ReceiptFingerprintEntity> candidates = downstreamLimiter.call(Downstream.MONGO,
+                () -> fingerprintRepository.findTop50ByStoreIdAndPerceptualBandsInOrderByCreatedAtDesc(
+                        storeId, fingerprint.getBands()));
+
+        // 가장 가까운 지문
+        return candidates.stream()
+                .filter(candidate -> fingerprint.distance(candidate.getPerceptualHash()) <= maxDistance)
+                .min(Comparator.comparingInt(candidate -> fingerprint.distance(candidate.getPerceptualHash())));
+    }
+
+    /**
+     * 지문이 가리키는 결과 (작업이 실패했거나 없어졌으면 재사용하지 않음)
+     */
+    private OcrJobResult toResult(ReceiptFingerprintEntity fingerprint) {
+        if (fingerprint.getResult() != null) {
+            return OcrJobResult.builder()
+                    .jobId(fingerprint.getJobId())
+                    .status(OcrJobStatus.COMPLETED)
+                    .stage(OcrJobStage.DONE)
+                    .progress(100)
+                    .rawDataId(fingerprint.getRawDataId())
+                    .ocrEngine(fingerprint.getOcrEngine())
+                    .confidence(fingerprint.getOcrConfidence())
+                    .matchingResult(fingerprint.getResult())
+                    .completedAt(fingerprint.getCreatedAt())
+                    .duplicate(true)
+                    .build();
+        }
+        if (fingerprint.getJobId() == null) {
+            return null;
+        }
+
+        return downstreamLimiter.call(Downstream.MONGO, () -> ocrJobRepository.findById(fingerprint.getJobId()))
+                .filter(job -> job.getStatus() != OcrJobStatus.FAILED)
+                .map(job -> {
+                    OcrJobResult result = OcrJobResult.from(job);
+                    result.setDuplicate(true);
+                    return result;
+                })
+                .orElse(null);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        if (registry == null) {
+            return null;
+        }
+        return Counter.builder(name)
+                .description("영수증 이미지 중복 조회 결과")
+                .tags("result", result)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * 중복 조회 결과
+     */
+    @Getter
+    public static final class Lookup {
+
+        private final ImageFingerprint fingerprint; // 새 이미지 등록용 (내용 해시가 같은 중복이면 null)
+        private final OcrJobResult duplicate; // 같은 파일의 기존 결과 (중복이 아니면 null)
+        private final String similarImageUrl; // pHash가 가까운 기존 이미지 (중복일 수 있음, 없으면 null)
+
+        private Lookup(ImageFingerprint fingerprint, OcrJobResult duplicate, String similarImageUrl) {
+            this.fingerprint = fingerprint;
+            this.duplicate = duplicate;
+            this.similarImageUrl = similarImageUrl;
+        }
+
+        public boolean isDuplicate() {
+            return duplicate != null;
+        }
+    }
+}
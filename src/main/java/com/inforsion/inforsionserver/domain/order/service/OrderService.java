@@ -9,7 +9,9 @@ import com.inforsion.inforsionserver.domain.store.repository.StoreRepository;
 import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
 import com.inforsion.inforsionserver.domain.transaction.entity.TransactionEntity;
+import com.inforsion.inforsionserver.domain.transaction.repository.StoreDailyFinancialRepository;
 import com.inforsion.inforsionserver.domain.transaction.repository.TransactionRepository;
+import com.inforsion.inforsionserver.domain.transaction.service.FinancialRollupService;
 import com.inforsion.inforsionserver.global.enums.OrderStatus;
 import com.inforsion.inforsionserver.global.enums.PeriodType;
 import jakarta.validation.Valid;
@@ -28,6 +30,8 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final TransactionRepository transactionRepository;
     private final StoreRepository storeRepository;
+    private final StoreDailyFinancialRepository storeDailyFinancialRepository;
+    private final FinancialRollupService financialRollupService;
     private static final long SALES_DAYS = 7L;
 
     /**
@@ -99,6 +103,7 @@ public class OrderService {
         orderRepository.save(order);
 
         List<TransactionEntity> transactions = transactionRepository.findAllByOrderId(orderId);
+        financialRollupService.recordDeleted(transactions);
         transactionRepository.deleteAll(transactions);
 
         TransactionConditionDto condition = new TransactionConditionDto();
@@ -108,7 +113,7 @@ public class OrderService {
         condition.setStartDate(LocalDate.now().minusDays(SALES_DAYS));
         condition.setEndDate(LocalDate.now());
 
-        return transactionRepository.getStoreFinancials(condition, PeriodType.DAY);
+        return storeDailyFinancialRepository.getStoreFinancials(condition, PeriodType.DAY);
     }
 
 
@@ -13,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
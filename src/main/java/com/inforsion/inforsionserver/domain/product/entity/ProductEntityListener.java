@@ -0,0 +1,32 @@
+package com.inforsion.inforsionserver.domain.product.entity;
+
+import com.inforsion.inforsionserver.domain.product.event.ProductChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 엔티티 변경 감지 리스너
+ *
+ * 상품이 저장/수정/삭제되면 ProductChangedEvent를 발행합니다.
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입이 가능합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProductChanged(ProductEntity product) {
+        if (product.getStore() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getStore().getId(), product.getId()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.inforsion.inforsionserver.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품(메뉴) 생성/수정/삭제 이벤트
+ *
+ * 매장별 메뉴 캐시(OCR 매칭용 인덱스 등)를 무효화하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Integer storeId;
+
+    private final Integer productId;
+}
@@ -0,0 +1,39 @@
+package com.inforsion.inforsionserver.domain.recipe.bom;
+
+import java.math.BigDecimal;
+
+/**
+ * 메뉴 1개의 재료 구성 (bill of materials)
+ *
+ * 재료 id와 1인분 소요량을 배열로 보관합니다. 소요량은 재고 단위로 환산한 값이며, 재고 수량과 같은 BigDecimal로 정확히 보관합니다.
+ * 불변 객체이므로 여러 스레드에서 그대로 읽어도 됩니다.
+ */
+public final class MenuBom {
+
+    static final MenuBom EMPTY = new MenuBom(new int[0], new BigDecimal[0]);
+
+    private final int[] inventoryIds;
+    private final BigDecimal[] amountsPerMenu;
+
+    MenuBom(int[] inventoryIds, BigDecimal[] amountsPerMenu) {
+        this.inventoryIds = inventoryIds;
+        this.amountsPerMenu = amountsPerMenu;
+    }
+
+    public int size() {
+        return inventoryIds.length;
+    }
+
+    public boolean isEmpty() {
+        return inventoryIds.length == 0;
+    }
+
+    public int inventoryId(int index) {
+        return inventoryIds[index];
+    }
+
+    // 1인분 소요량 (재고 단위)
+    public BigDecimal amountPerMenu(int index) {
+        return amountsPerMenu[index];
+    }
+}
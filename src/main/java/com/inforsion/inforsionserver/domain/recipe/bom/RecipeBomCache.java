@@ -0,0 +1,140 @@
+package com.inforsion.inforsionserver.domain.recipe.bom;
+
+import com.inforsion.inforsionserver.domain.recipe.dto.RecipeIngredientDto;
+import com.inforsion.inforsionserver.domain.recipe.event.RecipeChangedEvent;
+import com.inforsion.inforsionserver.domain.recipe.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴별 재료 구성(BOM) 캐시
+ *
+ * 활성 레시피 전체를 한 번 읽어 메뉴 id → MenuBom, 재료 id → 메뉴 id 역색인을 만들어 둡니다.
+ * 재고 차감 경로는 이 캐시만 읽으므로 레시피 조회가 없습니다.
+ * 레시피가 바뀌면(RecipeChangedEvent) 커밋 후 해당 메뉴(또는 해당 재료를 쓰는 메뉴들)만 다시 읽어 교체합니다.
+ * 읽기는 잠금 없이, 적재/교체는 한 번에 하나씩 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeBomCache {
+
+    private final RecipeRepository recipeRepository;
+
+    private final Map<Integer, MenuBom> boms = new ConcurrentHashMap<>();
+
+    // 재료 id → 그 재료를 쓰는 메뉴 id (재료 레시피가 바뀌면 다시 읽을 메뉴)
+    private final Map<Integer, Set<Integer>> menusByInventory = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * 메뉴의 재료 구성 (활성 레시피가 없으면 빈 구성)
+     */
+    public MenuBom get(Integer menuId) {
+        ensureLoaded();
+        return boms.getOrDefault(menuId, MenuBom.EMPTY);
+    }
+
+    /**
+     * 메뉴들의 재료 구성을 다시 읽어 교체 (아직 적재 전이면 다음 조회 때 전체 적재)
+     */
+    public synchronized void refreshMenus(Collection<Integer> menuIds) {
+        if (!loaded || menuIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<RecipeIngredientDto>> rows = recipeRepository.findActiveIngredientsByMenuIds(menuIds).stream()
+                .collect(Collectors.groupingBy(RecipeIngredientDto::getMenuId));
+        for (Integer menuId : menuIds) {
+            replace(menuId, build(menuId, rows.getOrDefault(menuId, List.of())));
+        }
+        log.debug("메뉴 재료 구성 갱신: 메뉴 {}개", menuIds.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        Set<Integer> menuIds = new HashSet<>();
+        if (event.getMenuId() != null) {
+            menuIds.add(event.getMenuId());
+        }
+        if (event.getInventoryId() != null) {
+            menuIds.addAll(menusByInventory.getOrDefault(event.getInventoryId(), Set.of()));
+        }
+        refreshMenus(menuIds);
+    }
+
+    // 첫 OCR 확정이 적재 비용을 치르지 않도록 기동 시 미리 적재 (실패해도 첫 조회 때 다시 시도)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (Exception e) {
+            log.warn("메뉴 재료 구성 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            Map<Integer, List<RecipeIngredientDto>> rows = recipeRepository.findAllActiveIngredients().stream()
+                    .collect(Collectors.groupingBy(RecipeIngredientDto::getMenuId));
+            rows.forEach((menuId, recipes) -> replace(menuId, build(menuId, recipes)));
+            loaded = true;
+            log.info("메뉴 재료 구성 캐시 적재 완료: 메뉴 {}개, 재료 {}개", boms.size(), menusByInventory.size());
+        }
+    }
+
+    private void replace(Integer menuId, MenuBom bom) {
+        MenuBom previous = bom.isEmpty() ? boms.remove(menuId) : boms.put(menuId, bom);
+        if (previous != null) {
+            for (int i = 0; i < previous.size(); i++) {
+                menusByInventory.computeIfPresent(previous.inventoryId(i), (inventoryId, menuIds) -> {
+                    menuIds.remove(menuId);
+                    return menuIds.isEmpty() ? null : menuIds;
+                });
+            }
+        }
+        for (int i = 0; i < bom.size(); i++) {
+            menusByInventory.computeIfAbsent(bom.inventoryId(i), inventoryId -> ConcurrentHashMap.newKeySet()).add(menuId);
+        }
+    }
+
+    private MenuBom build(Integer menuId, List<RecipeIngredientDto> recipes) {
+        if (recipes.isEmpty()) {
+            return MenuBom.EMPTY;
+        }
+        int[] inventoryIds = new int[recipes.size()];
+        BigDecimal[] amounts = new BigDecimal[recipes.size()];
+        for (int i = 0; i < recipes.size(); i++) {
+            RecipeIngredientDto recipe = recipes.get(i);
+            BigDecimal factor = UnitConversion.factor(recipe.getUnit(), recipe.getInventoryUnit());
+            if (factor == null) {
+                log.warn("레시피 단위를 재고 단위로 환산할 수 없어 그대로 사용: 메뉴 ID {}, 재고 ID {} ({} → {})",
+                        menuId, recipe.getInventoryId(), recipe.getUnit(), recipe.getInventoryUnit());
+                factor = BigDecimal.ONE;
+            }
+            inventoryIds[i] = recipe.getInventoryId();
+            amounts[i] = recipe.getAmountPerMenu().multiply(factor);
+        }
+        return new MenuBom(inventoryIds, amounts);
+    }
+}
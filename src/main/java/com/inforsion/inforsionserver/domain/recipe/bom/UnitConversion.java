@@ -0,0 +1,51 @@
+package com.inforsion.inforsionserver.domain.recipe.bom;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 레시피 단위 → 재고 단위 환산
+ *
+ * 질량(g 기준)과 부피(ml 기준) 단위만 환산합니다. 배율이 10의 거듭제곱이므로 BigDecimal로 정확히 계산합니다.
+ * 단위가 같거나 비어 있으면 1, 서로 환산할 수 없는 단위(예: g ↔ 개)면 null을 반환합니다.
+ */
+final class UnitConversion {
+
+    private static final BigDecimal MILLI = new BigDecimal("0.001");
+    private static final BigDecimal KILO = new BigDecimal("1000");
+
+    private static final Map<String, BigDecimal> GRAMS = Map.of(
+            "mg", MILLI, "g", BigDecimal.ONE, "kg", KILO,
+            "밀리그램", MILLI, "그램", BigDecimal.ONE, "킬로그램", KILO);
+
+    private static final Map<String, BigDecimal> MILLILITERS = Map.of(
+            "ml", BigDecimal.ONE, "cc", BigDecimal.ONE, "l", KILO,
+            "밀리리터", BigDecimal.ONE, "리터", KILO);
+
+    private UnitConversion() {
+    }
+
+    static BigDecimal factor(String from, String to) {
+        String source = normalize(from);
+        String target = normalize(to);
+        if (source.isEmpty() || target.isEmpty() || source.equals(target)) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal factor = ratio(GRAMS, source, target);
+        return factor != null ? factor : ratio(MILLILITERS, source, target);
+    }
+
+    private static BigDecimal ratio(Map<String, BigDecimal> base, String source, String target) {
+        BigDecimal sourceBase = base.get(source);
+        BigDecimal targetBase = base.get(target);
+        if (sourceBase == null || targetBase == null) {
+            return null;
+        }
+        return sourceBase.divide(targetBase);
+    }
+
+    private static String normalize(String unit) {
+        return unit == null ? "" : unit.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,17 @@
+package com.inforsion.inforsionserver.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 메뉴 1개당 재료 소요량 (재고 차감용, 재고 엔티티를 불러오지 않음)
+@Getter
+@AllArgsConstructor
+public class RecipeIngredientDto {
+    private Integer menuId;
+    private Integer inventoryId;
+    private BigDecimal amountPerMenu;
+    private String unit; // 레시피 단위
+    private String inventoryUnit; // 재고 단위
+}
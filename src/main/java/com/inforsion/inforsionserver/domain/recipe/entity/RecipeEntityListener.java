@@ -0,0 +1,32 @@
+package com.inforsion.inforsionserver.domain.recipe.entity;
+
+import com.inforsion.inforsionserver.domain.recipe.event.RecipeChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 엔티티 변경 감지 리스너
+ *
+ * 레시피가 저장/수정/삭제되면 RecipeChangedEvent를 발행합니다.
+ * JPQL 일괄 변경(deactivateRecipesBy*)은 리스너를 거치지 않으므로 리포지토리에서 직접 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onRecipeChanged(RecipeEntity recipe) {
+        if (recipe.getMenu() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(RecipeChangedEvent.ofMenu(recipe.getMenu().getId()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.inforsion.inforsionserver.domain.recipe.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 레시피 생성/수정/비활성화 이벤트
+ *
+ * 메뉴별 재료 구성 캐시(RecipeBomCache)를 무효화하는 데 사용됩니다.
+ * menuId가 있으면 그 메뉴를, inventoryId가 있으면 그 재료를 쓰는 메뉴 전체를 다시 읽습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecipeChangedEvent {
+
+    private final Integer menuId;
+
+    private final Integer inventoryId;
+
+    public static RecipeChangedEvent ofMenu(Integer menuId) {
+        return new RecipeChangedEvent(menuId, null);
+    }
+
+    public static RecipeChangedEvent ofInventory(Integer inventoryId) {
+        return new RecipeChangedEvent(null, inventoryId);
+    }
+}
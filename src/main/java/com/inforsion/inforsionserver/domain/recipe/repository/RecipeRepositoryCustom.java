@@ -1,9 +1,11 @@
 package com.inforsion.inforsionserver.domain.recipe.repository;
 
+import com.inforsion.inforsionserver.domain.recipe.dto.RecipeIngredientDto;
 import com.inforsion.inforsionserver.domain.recipe.entity.RecipeEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecipeRepositoryCustom {
@@ -16,6 +18,10 @@ public interface RecipeRepositoryCustom {
     
     List<RecipeEntity> findRecipesUsingInventoryId(Integer inventoryId);
     
+    List<RecipeIngredientDto> findActiveIngredientsByMenuIds(Collection<Integer> menuIds);
+    
+    List<RecipeIngredientDto> findAllActiveIngredients();
+    
     List<RecipeEntity> findRecipesByStoreAndIngredientName(Integer storeId, String ingredientName);
     
     void deactivateRecipesByMenuId(Integer menuId);
@@ -1,14 +1,20 @@
 package com.inforsion.inforsionserver.domain.recipe.repository;
 
+import com.inforsion.inforsionserver.domain.recipe.dto.RecipeIngredientDto;
 import com.inforsion.inforsionserver.domain.recipe.entity.QRecipeEntity;
 import com.inforsion.inforsionserver.domain.recipe.entity.RecipeEntity;
+import com.inforsion.inforsionserver.domain.recipe.event.RecipeChangedEvent;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +22,7 @@ import java.util.List;
 public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ApplicationEventPublisher eventPublisher;
     private final QRecipeEntity qRecipe = QRecipeEntity.recipeEntity;
 
     @Override
@@ -78,6 +85,32 @@ public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<RecipeIngredientDto> findActiveIngredientsByMenuIds(Collection<Integer> menuIds) {
+        return findActiveIngredients(qRecipe.menu.id.in(menuIds)
+                .and(qRecipe.isActive.eq(true)));
+    }
+
+    @Override
+    public List<RecipeIngredientDto> findAllActiveIngredients() {
+        return findActiveIngredients(qRecipe.isActive.eq(true));
+    }
+
+    private List<RecipeIngredientDto> findActiveIngredients(Predicate condition) {
+        return queryFactory
+                .select(Projections.constructor(
+                        RecipeIngredientDto.class,
+                        qRecipe.menu.id,
+                        qRecipe.inventory.id,
+                        qRecipe.amountPerMenu,
+                        qRecipe.unit,
+                        qRecipe.inventory.unit
+                ))
+                .from(qRecipe)
+                .where(condition)
+                .fetch();
+    }
+
     @Override
     public List<RecipeEntity> findRecipesByStoreAndIngredientName(Integer storeId, String ingredientName) {
         return queryFactory
@@ -97,6 +130,7 @@ public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
                 .set(qRecipe.isActive, false)
                 .where(qRecipe.menu.id.eq(menuId))
                 .execute();
+        eventPublisher.publishEvent(RecipeChangedEvent.ofMenu(menuId));
     }
 
     @Override
@@ -106,5 +140,6 @@ public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
                 .set(qRecipe.isActive, false)
                 .where(qRecipe.inventory.id.eq(inventoryId))
                 .execute();
+        eventPublisher.publishEvent(RecipeChangedEvent.ofInventory(inventoryId));
     }
 }
\ No newline at end of file
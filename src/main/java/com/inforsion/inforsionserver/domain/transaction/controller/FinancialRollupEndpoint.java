@@ -0,0 +1,36 @@
+package com.inforsion.inforsionserver.domain.transaction.controller;
+
+import com.inforsion.inforsionserver.domain.transaction.service.FinancialRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 일 매출 집계 관리 엔드포인트 (/actuator/financials, 로컬에서만 허용)
+ *
+ * POST /actuator/financials : {"storeId": 1, "startDate": "2025-01-01", "endDate": "2025-12-31"} 기간 일 집계 재계산
+ * 모든 값은 생략할 수 있고, 비우면 전체 매장·전체 기간입니다. 날짜는 yyyy-MM-dd입니다.
+ * 첫 백필은 기동 시 자동으로 하므로(FinancialRollupBackfill), 직접 수정한 데이터 보정에만 사용합니다.
+ */
+@Component
+@Endpoint(id = "financials")
+@RequiredArgsConstructor
+public class FinancialRollupEndpoint {
+
+    private final FinancialRollupService financialRollupService;
+
+    @WriteOperation
+    public Map<String, Object> rebuild(@Nullable Integer storeId, @Nullable String startDate, @Nullable String endDate) {
+        int rows = financialRollupService.rebuild(storeId, parse(startDate), parse(endDate));
+        return Map.of("rebuiltDays", rows);
+    }
+
+    private static LocalDate parse(String date) {
+        return date == null || date.isBlank() ? null : LocalDate.parse(date);
+    }
+}
@@ -0,0 +1,83 @@
+package com.inforsion.inforsionserver.domain.transaction.dto;
+
+import com.inforsion.inforsionserver.domain.transaction.entity.TransactionEntity;
+import com.inforsion.inforsionserver.global.enums.CostCategory;
+import com.inforsion.inforsionserver.global.enums.PaymentMethod;
+import com.inforsion.inforsionserver.global.enums.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 일 매출 집계(store_daily_financials) 변화량 (매장·날짜 1건)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyFinancialChangeDto {
+    private Integer storeId;
+    private LocalDate salesDate;
+    private BigDecimal grossSales;
+    private BigDecimal refundAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal cardSales;
+    private BigDecimal cashSales;
+    private BigDecimal otherSales;
+    private BigDecimal materialCost;
+    private BigDecimal fixedCost;
+    private BigDecimal otherCost;
+
+    // 거래 생성 (거래 날짜가 없으면 집계하지 않으므로 null)
+    public static DailyFinancialChangeDto added(TransactionEntity transaction) {
+        return of(transaction, transaction.getAmount());
+    }
+
+    // 거래 삭제, 수정 전 값
+    public static DailyFinancialChangeDto removed(TransactionEntity transaction) {
+        return of(transaction, transaction.getAmount() == null ? null : transaction.getAmount().negate());
+    }
+
+    private static DailyFinancialChangeDto of(TransactionEntity transaction, BigDecimal amount) {
+        if (transaction.getDate() == null || amount == null || transaction.getTransactionType() == null) {
+            return null;
+        }
+        BigDecimal zero = BigDecimal.ZERO;
+        TransactionType type = transaction.getTransactionType();
+        PaymentMethod paymentMethod = transaction.getPaymentMethod();
+        CostCategory costCategory = transaction.getCostCategory();
+        boolean sale = type == TransactionType.SALE;
+        boolean cost = type == TransactionType.COST;
+        return new DailyFinancialChangeDto(
+                transaction.getStore().getId(),
+                transaction.getDate().toLocalDate(),
+                sale ? amount : zero,
+                type == TransactionType.REFUND ? amount : zero,
+                type == TransactionType.TAX ? amount : zero,
+                sale && paymentMethod == PaymentMethod.CARD ? amount : zero,
+                sale && paymentMethod == PaymentMethod.CASH ? amount : zero,
+                sale && paymentMethod != PaymentMethod.CARD && paymentMethod != PaymentMethod.CASH ? amount : zero,
+                cost && costCategory == CostCategory.MATERIAL ? amount : zero,
+                cost && costCategory == CostCategory.FIXED ? amount : zero,
+                cost && costCategory != CostCategory.MATERIAL && costCategory != CostCategory.FIXED ? amount : zero);
+    }
+
+    // 같은 매장·날짜의 변화량 합치기
+    public DailyFinancialChangeDto plus(DailyFinancialChangeDto other) {
+        return new DailyFinancialChangeDto(storeId, salesDate,
+                grossSales.add(other.grossSales),
+                refundAmount.add(other.refundAmount),
+                taxAmount.add(other.taxAmount),
+                cardSales.add(other.cardSales),
+                cashSales.add(other.cashSales),
+                otherSales.add(other.otherSales),
+                materialCost.add(other.materialCost),
+                fixedCost.add(other.fixedCost),
+                otherCost.add(other.otherCost));
+    }
+
+    public boolean isZero() {
+        return grossSales.signum() == 0 && refundAmount.signum() == 0 && taxAmount.signum() == 0
+                && cardSales.signum() == 0 && cashSales.signum() == 0 && otherSales.signum() == 0
+                && materialCost.signum() == 0 && fixedCost.signum() == 0 && otherCost.signum() == 0;
+    }
+}
@@ -1,25 +1,32 @@
 package com.inforsion.inforsionserver.domain.transaction.dto.response;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 
-@Data
+/**
+ * 매장 매출/지출 조회 결과 (캐시에 그대로 담겨 여러 요청이 공유하므로 변경 불가)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
 @AllArgsConstructor
 public class StoreSalesFinancialDto {
-    private Integer storeId; // 가게 id
-    private String storeName; // 가게 이름
-    private String period; // 기간
-    private BigDecimal cardSales; // 카드 매출액
-    private BigDecimal cashSales; // 현금 매출액
-    private BigDecimal otherSales; // 이외 매출액
-    private BigDecimal grossSales; // 총매출액
-    private BigDecimal refundAmount; // 반품액
-    private BigDecimal materialCost; // 제품 가격
-    private BigDecimal fixedCost; // 고정 지출액
-    private BigDecimal otherCost; // 이외 지출액
-    private BigDecimal totalCost; // 총 지출액
-    private BigDecimal taxAmount; // 세금
-    private BigDecimal netProfit; // 순이익
+    private final Integer storeId; // 가게 id
+    private final String storeName; // 가게 이름
+    private final String period; // 기간
+    private final BigDecimal cardSales; // 카드 매출액
+    private final BigDecimal cashSales; // 현금 매출액
+    private final BigDecimal otherSales; // 이외 매출액
+    private final BigDecimal grossSales; // 총매출액
+    private final BigDecimal refundAmount; // 반품액
+    private final BigDecimal materialCost; // 제품 가격
+    private final BigDecimal fixedCost; // 고정 지출액
+    private final BigDecimal otherCost; // 이외 지출액
+    private final BigDecimal totalCost; // 총 지출액
+    private final BigDecimal taxAmount; // 세금
+    private final BigDecimal netProfit; // 순이익
 }
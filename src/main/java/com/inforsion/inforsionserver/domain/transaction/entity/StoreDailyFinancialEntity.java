@@ -0,0 +1,68 @@
+package com.inforsion.inforsionserver.domain.transaction.entity;
+
+import com.inforsion.inforsionserver.domain.store.entity.StoreEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 일 매출/비용 집계 (transactions의 롤업)
+ *
+ * 거래 생성/수정/삭제와 주문 취소 시 같은 트랜잭션에서 변화량만큼 더하고 빼며, 매출 조회는 이 테이블을 월/연 단위로 다시 합칩니다.
+ * 값은 JDBC upsert로만 바꾸고(StoreDailyFinancialRepository), 어긋나면 rebuild로 transactions에서 다시 만듭니다.
+ */
+@Entity
+@Table(name = "store_daily_financials", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_store_daily_financials_store_date", columnNames = {"store_id", "sales_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDailyFinancialEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_financial_id")
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private StoreEntity store; // 가게 id
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate; // 거래 날짜 (일)
+
+    @Column(name = "gross_sales", nullable = false, precision = 15, scale = 2)
+    private BigDecimal grossSales; // 총매출액 (SALE)
+
+    @Column(name = "refund_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal refundAmount; // 환불액 (REFUND)
+
+    @Column(name = "tax_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal taxAmount; // 세금 (TAX)
+
+    @Column(name = "card_sales", nullable = false, precision = 15, scale = 2)
+    private BigDecimal cardSales; // 카드 매출액
+
+    @Column(name = "cash_sales", nullable = false, precision = 15, scale = 2)
+    private BigDecimal cashSales; // 현금 매출액
+
+    @Column(name = "other_sales", nullable = false, precision = 15, scale = 2)
+    private BigDecimal otherSales; // 이외 매출액 (카드/현금 외 결제)
+
+    @Column(name = "material_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal materialCost; // 재료비 (COST, MATERIAL)
+
+    @Column(name = "fixed_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal fixedCost; // 고정비 (COST, FIXED)
+
+    @Column(name = "other_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal otherCost; // 이외 원가 (COST, 그 외 분류)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
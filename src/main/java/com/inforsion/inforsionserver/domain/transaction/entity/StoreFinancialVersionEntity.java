@@ -0,0 +1,29 @@
+package com.inforsion.inforsionserver.domain.transaction.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장별 매출 데이터 버전
+ *
+ * 일 매출 집계가 바뀌는 트랜잭션에서 함께 1씩 올립니다 (행이 없으면 0).
+ * 매출 조회 결과 캐시(StoreFinancialReportCache)의 키에 들어가므로, 버전이 오르면 그 매장의 캐시만 더 이상 맞지 않게 됩니다.
+ */
+@Entity
+@Table(name = "store_financial_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreFinancialVersionEntity {
+
+    @Id
+    @Column(name = "store_id")
+    private Integer storeId; // 가게 id
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -0,0 +1,13 @@
+package com.inforsion.inforsionserver.domain.transaction.repository;
+
+import com.inforsion.inforsionserver.domain.transaction.entity.StoreDailyFinancialEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreDailyFinancialRepository extends JpaRepository<StoreDailyFinancialEntity, Integer>,
+        StoreDailyFinancialRepositoryCustom {
+
+    // 일 집계가 하나라도 있는지 (첫 백필 판단, LIMIT 1)
+    boolean existsBySalesDateIsNotNull();
+}
@@ -0,0 +1,33 @@
+package com.inforsion.inforsionserver.domain.transaction.repository;
+
+import com.inforsion.inforsionserver.domain.transaction.dto.DailyFinancialChangeDto;
+import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
+import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
+import com.inforsion.inforsionserver.global.enums.PeriodType;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface StoreDailyFinancialRepositoryCustom {
+
+    // 일 집계에 변화량 더하기 (없는 날짜는 생성, JDBC 배치 upsert)
+    void addDailyFinancials(List<DailyFinancialChangeDto> changes);
+
+    // 기간(날짜 포함) 일 집계를 transactions에서 다시 계산, 만든 일 집계 수 반환 (null 조건은 전체)
+    int rebuild(Integer storeId, LocalDate startDate, LocalDate endDate);
+
+    // 매장들의 매출 데이터 버전 올리기 (없으면 1로 생성)
+    void bumpVersions(Collection<Integer> storeIds);
+
+    // 모든 매장의 매출 데이터 버전 올리기 (전체 재계산 후)
+    void bumpAllVersions();
+
+    // 매장의 매출 데이터 버전 (없으면 0)
+    long findVersion(Integer storeId);
+
+    // 매출 관리 (일 집계를 기간 타입별로 합침)
+    List<StoreSalesFinancialDto> getStoreFinancials(
+            TransactionConditionDto condition, PeriodType periodType
+    );
+}
@@ -0,0 +1,221 @@
+package com.inforsion.inforsionserver.domain.transaction.repository;
+
+import com.inforsion.inforsionserver.domain.transaction.dto.DailyFinancialChangeDto;
+import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
+import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
+import com.inforsion.inforsionserver.domain.transaction.entity.QStoreDailyFinancialEntity;
+import com.inforsion.inforsionserver.global.enums.PeriodType;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 일 매출 집계 DAO
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreDailyFinancialRepositoryImpl implements StoreDailyFinancialRepositoryCustom {
+
+    // 금액 컬럼 (DailyFinancialChangeDto 필드 순서)
+    private static final List<String> AMOUNT_COLUMNS = List.of(
+            "gross_sales", "refund_amount", "tax_amount",
+            "card_sales", "cash_sales", "other_sales",
+            "material_cost", "fixed_cost", "other_cost");
+
+    private static final String INSERT_COLUMNS = "store_id, sales_date, " + String.join(", ", AMOUNT_COLUMNS) + ", updated_at";
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final QStoreDailyFinancialEntity f = QStoreDailyFinancialEntity.storeDailyFinancialEntity;
+
+    /**
+     * 변화량 upsert (current = current + ?)
+     * 원자적으로 더하므로 동시에 거래가 생겨도 유실되지 않고, 매장·날짜 순으로 반영해 행 잠금 순서를 고정합니다 (교착 방지).
+     */
+    @Override
+    public void addDailyFinancials(List<DailyFinancialChangeDto> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = changes.stream()
+                .sorted(Comparator.comparing(DailyFinancialChangeDto::getStoreId)
+                        .thenComparing(DailyFinancialChangeDto::getSalesDate))
+                .map(change -> new Object[]{
+                        change.getStoreId(), Date.valueOf(change.getSalesDate()),
+                        change.getGrossSales(), change.getRefundAmount(), change.getTaxAmount(),
+                        change.getCardSales(), change.getCashSales(), change.getOtherSales(),
+                        change.getMaterialCost(), change.getFixedCost(), change.getOtherCost(),
+                        now})
+                .toList();
+        String accumulate = AMOUNT_COLUMNS.stream()
+                .map(column -> column + " = " + column + " + VALUES(" + column + ")")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.batchUpdate("INSERT INTO store_daily_financials (" + INSERT_COLUMNS + ") VALUES ("
+                + Stream.generate(() -> "?").limit(AMOUNT_COLUMNS.size() + 3).collect(Collectors.joining(", "))
+                + ") ON DUPLICATE KEY UPDATE " + accumulate + ", updated_at = VALUES(updated_at)", rows);
+    }
+
+    /**
+     * transactions에서 일 집계 재계산 (기존 집계 삭제 후 INSERT ... SELECT 한 번)
+     * 분류 기준은 DailyFinancialChangeDto와 같습니다.
+     */
+    @Override
+    public int rebuild(Integer storeId, LocalDate startDate, LocalDate endDate) {
+        StringBuilder rollupWhere = new StringBuilder(" WHERE 1 = 1");
+        StringBuilder transactionWhere = new StringBuilder(" WHERE date IS NOT NULL");
+        List<Object> rollupArgs = new ArrayList<>();
+        List<Object> transactionArgs = new ArrayList<>();
+        transactionArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+        if (storeId != null) {
+            rollupWhere.append(" AND store_id = ?");
+            transactionWhere.append(" AND store_id = ?");
+            rollupArgs.add(storeId);
+            transactionArgs.add(storeId);
+        }
+        if (startDate != null) {
+            rollupWhere.append(" AND sales_date >= ?");
+            transactionWhere.append(" AND date >= ?");
+            rollupArgs.add(Date.valueOf(startDate));
+            transactionArgs.add(Timestamp.valueOf(startDate.atStartOfDay()));
+        }
+        if (endDate != null) {
+            rollupWhere.append(" AND sales_date <= ?");
+            transactionWhere.append(" AND date < ?");
+            rollupArgs.add(Date.valueOf(endDate));
+            transactionArgs.add(Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+        }
+
+        jdbcTemplate.update("DELETE FROM store_daily_financials" + rollupWhere, rollupArgs.toArray());
+        return jdbcTemplate.update("INSERT INTO store_daily_financials (" + INSERT_COLUMNS + ") "
+                + "SELECT store_id, DATE(date), "
+                + "SUM(CASE WHEN transaction_type = 'SALE' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'REFUND' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'TAX' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'SALE' AND payment_method = 'CARD' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'SALE' AND payment_method = 'CASH' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'SALE' AND (payment_method IS NULL OR payment_method NOT IN ('CARD', 'CASH')) THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'COST' AND cost_category = 'MATERIAL' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'COST' AND cost_category = 'FIXED' THEN amount ELSE 0 END), "
+                + "SUM(CASE WHEN transaction_type = 'COST' AND (cost_category IS NULL OR cost_category NOT IN ('MATERIAL', 'FIXED')) THEN amount ELSE 0 END), "
+                + "? FROM transactions" + transactionWhere + " GROUP BY store_id, DATE(date)",
+                transactionArgs.toArray());
+    }
+
+    /**
+     * 매장 순으로 올려 행 잠금 순서를 고정합니다 (교착 방지)
+     */
+    @Override
+    public void bumpVersions(Collection<Integer> storeIds) {
+        List<Object[]> rows = new TreeSet<>(storeIds).stream()
+                .map(storeId -> new Object[]{storeId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO store_financial_versions (store_id, version) VALUES (?, 1) "
+                + "ON DUPLICATE KEY UPDATE version = version + 1", rows);
+    }
+
+    @Override
+    public void bumpAllVersions() {
+        jdbcTemplate.update("INSERT INTO store_financial_versions (store_id, version) SELECT id, 1 FROM stores "
+                + "ON DUPLICATE KEY UPDATE version = store_financial_versions.version + 1");
+    }
+
+    @Override
+    public long findVersion(Integer storeId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM store_financial_versions WHERE store_id = ?", Long.class, storeId);
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    /**
+     * 매출 계산 로직
+     * 매장·날짜당 한 행인 일 집계를 (store_id, sales_date) 유니크 인덱스 범위로 읽어 기간별로 합칩니다.
+     */
+    @Override
+    public List<StoreSalesFinancialDto> getStoreFinancials(
+            TransactionConditionDto condition, PeriodType periodType
+    ) {
+        LocalDate start = condition.getStartDate(); // 시작 날짜
+        LocalDate end = condition.getEndDate(); // 마지막 날짜
+
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition.getStoreId() != null) {
+            builder.and(f.store.id.eq(condition.getStoreId()));
+        }
+        if (condition.getStoreName() != null && !condition.getStoreName().isBlank()) {
+            builder.and(f.store.name.eq(condition.getStoreName()));
+        }
+        if (start != null) {
+            builder.and(f.salesDate.goe(start));
+        }
+        if (end != null) {
+            builder.and(f.salesDate.loe(end));
+        }
+
+        String pattern;
+
+        switch (periodType) { // 기간 타입 별 정리
+            case MONTH: pattern = "%Y-%m"; break;
+            case YEAR:  pattern = "%Y"; break;
+            case DAY:   pattern = "%d"; break;
+            default:    pattern = "%Y-%m-%d"; break;
+        }
+
+        var periodExpr = Expressions.stringTemplate("DATE_FORMAT({0}, '" + pattern + "')", f.salesDate);
+
+        NumberExpression<BigDecimal> grossExpr = f.grossSales.sum(); // 총매출
+        NumberExpression<BigDecimal> refundExpr = f.refundAmount.sum(); // 환불
+        NumberExpression<BigDecimal> taxExpr = f.taxAmount.sum(); // 세금
+        NumberExpression<BigDecimal> materialExpr = f.materialCost.sum(); // 재료비
+        NumberExpression<BigDecimal> fixedExpr = f.fixedCost.sum(); // 고정 비용
+        NumberExpression<BigDecimal> otherCostExpr = f.otherCost.sum();
+
+        // 총 비용
+        NumberExpression<BigDecimal> totalCostExpr = materialExpr.add(fixedExpr).add(otherCostExpr);
+
+        // 순수익
+        NumberExpression<BigDecimal> netProfitExpr = grossExpr.subtract(refundExpr).subtract(totalCostExpr).subtract(taxExpr);
+
+        return queryFactory
+                .select(Projections.constructor(
+                        StoreSalesFinancialDto.class,
+                        f.store.id,            // storeId
+                        f.store.name,          // storeName
+                        periodExpr,            // period
+                        f.cardSales.sum(),     // cardAmount
+                        f.cashSales.sum(),     // cashAmount
+                        f.otherSales.sum(),    // otherAmount
+                        grossExpr,             // grossSales
+                        refundExpr,            // refundAmount
+                        materialExpr,          // materialCost
+                        fixedExpr,             // fixedCost
+                        otherCostExpr,         // otherCost
+                        totalCostExpr,         // totalCost
+                        taxExpr,               // taxAmount
+                        netProfitExpr          // netProfit
+                ))
+                .from(f)
+                .where(builder)
+                .groupBy(f.store.id, f.store.name, periodExpr)
+                .orderBy(periodExpr.asc(), f.store.name.asc())
+                .fetch();
+    }
+}
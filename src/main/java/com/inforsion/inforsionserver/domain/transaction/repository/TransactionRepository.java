@@ -11,4 +11,7 @@ import java.util.List;
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Integer>,
         TransactionRepositoryCustom {
     List<TransactionEntity> findAllByOrderId(Integer orderId);
+
+    // 집계 대상 거래가 하나라도 있는지 (첫 백필 판단, LIMIT 1)
+    boolean existsByDateIsNotNull();
 }
@@ -1,11 +1,8 @@
 package com.inforsion.inforsionserver.domain.transaction.repository;
 
-import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
-import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionRequestDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.response.TransactionResponseDto;
 import com.inforsion.inforsionserver.domain.transaction.entity.TransactionEntity;
-import com.inforsion.inforsionserver.global.enums.PeriodType;
 import com.inforsion.inforsionserver.global.enums.TransactionType;
 
 import java.time.LocalDateTime;
@@ -20,15 +17,10 @@ public interface TransactionRepositoryCustom {
             LocalDateTime startDate,
             LocalDateTime endDate);
 
-    // 거래 수정
+    // 거래 수정 (일 매출 집계는 갱신하지 않으므로 TransactionService.updateTransaction 사용)
     Long updateTransaction(Integer transactionId, TransactionRequestDto requestDto);
 
-    // 거래 삭제
+    // 거래 삭제 (일 매출 집계는 갱신하지 않으므로 TransactionService.deleteTransaction 사용)
     Long deleteTransaction(Integer transactionId);
 
-    // 매출 관리
-    List<StoreSalesFinancialDto> getStoreFinancials(
-            TransactionConditionDto condition, PeriodType periodType
-    );
-
 }
@@ -0,0 +1,53 @@
+package com.inforsion.inforsionserver.domain.transaction.service;
+
+import com.inforsion.inforsionserver.domain.transaction.repository.StoreDailyFinancialRepository;
+import com.inforsion.inforsionserver.domain.transaction.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일 매출 집계 첫 백필 (financials.backfill-on-startup)
+ *
+ * 일 집계를 도입한 뒤 처음 기동할 때 store_daily_financials가 비어 있고 거래가 있으면 전체를 한 번 다시 계산합니다.
+ * 이후 기동에서는 집계가 있으므로 조회 두 번(각 LIMIT 1)으로 끝납니다. 부분 보정은 /actuator/financials(로컬 전용)로 합니다.
+ * 여러 서버가 동시에 처음 뜨면 각자 다시 계산하지만, 재계산은 기간을 지우고 다시 만드는 것이라 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class FinancialRollupBackfill {
+
+    private final FinancialRollupService financialRollupService;
+    private final StoreDailyFinancialRepository storeDailyFinancialRepository;
+    private final TransactionRepository transactionRepository;
+    private final boolean enabled;
+
+    public FinancialRollupBackfill(FinancialRollupService financialRollupService,
+                                   StoreDailyFinancialRepository storeDailyFinancialRepository,
+                                   TransactionRepository transactionRepository,
+                                   @Value("${financials.backfill-on-startup:true}") boolean enabled) {
+        this.financialRollupService = financialRollupService;
+        this.storeDailyFinancialRepository = storeDailyFinancialRepository;
+        this.transactionRepository = transactionRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (storeDailyFinancialRepository.existsBySalesDateIsNotNull() || !transactionRepository.existsByDateIsNotNull()) {
+                return;
+            }
+            log.info("일 매출 집계가 비어 있어 거래 내역으로 처음 계산합니다.");
+            financialRollupService.rebuild(null, null, null);
+        } catch (Exception e) {
+            // 매출 조회만 비어 보일 뿐 기동은 계속 (다음 기동 또는 /actuator/financials로 다시)
+            log.error("일 매출 집계 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+}
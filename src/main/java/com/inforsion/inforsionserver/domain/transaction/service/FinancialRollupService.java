@@ -0,0 +1,88 @@
+package com.inforsion.inforsionserver.domain.transaction.service;
+
+import com.inforsion.inforsionserver.domain.transaction.dto.DailyFinancialChangeDto;
+import com.inforsion.inforsionserver.domain.transaction.entity.TransactionEntity;
+import com.inforsion.inforsionserver.domain.transaction.repository.StoreDailyFinancialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일 매출 집계(store_daily_financials) 유지
+ *
+ * 거래가 생기거나 바뀌거나 지워질 때 호출한 트랜잭션 안에서 해당 매장·날짜의 집계에 변화량을 더합니다.
+ * 수정은 이전 값을 빼고 새 값을 더하므로 날짜, 유형, 결제 수단이 바뀌어도 맞게 옮겨집니다.
+ * 집계가 바뀐 매장은 같은 트랜잭션에서 매출 데이터 버전도 올립니다 (매출 조회 캐시 무효화).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FinancialRollupService {
+
+    private final StoreDailyFinancialRepository storeDailyFinancialRepository;
+
+    /**
+     * 거래 생성 반영
+     */
+    public void recordCreated(TransactionEntity transaction) {
+        apply(List.of(DailyFinancialChangeDto.added(transaction)));
+    }
+
+    /**
+     * 거래 수정 반영 (before: 수정 전에 만든 DailyFinancialChangeDto.removed)
+     */
+    public void recordUpdated(DailyFinancialChangeDto before, TransactionEntity transaction) {
+        apply(List.of(before, DailyFinancialChangeDto.added(transaction)));
+    }
+
+    /**
+     * 거래 삭제 반영 (삭제 전에 호출)
+     */
+    public void recordDeleted(Collection<TransactionEntity> transactions) {
+        apply(transactions.stream().map(DailyFinancialChangeDto::removed).toList());
+    }
+
+    /**
+     * 기간 일 집계를 transactions에서 다시 계산 (도입 시 백필, 직접 수정한 데이터 보정)
+     * 계산하는 동안 같은 기간에 생긴 거래는 빠지거나 두 번 더해질 수 있으므로 거래가 적은 시간에 실행합니다.
+     * 첫 백필은 기동 시 자동(FinancialRollupBackfill), 보정은 POST /actuator/financials(로컬 전용)로 호출합니다.
+     */
+    @Transactional
+    public int rebuild(Integer storeId, LocalDate startDate, LocalDate endDate) {
+        int rows = storeDailyFinancialRepository.rebuild(storeId, startDate, endDate);
+        if (storeId != null) {
+            storeDailyFinancialRepository.bumpVersions(List.of(storeId));
+        } else {
+            storeDailyFinancialRepository.bumpAllVersions();
+        }
+        log.info("일 매출 집계 재계산: 매장 {}, 기간 {} ~ {}, 집계 {}건",
+                storeId == null ? "전체" : storeId, startDate, endDate, rows);
+        return rows;
+    }
+
+    // 같은 매장·날짜를 합치고 변화가 없는 것은 제외
+    private void apply(List<DailyFinancialChangeDto> changes) {
+        Map<String, DailyFinancialChangeDto> merged = new LinkedHashMap<>();
+        for (DailyFinancialChangeDto change : changes) {
+            if (change != null) {
+                merged.merge(change.getStoreId() + ":" + change.getSalesDate(), change, DailyFinancialChangeDto::plus);
+            }
+        }
+        List<DailyFinancialChangeDto> rows = merged.values().stream()
+                .filter(change -> !change.isZero())
+                .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        storeDailyFinancialRepository.addDailyFinancials(rows);
+        // 바뀐 매장의 매출 조회 캐시 무효화
+        storeDailyFinancialRepository.bumpVersions(rows.stream().map(DailyFinancialChangeDto::getStoreId).toList());
+    }
+}
@@ -0,0 +1,82 @@
+package com.inforsion.inforsionserver.domain.transaction.service;
+
+import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
+import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
+import com.inforsion.inforsionserver.domain.transaction.repository.StoreDailyFinancialRepository;
+import com.inforsion.inforsionserver.global.enums.PeriodType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매출 조회 결과 캐시 (storeFinancials)
+ *
+ * 키는 조회 조건 + 기간 타입 + 매장의 매출 데이터 버전(store_financial_versions)입니다.
+ * 거래가 바뀌면 그 매장의 버전만 오르므로, 다른 매장은 계속 적중하고 바뀐 매장은 다음 조회에서 다시 계산합니다.
+ * 버전을 DB에서 읽으므로 여러 서버에서도 무효화가 맞고, 지난 버전의 결과는 캐시 만료/크기 제한으로 빠집니다.
+ * 호출자의 트랜잭션에서 버전과 집계를 함께 읽어야 결과가 읽은 버전보다 오래되지 않습니다.
+ * 매장 ID가 없는 조회(전체, 매장 이름)는 버전이 없으므로 캐시하지 않습니다.
+ * 캐시한 결과는 요청끼리 공유하므로 변경 불가 목록으로 돌려줍니다. 정렬·필터가 필요하면 복사해서 씁니다.
+ */
+@Component
+public class StoreFinancialReportCache {
+
+    public static final String CACHE_NAME = "storeFinancials";
+
+    private final StoreDailyFinancialRepository storeDailyFinancialRepository;
+    private final Cache cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StoreFinancialReportCache(StoreDailyFinancialRepository storeDailyFinancialRepository,
+                                     CacheManager cacheManager,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.storeDailyFinancialRepository = storeDailyFinancialRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("financials.report.cache.hit.ratio", this, StoreFinancialReportCache::hitRatio)
+                    .description("매출 조회 결과 캐시 적중률 (매장 단위 조회 기준)")
+                    .register(registry);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<StoreSalesFinancialDto> getStoreFinancials(TransactionConditionDto condition, PeriodType periodType) {
+        if (cache == null || condition.getStoreId() == null) {
+            return storeDailyFinancialRepository.getStoreFinancials(condition, periodType);
+        }
+
+        long version = storeDailyFinancialRepository.findVersion(condition.getStoreId());
+        String key = condition.getStoreId() + ":" + version + ":" + periodType + ":"
+                + condition.getStartDate() + ":" + condition.getEndDate() + ":" + condition.getStoreName();
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return (List<StoreSalesFinancialDto>) cached.get();
+        }
+
+        misses.increment();
+        // 적중한 요청끼리 같은 목록을 공유하므로 변경 불가 목록으로 담음 (항목 DTO도 변경 불가)
+        List<StoreSalesFinancialDto> result = List.copyOf(
+                storeDailyFinancialRepository.getStoreFinancials(condition, periodType));
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+}
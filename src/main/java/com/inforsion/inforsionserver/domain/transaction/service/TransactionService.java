@@ -1,6 +1,7 @@
 package com.inforsion.inforsionserver.domain.transaction.service;
 
 import com.inforsion.inforsionserver.domain.store.repository.StoreRepository;
+import com.inforsion.inforsionserver.domain.transaction.dto.DailyFinancialChangeDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.response.StoreSalesFinancialDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionConditionDto;
 import com.inforsion.inforsionserver.domain.transaction.dto.request.TransactionRequestDto;
@@ -22,6 +23,8 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final StoreRepository storeRepository;
+    private final StoreFinancialReportCache storeFinancialReportCache;
+    private final FinancialRollupService financialRollupService;
 
     /**
      * 거래 생성
@@ -42,6 +45,7 @@ public class TransactionService {
                 .build();
 
         TransactionEntity saved = transactionRepository.save(entity);
+        financialRollupService.recordCreated(saved);
 
         return toResponseDto(saved);
     }
@@ -67,6 +71,7 @@ public class TransactionService {
     public TransactionResponseDto updateTransaction(Integer id, TransactionRequestDto requestDto) {
         TransactionEntity entity = transactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다." + id));
+        DailyFinancialChangeDto before = DailyFinancialChangeDto.removed(entity);
 
         entity.setName(requestDto.getName());
         entity.setDate(requestDto.getDate());
@@ -76,6 +81,7 @@ public class TransactionService {
         entity.setCostCategory(requestDto.getCostCategory());
 
         TransactionEntity updated = transactionRepository.save(entity);
+        financialRollupService.recordUpdated(before, updated);
         return toResponseDto(updated);
 
     }
@@ -85,19 +91,19 @@ public class TransactionService {
      */
     @Transactional
     public void deleteTransaction(Integer transactionId) {
-        if (!transactionRepository.existsById(transactionId)) {
-            throw new IllegalArgumentException("거래 내역을 찾을 수 없습니다.");
-        }
-        transactionRepository.deleteById(transactionId);
+        TransactionEntity entity = transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다."));
+        financialRollupService.recordDeleted(List.of(entity));
+        transactionRepository.delete(entity);
     }
 
     /**
      * 매출 조회
-     * 기간을 받아 기간 내의 매출을 조회합니다.
+     * 기간을 받아 기간 내의 매출을 조회합니다. (일 매출 집계 기준, 매장 단위 조회는 매출 데이터 버전으로 캐시)
      */
     @Transactional
     public List<StoreSalesFinancialDto> getStoreFinancials(TransactionConditionDto condition, PeriodType periodType){
-        return transactionRepository.getStoreFinancials(condition, periodType);
+        return storeFinancialReportCache.getStoreFinancials(condition, periodType);
     }
 
     private TransactionResponseDto toResponseDto(TransactionEntity entity) {
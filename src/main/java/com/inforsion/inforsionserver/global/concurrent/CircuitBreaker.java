@@ -0,0 +1,140 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서킷 브레이커 (외부 API 장애 전파 차단)
+ *
+ * - CLOSED: 최근 windowSize건 중 실패율이 failureRateThreshold 이상이면(최소 minimumCalls건) OPEN으로 전환
+ * - OPEN: openDuration 동안 호출을 바로 거부한 뒤 HALF_OPEN으로 전환
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출을 보내 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 호출 전 tryAcquirePermission(), 끝나면 onSuccess()/onFailure(), 취소되면 release()를 호출합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            halfOpenSucceeded++;
+            if (halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출(취소)의 시험 호출 허용 반납
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 풀릴 때까지 남은 시간(ms), OPEN이 아니면 0
+     */
+    public synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, (openDurationNanos - (System.nanoTime() - openedAt)) / 1_000_000L);
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("[{}] 서킷 브레이커 상태 변경: {} -> {} (최근 실패 {}/{})", name, state, next, windowFailures, windowCount);
+        state = next;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next != State.CLOSED) {
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        } else {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 분배기 관리 엔드포인트 (/actuator/dispatchers)
+ *
+ * GET  /actuator/dispatchers                 : 전체 분배기 상태
+ * GET  /actuator/dispatchers/{name}          : 분배기 상태
+ * POST /actuator/dispatchers/{name}          : {"poolSize": 12} 풀 크기 변경, {"storeId": 1, "weight": 2.0} 매장 가중치 변경
+ * name은 빈 이름(ocrTaskDispatcher, fileProcessingDispatcher)입니다.
+ */
+@Component
+@Endpoint(id = "dispatchers")
+@RequiredArgsConstructor
+public class DispatcherEndpoint {
+
+    private final Map<String, FairTaskDispatcher> dispatchers;
+
+    @ReadOperation
+    public Map<String, DispatcherStats> dispatchers() {
+        Map<String, DispatcherStats> stats = new TreeMap<>();
+        dispatchers.forEach((name, dispatcher) -> stats.put(name, dispatcher.getStats()));
+        return stats;
+    }
+
+    @ReadOperation
+    public DispatcherStats dispatcher(@Selector String name) {
+        FairTaskDispatcher dispatcher = dispatchers.get(name);
+        return dispatcher != null ? dispatcher.getStats() : null;
+    }
+
+    @WriteOperation
+    public DispatcherStats configure(@Selector String name, @Nullable Integer poolSize,
+                                     @Nullable Integer storeId, @Nullable Double weight) {
+        FairTaskDispatcher dispatcher = dispatchers.get(name);
+        if (dispatcher == null) {
+            return null;
+        }
+        if (poolSize != null) {
+            dispatcher.resize(poolSize);
+        }
+        if (storeId != null && weight != null) {
+            dispatcher.setStoreWeight(storeId, weight);
+        }
+        return dispatcher.getStats();
+    }
+}
@@ -0,0 +1,30 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * FairTaskDispatcher 상태 (관리 엔드포인트 응답)
+ */
+@Getter
+@Builder
+public class DispatcherStats {
+
+    private String name;
+
+    private int poolSize;
+
+    private int activeTasks;
+
+    private Map<TaskLane, Integer> queuedTasks;
+
+    private Map<TaskLane, Integer> queueCapacity;
+
+    private Map<TaskLane, Long> rejectedTasks;
+
+    private long averageServiceMillis;
+
+    private Map<Integer, Double> storeWeights;
+}
@@ -0,0 +1,17 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+public enum Downstream {
+    OCR_PROVIDER("OCR API"),   // 외부 OCR 제공자 (Naver Clova OCR)
+    S3("S3"),                  // 이미지 업로드/삭제
+    MONGO("MongoDB");          // OCR 원본/작업 상태 저장
+
+    private final String description;
+
+    Downstream(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,101 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import com.inforsion.inforsionserver.global.error.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 시스템별 동시 호출 제한
+ *
+ * 가상 스레드 모드에서는 분배기의 동시 실행 한도가 스레드 풀보다 훨씬 커지므로,
+ * OCR API / S3 / MongoDB 호출마다 세마포어로 동시 호출 수를 묶어 커넥션 풀과 외부 API 한도를 넘지 않게 합니다.
+ * 허용 수를 acquire-timeout 안에 얻지 못하면 TooManyRequestsException(429)으로 실패합니다.
+ */
+@Slf4j
+@Component
+public class DownstreamLimiter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final Map<Downstream, Semaphore> semaphores = new EnumMap<>(Downstream.class);
+    private final Map<Downstream, Integer> limits = new EnumMap<>(Downstream.class);
+    private final long acquireTimeoutMillis;
+
+    public DownstreamLimiter(@Value("${async.downstream-limits.ocr-provider:16}") int ocrProviderLimit,
+                             @Value("${async.downstream-limits.s3:32}") int s3Limit,
+                             @Value("${async.downstream-limits.mongo:50}") int mongoLimit,
+                             @Value("${async.downstream-limits.acquire-timeout-ms:5000}") long acquireTimeoutMillis,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        limits.put(Downstream.OCR_PROVIDER, ocrProviderLimit);
+        limits.put(Downstream.S3, s3Limit);
+        limits.put(Downstream.MONGO, mongoLimit);
+        limits.forEach((downstream, limit) -> semaphores.put(downstream, new Semaphore(limit, true)));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            semaphores.forEach((downstream, semaphore) ->
+                    Gauge.builder("downstream.in_flight", semaphore,
+                                    s -> limits.get(downstream) - s.availablePermits())
+                            .description("하위 시스템 동시 호출 수")
+                            .tags("downstream", downstream.name().toLowerCase())
+                            .register(registry));
+        }
+        log.info("하위 시스템 동시 호출 제한 - {}", limits);
+    }
+
+    /**
+     * 동시 호출 수 제한 안에서 실행
+     *
+     * @throws TooManyRequestsException 대기 시간 안에 허용 수를 얻지 못한 경우
+     */
+    public <T, E extends Exception> T call(Downstream downstream, LimitedCall<T, E> call) throws E {
+        Semaphore semaphore = semaphores.get(downstream);
+        acquire(downstream, semaphore);
+        try {
+            return call.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public <E extends Exception> void run(Downstream downstream, LimitedRun<E> run) throws E {
+        call(downstream, () -> {
+            run.run();
+            return null;
+        });
+    }
+
+    private void acquire(Downstream downstream, Semaphore semaphore) {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("{} 동시 호출 한도 초과 - 한도 {}, 대기 {}ms",
+                        downstream.getDescription(), limits.get(downstream), acquireTimeoutMillis);
+                throw new TooManyRequestsException(
+                        downstream.getDescription() + " 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException(RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LimitedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface LimitedRun<E extends Exception> {
+        void run() throws E;
+    }
+}
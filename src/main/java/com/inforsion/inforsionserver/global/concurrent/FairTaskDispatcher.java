@@ -0,0 +1,348 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+import com.inforsion.inforsionserver.global.error.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 레인/매장 단위 공정 분배기
+ *
+ * 작업을 스레드 풀 큐에 바로 넣지 않고 레인별 대기열에 보관했다가, 동시 실행 수(poolSize)가 비는 만큼만 실행기에 넘깁니다.
+ * 실행기가 가상 스레드 기반(SimpleAsyncTaskExecutor)이면 poolSize는 스레드 수가 아닌 동시 실행 한도로만 쓰입니다.
+ * - 레인: INTERACTIVE와 BULK가 모두 밀려 있으면 interactiveWeight : 1 비율로 꺼냅니다.
+ * - 매장: 레인 안에서는 매장별 가중치로 self-clocked fair queuing 태그를 매겨,
+ *   한 매장이 작업을 몰아 넣어도 다른 매장 작업이 그 뒤에 줄 서지 않습니다.
+ * 레인 대기열이 가득 차면 TooManyRequestsException(429, Retry-After)으로 거부합니다.
+ * 실행 중인 작업이 없을 때 실행기가 거부한 작업(풀 종료 중 등)은 버리고 제출할 때 받은 onRejected로 알립니다.
+ */
+@Slf4j
+public class FairTaskDispatcher {
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+    private static final long MAX_RETRY_AFTER_SECONDS = 300;
+    // 평균 처리 시간 지수이동평균 계수
+    private static final double SERVICE_TIME_ALPHA = 0.2;
+
+    private final String name;
+    private final TaskExecutor executor;
+    private final int interactiveWeight;
+    private final Map<TaskLane, LaneQueue> lanes = new EnumMap<>(TaskLane.class);
+    private final Map<Integer, Double> storeWeights = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private int poolSize;
+    private int activeTasks;
+    private int interactiveStreak;
+    private double averageServiceMillis = 1000;
+
+    public FairTaskDispatcher(String name, TaskExecutor executor, int poolSize, int interactiveWeight,
+                              int interactiveCapacity, int bulkCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = executor;
+        this.poolSize = poolSize;
+        this.interactiveWeight = Math.max(1, interactiveWeight);
+        lanes.put(TaskLane.INTERACTIVE, new LaneQueue(TaskLane.INTERACTIVE, interactiveCapacity));
+        lanes.put(TaskLane.BULK, new LaneQueue(TaskLane.BULK, bulkCapacity));
+
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    /**
+     * 작업 제출
+     *
+     * @param lane 처리 레인
+     * @param storeId 공정 분배 기준 매장 ID (null이면 공용 매장으로 취급)
+     * @throws TooManyRequestsException 레인 대기열이 가득 찬 경우
+     */
+    public void submit(TaskLane lane, Integer storeId, Runnable task) {
+        submit(lane, storeId, task, null);
+    }
+
+    /**
+     * 작업 제출 (실행기가 거부해 작업을 버릴 때 알림)
+     *
+     * @param onRejected 작업을 버릴 때 거부 예외와 함께 호출 (lock 밖, 거부를 일으킨 스레드에서). null이면 로그만 남김
+     * @throws TooManyRequestsException 레인 대기열이 가득 찬 경우
+     */
+    public void submit(TaskLane lane, Integer storeId, Runnable task, Consumer<Throwable> onRejected) {
+        List<Runnable> dropped;
+        synchronized (lock) {
+            LaneQueue queue = lanes.get(lane);
+            if (queue.queue.size() >= queue.capacity) {
+                queue.rejected++;
+                if (queue.rejectedCounter != null) {
+                    queue.rejectedCounter.increment();
+                }
+                long retryAfter = estimateRetryAfterSeconds(queue.queue.size());
+                log.warn("[{}] {} 레인 대기열 포화 - storeId={}, 대기 {}건, Retry-After {}s",
+                        name, lane, storeId, queue.queue.size(), retryAfter);
+                throw new TooManyRequestsException(retryAfter);
+            }
+            queue.offer(storeId, task, onRejected, storeWeights.getOrDefault(storeId, 1.0));
+            dropped = dispatch();
+        }
+        notifyDropped(dropped);
+    }
+
+    /**
+     * 풀 크기(동시 실행 수) 변경 (운영 중 조정)
+     */
+    public void resize(int newPoolSize) {
+        if (newPoolSize < 1) {
+            throw new IllegalArgumentException("풀 크기는 1 이상이어야 합니다: " + newPoolSize);
+        }
+        List<Runnable> dropped;
+        synchronized (lock) {
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                if (newPoolSize > pool.getMaxPoolSize()) {
+                    pool.setMaxPoolSize(newPoolSize);
+                    pool.setCorePoolSize(newPoolSize);
+                } else {
+                    pool.setCorePoolSize(newPoolSize);
+                    pool.setMaxPoolSize(newPoolSize);
+                }
+            }
+            log.info("[{}] 풀 크기 변경: {} -> {}", name, poolSize, newPoolSize);
+            poolSize = newPoolSize;
+            dropped = dispatch();
+        }
+        notifyDropped(dropped);
+    }
+
+    /**
+     * 매장 가중치 설정 (기본 1.0, 클수록 더 많은 몫을 받음)
+     */
+    public void setStoreWeight(Integer storeId, double weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("가중치는 0보다 커야 합니다: " + weight);
+        }
+        if (weight == 1.0) {
+            storeWeights.remove(storeId);
+        } else {
+            storeWeights.put(storeId, weight);
+        }
+    }
+
+    public DispatcherStats getStats() {
+        synchronized (lock) {
+            Map<TaskLane, Integer> queued = new EnumMap<>(TaskLane.class);
+            Map<TaskLane, Integer> capacity = new EnumMap<>(TaskLane.class);
+            Map<TaskLane, Long> rejected = new EnumMap<>(TaskLane.class);
+            lanes.forEach((lane, queue) -> {
+                queued.put(lane, queue.queue.size());
+                capacity.put(lane, queue.capacity);
+                rejected.put(lane, queue.rejected);
+            });
+            return DispatcherStats.builder()
+                    .name(name)
+                    .poolSize(poolSize)
+                    .activeTasks(activeTasks)
+                    .queuedTasks(queued)
+                    .queueCapacity(capacity)
+                    .rejectedTasks(rejected)
+                    .averageServiceMillis(Math.round(averageServiceMillis))
+                    .storeWeights(new HashMap<>(storeWeights))
+                    .build();
+        }
+    }
+
+    /**
+     * 동시 실행 한도가 빈 만큼 대기 작업을 실행기에 넘김 (lock 보유 상태에서 호출)
+     *
+     * @return 실행기가 거부해 버린 작업의 거부 알림 (lock을 놓은 뒤 notifyDropped로 실행)
+     */
+    private List<Runnable> dispatch() {
+        List<Runnable> dropped = List.of();
+        LaneQueue interactive = lanes.get(TaskLane.INTERACTIVE);
+        LaneQueue bulk = lanes.get(TaskLane.BULK);
+
+        while (activeTasks < poolSize && !(interactive.queue.isEmpty() && bulk.queue.isEmpty())) {
+            LaneQueue lane;
+            if (!interactive.queue.isEmpty() && (bulk.queue.isEmpty() || interactiveStreak < interactiveWeight)) {
+                lane = interactive;
+                interactiveStreak++;
+            } else {
+                lane = bulk;
+                interactiveStreak = 0;
+            }
+
+            QueuedTask queued = lane.poll();
+            activeTasks++;
+            try {
+                executor.execute(() -> runTask(lane, queued));
+            } catch (RuntimeException e) {
+                // 풀이 종료 중이거나 크기 조정 직후라 거부된 경우
+                activeTasks--;
+                if (activeTasks > 0) {
+                    // 실행 중인 작업이 끝날 때 다시 분배되므로 원래 태그 그대로 레인 맨 앞에 되돌림
+                    lane.requeue(queued);
+                    log.error("[{}] 작업 실행 거부, 대기열로 되돌림 - storeId={}, 오류={}", name, queued.storeId, e.getMessage());
+                    break;
+                }
+                // 실행 중인 작업이 없으면 다시 분배할 계기가 없어 영영 남으므로 이 작업은 버리고 제출자에게 알린 뒤 다음 작업 시도
+                log.error("[{}] 작업 실행 거부, 작업 버림 - storeId={}, 오류={}", name, queued.storeId, e.getMessage(), e);
+                if (queued.onRejected != null) {
+                    if (dropped.isEmpty()) {
+                        dropped = new ArrayList<>();
+                    }
+                    dropped.add(() -> queued.onRejected.accept(e));
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 버린 작업의 제출자에게 거부 알림 (lock 밖에서 호출. 알림 안에서 다시 submit해도 분배 중인 상태와 엉키지 않음)
+     */
+    private void notifyDropped(List<Runnable> dropped) {
+        for (Runnable notification : dropped) {
+            try {
+                notification.run();
+            } catch (Throwable e) {
+                log.error("[{}] 거부 알림 처리 중 오류 - 오류={}", name, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void runTask(LaneQueue lane, QueuedTask queued) {
+        long startedAt = System.nanoTime();
+        if (lane.waitTimer != null) {
+            lane.waitTimer.record(startedAt - queued.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        try {
+            queued.task.run();
+        } catch (Throwable e) {
+            log.error("[{}] 작업 실행 중 오류 - storeId={}, 오류={}", name, queued.storeId, e.getMessage(), e);
+        } finally {
+            double serviceMillis = (System.nanoTime() - startedAt) / 1_000_000.0;
+            List<Runnable> dropped;
+            synchronized (lock) {
+                activeTasks--;
+                averageServiceMillis += SERVICE_TIME_ALPHA * (serviceMillis - averageServiceMillis);
+                dropped = dispatch();
+            }
+            notifyDropped(dropped);
+        }
+    }
+
+    /**
+     * 대기 중인 작업이 모두 처리될 때까지의 예상 시간
+     */
+    private long estimateRetryAfterSeconds(int queued) {
+        double seconds = (queued + 1) * averageServiceMillis / poolSize / 1000.0;
+        return Math.max(MIN_RETRY_AFTER_SECONDS, Math.min(MAX_RETRY_AFTER_SECONDS, (long) Math.ceil(seconds)));
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        for (LaneQueue queue : lanes.values()) {
+            String lane = queue.lane.name().toLowerCase();
+            Gauge.builder("dispatcher.queue.size", queue, q -> q.queue.size())
+                    .description("레인 대기 작업 수")
+                    .tags("name", name, "lane", lane)
+                    .register(meterRegistry);
+            queue.waitTimer = Timer.builder("dispatcher.queue.wait")
+                    .description("레인 대기 시간")
+                    .tags("name", name, "lane", lane)
+                    .register(meterRegistry);
+            queue.rejectedCounter = Counter.builder("dispatcher.rejected")
+                    .description("대기열 포화로 거부된 작업 수")
+                    .tags("name", name, "lane", lane)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("dispatcher.active", this, dispatcher -> dispatcher.activeTasks)
+                .description("실행 중인 작업 수")
+                .tags("name", name)
+                .register(meterRegistry);
+        Gauge.builder("dispatcher.pool.size", this, dispatcher -> dispatcher.poolSize)
+                .description("동시 실행 한도 (스레드 풀 크기)")
+                .tags("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레인 대기열 (매장별 self-clocked fair queuing)
+     *
+     * 작업 태그 = max(레인 가상 시각, 같은 매장 직전 태그) + 1 / 매장 가중치
+     * 태그가 작은 작업부터 꺼내므로 매장마다 가중치에 비례해 번갈아 처리됩니다.
+     */
+    private static final class LaneQueue {
+
+        private final TaskLane lane;
+        private final int capacity;
+        private final PriorityQueue<QueuedTask> queue = new PriorityQueue<>(
+                Comparator.comparingDouble((QueuedTask task) -> task.tag).thenComparingLong(task -> task.sequence));
+        // 대기 작업이 남아 있는 매장의 마지막 태그
+        private final Map<Integer, Double> lastTags = new HashMap<>();
+        private double virtualTime;
+        private long sequence;
+        private long rejected;
+        private Timer waitTimer;
+        private Counter rejectedCounter;
+
+        private LaneQueue(TaskLane lane, int capacity) {
+            this.lane = lane;
+            this.capacity = capacity;
+        }
+
+        private void offer(Integer storeId, Runnable task, Consumer<Throwable> onRejected, double weight) {
+            double start = Math.max(virtualTime, lastTags.getOrDefault(storeId, 0.0));
+            double tag = start + 1.0 / weight;
+            lastTags.put(storeId, tag);
+            queue.add(new QueuedTask(storeId, task, onRejected, tag, sequence++, System.nanoTime()));
+        }
+
+        private QueuedTask poll() {
+            QueuedTask task = queue.poll();
+            virtualTime = task.tag;
+            // 매장의 마지막 작업이 나갔으면 태그 정리
+            if (lastTags.get(task.storeId) <= virtualTime) {
+                lastTags.remove(task.storeId);
+            }
+            return task;
+        }
+
+        private void requeue(QueuedTask task) {
+            queue.add(task);
+            lastTags.merge(task.storeId, task.tag, Math::max);
+        }
+    }
+
+    private static final class QueuedTask {
+
+        private final Integer storeId;
+        private final Runnable task;
+        private final Consumer<Throwable> onRejected; // null이면 버려도 알리지 않음
+        private final double tag;
+        private final long sequence;
+        private final long enqueuedAt;
+
+        private QueuedTask(Integer storeId, Runnable task, Consumer<Throwable> onRejected, double tag, long sequence,
+                           long enqueuedAt) {
+            this.storeId = storeId;
+            this.task = task;
+            this.onRejected = onRejected;
+            this.tag = tag;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
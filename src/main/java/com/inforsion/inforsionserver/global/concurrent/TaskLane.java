@@ -0,0 +1,16 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+public enum TaskLane {
+    INTERACTIVE("단건 처리"),   // 사용자가 결과를 기다리는 영수증 단건 작업
+    BULK("일괄 처리");          // 일괄 업로드, 재처리 등 백필 작업
+
+    private final String description;
+
+    TaskLane(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,60 @@
+package com.inforsion.inforsionserver.global.concurrent;
+
+/**
+ * 토큰 버킷 (외부 API 호출량 제한)
+ *
+ * 초당 refillPerSecond개씩 최대 capacity개까지 토큰이 쌓이고, 호출 한 번에 토큰 1개를 씁니다.
+ * 토큰이 없으면 다음 토큰이 생길 시점을 미리 예약해 대기 시간을 돌려주므로, 호출자는 스레드를 막지 않고 그만큼 늦춰 보내면 됩니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double nanosPerToken;
+
+    // 음수이면 이미 예약된(앞으로 생길) 토큰 수
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상, refillPerSecond는 0보다 커야 합니다");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = 1_000_000_000.0 / refillPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 예약
+     *
+     * @param maxWaitNanos 허용할 최대 대기 시간
+     * @return 토큰을 쓸 수 있을 때까지 기다려야 하는 시간(ns), maxWaitNanos를 넘으면 예약하지 않고 -1
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        refill(System.nanoTime());
+        double remaining = tokens - 1;
+        long waitNanos = remaining >= 0 ? 0 : (long) Math.ceil(-remaining * nanosPerToken);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens = remaining;
+        return waitNanos;
+    }
+
+    /**
+     * 토큰 1개가 생길 때까지 남은 시간(ns)
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill(System.nanoTime());
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed / nanosPerToken);
+            lastRefillNanos = now;
+        }
+    }
+}
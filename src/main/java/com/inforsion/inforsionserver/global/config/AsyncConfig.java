@@ -1,67 +1,152 @@
 package com.inforsion.inforsionserver.global.config;
 
+import com.inforsion.inforsionserver.global.concurrent.FairTaskDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
+/**
+ * 비동기 작업 스레드 풀 설정
+ *
+ * 작업은 스레드 풀에 직접 넣지 않고 FairTaskDispatcher(레인/매장 단위 공정 분배)를 통해 제출합니다.
+ * 분배기가 동시 실행 수를 풀 크기로 제한하므로 풀은 core = max 로 고정하고, 대기열 포화는 분배기에서 429로 처리합니다.
+ *
+ * async.virtual-threads.enabled=true 이고 JDK 21 이상이면 풀 대신 작업마다 가상 스레드를 만드는 실행기를 쓰고,
+ * 분배기의 동시 실행 한도는 async.virtual-threads.max-concurrency 로 올립니다.
+ * 이때 OCR API / S3 / MongoDB 동시 호출 수는 DownstreamLimiter가 제한합니다.
+ * Tomcat 요청 처리까지 가상 스레드로 돌리려면 spring.threads.virtual.enabled=true 를 함께 켭니다.
+ */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    @Value("${async.ocr.pool-size:8}")
+    private int ocrPoolSize;
+
+    @Value("${async.ocr.interactive-queue-capacity:100}")
+    private int ocrInteractiveCapacity;
+
+    @Value("${async.ocr.bulk-queue-capacity:1000}")
+    private int ocrBulkCapacity;
+
+    @Value("${async.file-processing.pool-size:16}")
+    private int filePoolSize;
+
+    @Value("${async.file-processing.interactive-queue-capacity:200}")
+    private int fileInteractiveCapacity;
+
+    @Value("${async.file-processing.bulk-queue-capacity:2000}")
+    private int fileBulkCapacity;
+
+    // INTERACTIVE : BULK 분배 비율 (두 레인이 모두 밀려 있을 때)
+    @Value("${async.interactive-weight:4}")
+    private int interactiveWeight;
+
+    @Value("${async.virtual-threads.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // 가상 스레드 모드의 분배기별 동시 실행 한도
+    @Value("${async.virtual-threads.max-concurrency:256}")
+    private int virtualMaxConcurrency;
+
     @Bean(name = "ocrTaskExecutor")
-    public Executor ocrTaskExecutor() {
+    public TaskExecutor ocrTaskExecutor() {
+        if (useVirtualThreads()) {
+            return virtualThreadExecutor("OCR-Task-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
+
         // OCR 작업용 스레드 풀 설정
-        executor.setCorePoolSize(4);        // 기본 스레드 수
-        executor.setMaxPoolSize(8);         // 최대 스레드 수
-        executor.setQueueCapacity(100);     // 대기 큐 크기
-        executor.setKeepAliveSeconds(60);   // 유휴 스레드 생존 시간
-        
+        executor.setCorePoolSize(ocrPoolSize);  // 기본 스레드 수 (= 최대, 동시 실행 수는 분배기가 제한)
+        executor.setMaxPoolSize(ocrPoolSize);   // 최대 스레드 수
+        executor.setQueueCapacity(100);         // 대기 큐 크기 (분배기 교대 시점의 여유분)
+        executor.setKeepAliveSeconds(60);       // 유휴 스레드 생존 시간
+        executor.setAllowCoreThreadTimeOut(true);
+
         executor.setThreadNamePrefix("OCR-Task-");
-        executor.setRejectedExecutionHandler((runnable, executor1) -> {
-            log.warn("OCR 작업 스레드 풀이 포화상태입니다. 작업이 거부되었습니다.");
-            throw new RuntimeException("OCR 작업 스레드 풀 포화");
-        });
-        
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
-        
+
         executor.initialize();
-        log.info("OCR Task Executor 초기화 완료 - CoreSize: {}, MaxSize: {}, QueueCapacity: {}", 
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-        
+        log.info("OCR Task Executor 초기화 완료 - PoolSize: {}, QueueCapacity: {}",
+                executor.getMaxPoolSize(), executor.getQueueCapacity());
+
         return executor;
     }
-    
+
     @Bean(name = "fileProcessingExecutor")
-    public Executor fileProcessingExecutor() {
+    public TaskExecutor fileProcessingExecutor() {
+        if (useVirtualThreads()) {
+            return virtualThreadExecutor("File-Processing-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
+
         // 파일 처리용 스레드 풀 설정 (더 많은 스레드 할당)
-        executor.setCorePoolSize(8);
-        executor.setMaxPoolSize(16);
+        executor.setCorePoolSize(filePoolSize);
+        executor.setMaxPoolSize(filePoolSize);
         executor.setQueueCapacity(200);
         executor.setKeepAliveSeconds(60);
-        
+        executor.setAllowCoreThreadTimeOut(true);
+
         executor.setThreadNamePrefix("File-Processing-");
-        executor.setRejectedExecutionHandler((runnable, executor1) -> {
-            log.warn("파일 처리 스레드 풀이 포화상태입니다.");
-            throw new RuntimeException("파일 처리 스레드 풀 포화");
-        });
-        
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
-        
+
         executor.initialize();
-        log.info("File Processing Executor 초기화 완료 - CoreSize: {}, MaxSize: {}, QueueCapacity: {}", 
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-        
+        log.info("File Processing Executor 초기화 완료 - PoolSize: {}, QueueCapacity: {}",
+                executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    @Bean(name = "ocrTaskDispatcher")
+    public FairTaskDispatcher ocrTaskDispatcher(@Qualifier("ocrTaskExecutor") TaskExecutor executor,
+                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        int concurrency = useVirtualThreads() ? virtualMaxConcurrency : ocrPoolSize;
+        return new FairTaskDispatcher("ocr", executor, concurrency, interactiveWeight,
+                ocrInteractiveCapacity, ocrBulkCapacity, meterRegistry.getIfAvailable());
+    }
+
+    @Bean(name = "fileProcessingDispatcher")
+    public FairTaskDispatcher fileProcessingDispatcher(@Qualifier("fileProcessingExecutor") TaskExecutor executor,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        int concurrency = useVirtualThreads() ? virtualMaxConcurrency : filePoolSize;
+        return new FairTaskDispatcher("file-processing", executor, concurrency, interactiveWeight,
+                fileInteractiveCapacity, fileBulkCapacity, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 가상 스레드 모드 사용 여부 (설정이 켜져 있어도 JDK 21 미만이면 스레드 풀 사용)
+     */
+    private boolean useVirtualThreads() {
+        return virtualThreadsEnabled && Runtime.version().feature() >= 21;
+    }
+
+    private TaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000); // 종료 시 실행 중 작업 대기 (ms)
+        log.info("{} 가상 스레드 실행기 초기화 완료 - 동시 실행 한도: {}", threadNamePrefix, virtualMaxConcurrency);
         return executor;
     }
-}
\ No newline at end of file
+
+    @PostConstruct
+    void logExecutionMode() {
+        if (virtualThreadsEnabled && !useVirtualThreads()) {
+            log.warn("async.virtual-threads.enabled=true 이지만 JDK {}에서는 가상 스레드를 쓸 수 없어 스레드 풀로 실행합니다 (JDK 21 이상 필요)",
+                    Runtime.version().feature());
+        }
+    }
+}
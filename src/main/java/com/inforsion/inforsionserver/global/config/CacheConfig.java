@@ -1,25 +1,61 @@
 package com.inforsion.inforsionserver.global.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * 캐시 설정
+ *
+ * Caffeine(W-TinyLFU) 기반으로 캐시별 최대 개수/만료 시간을 제한합니다.
+ * 캐시별 설정은 application.yml의 cache.specs.* (CaffeineSpec 형식)로 조정하며,
+ * 적중/미적중/제거 통계는 actuator 메트릭(cache.gets, cache.evictions)으로 확인할 수 있습니다.
+ */
 @Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${cache.specs.ocr-job-status:maximumSize=10000,expireAfterWrite=30m}")
+    private String ocrJobStatusSpec;
+
+    @Value("${cache.specs.receipt-analysis:maximumSize=5000,expireAfterWrite=1h}")
+    private String receiptAnalysisSpec;
+
+    @Value("${cache.specs.ocr-results:maximumSize=2000,expireAfterWrite=1h}")
+    private String ocrResultsSpec;
+
+    @Value("${cache.specs.inventory-expiry-summary:maximumSize=10000,expireAfterWrite=1h}")
+    private String inventoryExpirySummarySpec;
+
+    @Value("${cache.specs.store-financials:maximumSize=5000,expireAfterAccess=1h}")
+    private String storeFinancialsSpec;
+
     @Bean
     public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(Arrays.asList("ocrJobStatus", "receiptAnalysis", "ocrResults"));
-        
-        log.info("캐시 매니저 초기화 완료 - 캐시명: ocrJobStatus, receiptAnalysis, ocrResults");
+        Map<String, String> specs = new LinkedHashMap<>();
+        specs.put("ocrJobStatus", ocrJobStatusSpec);
+        specs.put("receiptAnalysis", receiptAnalysisSpec);
+        specs.put("ocrResults", ocrResultsSpec);
+        specs.put("inventoryExpirySummary", inventoryExpirySummarySpec);
+        specs.put("storeFinancials", storeFinancialsSpec);
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록된 캐시만 사용 (이름 오타로 제한 없는 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(Collections.emptyList());
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name,
+                Caffeine.from(spec).recordStats().build()));
+
+        log.info("캐시 매니저 초기화 완료 - {}", specs);
         return cacheManager;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,82 @@
 package com.inforsion.inforsionserver.global.config;
 
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.OcrRawDataEntity;
+import com.inforsion.inforsionserver.domain.ocr.mongo.entity.ReceiptFingerprintEntity;
+import com.inforsion.inforsionserver.global.id.MongoBlockIdAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @EnableMongoAuditing
 public class MongoConfig {
-}
\ No newline at end of file
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration fingerprintRetention;
+    private final int rawDataIdBlockSize;
+
+    public MongoConfig(MongoTemplate mongoTemplate,
+                       @Value("${ocr.dedup.retention-days:30}") long fingerprintRetentionDays,
+                       @Value("${ocr.raw-data-id.block-size:100}") int rawDataIdBlockSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.fingerprintRetention = Duration.ofDays(fingerprintRetentionDays);
+        this.rawDataIdBlockSize = rawDataIdBlockSize;
+    }
+
+    /**
+     * rawDataId 할당기 (카운터가 없으면 기존 원본 데이터의 최대 rawDataId부터 시작)
+     * 할당기를 만들기 전에 rawDataId 유일 인덱스를 보장합니다. 인덱스가 없으면 서버 사이 ID 중복을 막을 수 없으므로,
+     * 만들지 못하면(MongoDB 연결 실패, 이전 해시 방식으로 겹친 rawDataId 남음) 기동이 실패합니다. 중복을 정리한 뒤 재시작해야 합니다.
+     */
+    @Bean
+    public MongoBlockIdAllocator rawDataIdAllocator() {
+        try {
+            mongoTemplate.indexOps(OcrRawDataEntity.class).ensureIndex(new Index()
+                    .on("rawDataId", Sort.Direction.ASC).unique().sparse().named("raw_data_id"));
+        } catch (Exception e) {
+            throw new IllegalStateException("ocr_raw_data rawDataId 유일 인덱스 생성 실패 (서버 사이 rawDataId가 겹칠 수 있음)", e);
+        }
+
+        return new MongoBlockIdAllocator(mongoTemplate, "ocr_raw_data.rawDataId", rawDataIdBlockSize, () -> {
+            OcrRawDataEntity latest = mongoTemplate.findOne(
+                    new Query().with(Sort.by(Sort.Direction.DESC, "rawDataId")).limit(1), OcrRawDataEntity.class);
+            return latest != null && latest.getRawDataId() != null ? latest.getRawDataId() : 0;
+        });
+    }
+
+    /**
+     * 조회에 필요한 인덱스 생성 (이미 있으면 그대로 둠, rawDataId 유일 인덱스는 rawDataIdAllocator에서)
+     * 조회 성능용이라 실패해도 서버는 시작되도록 경고만 남깁니다.
+     * TTL(보관 기간)을 바꾸려면 기존 인덱스를 지운 뒤 재시작해야 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations fingerprints = mongoTemplate.indexOps(ReceiptFingerprintEntity.class);
+            fingerprints.ensureIndex(new Index()
+                    .on("storeId", Sort.Direction.ASC).on("contentHash", Sort.Direction.ASC)
+                    .unique().named("store_content_hash"));
+            fingerprints.ensureIndex(new Index()
+                    .on("storeId", Sort.Direction.ASC).on("perceptualBands", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC).named("store_perceptual_bands"));
+            fingerprints.ensureIndex(new Index()
+                    .on("jobId", Sort.Direction.ASC).sparse().named("job_id"));
+            fingerprints.ensureIndex(new Index()
+                    .on("createdAt", Sort.Direction.ASC).expire(fingerprintRetention).named("created_at_ttl"));
+        } catch (Exception e) {
+            log.warn("ocr_fingerprints 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.inforsion.inforsionserver.global.config;
+
+import com.inforsion.inforsionserver.domain.ocr.client.HedgedOcrProvider;
+import com.inforsion.inforsionserver.domain.ocr.client.NaverOcrClient;
+import com.inforsion.inforsionserver.domain.ocr.client.OcrProvider;
+import com.inforsion.inforsionserver.global.concurrent.CircuitBreaker;
+import com.inforsion.inforsionserver.global.concurrent.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OCR API 클라이언트 설정
+ *
+ * OCR 전용 커넥션 풀을 따로 두어 다른 WebClient 호출과 커넥션을 나눠 쓰지 않게 하고,
+ * 풀이 가득 차면 pending-acquire-max-count까지만 대기시킵니다.
+ * OcrProvider 주입 시에는 기본/보조 엔드포인트를 묶은 HedgedOcrProvider(ocrProvider)가 쓰입니다.
+ */
+@Configuration
+public class OcrClientConfig {
+
+    @Value("${naver.ocr.api-url:}")
+    private String apiUrl;
+
+    @Value("${naver.ocr.secret-key:}")
+    private String secretKey;
+
+    // 헤징용 보조 엔드포인트 (비어 있으면 헤징하지 않음)
+    @Value("${naver.ocr.secondary-api-url:}")
+    private String secondaryApiUrl;
+
+    @Value("${naver.ocr.secondary-secret-key:}")
+    private String secondarySecretKey;
+
+    @Value("${naver.ocr.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${naver.ocr.response-timeout-ms:10000}")
+    private long responseTimeoutMs;
+
+    @Value("${naver.ocr.pool.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${naver.ocr.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${naver.ocr.pool.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${naver.ocr.pool.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${naver.ocr.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${naver.ocr.rate-limit.requests-per-second:10}")
+    private double requestsPerSecond;
+
+    @Value("${naver.ocr.rate-limit.burst:20}")
+    private int burst;
+
+    @Value("${naver.ocr.rate-limit.max-wait-ms:3000}")
+    private long maxRateLimitWaitMs;
+
+    @Value("${naver.ocr.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${naver.ocr.retry.min-backoff-ms:200}")
+    private long minBackoffMs;
+
+    @Value("${naver.ocr.retry.max-backoff-ms:2000}")
+    private long maxBackoffMs;
+
+    @Value("${naver.ocr.retry.jitter:0.5}")
+    private double jitter;
+
+    @Value("${naver.ocr.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${naver.ocr.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${naver.ocr.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${naver.ocr.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${naver.ocr.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${naver.ocr.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${naver.ocr.hedge.initial-delay-ms:2000}")
+    private long hedgeInitialDelayMs;
+
+    @Value("${naver.ocr.hedge.min-delay-ms:300}")
+    private long hedgeMinDelayMs;
+
+    @Value("${naver.ocr.hedge.max-delay-ms:5000}")
+    private long hedgeMaxDelayMs;
+
+    @Value("${naver.ocr.hedge.max-ratio:0.1}")
+    private double hedgeMaxRatio;
+
+    @Bean(name = "ocrConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider ocrConnectionProvider() {
+        return ConnectionProvider.builder("naver-ocr")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true) // reactor.netty.connection.provider.* 메트릭
+                .build();
+    }
+
+    @Bean(name = "ocrWebClient")
+    public WebClient ocrWebClient(WebClient.Builder builder,
+                                  @Qualifier("ocrConnectionProvider") ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .keepAlive(true);
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+    }
+
+    @Bean
+    public NaverOcrClient naverOcrClient(@Qualifier("ocrWebClient") WebClient webClient,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return naverClient(NaverOcrClient.ENGINE_NAME, apiUrl, secretKey, webClient, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    @Primary
+    public OcrProvider ocrProvider(NaverOcrClient naverOcrClient,
+                                   @Qualifier("ocrWebClient") WebClient webClient,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        // 보조 엔드포인트는 호출 한도와 서킷 브레이커를 따로 가짐
+        OcrProvider secondary = secondaryApiUrl.isBlank() ? null
+                : naverClient(NaverOcrClient.ENGINE_NAME + "-secondary", secondaryApiUrl, secondarySecretKey,
+                        webClient, meterRegistry.getIfAvailable());
+
+        return HedgedOcrProvider.builder()
+                .primary(naverOcrClient)
+                .secondary(secondary)
+                .percentile(hedgePercentile)
+                .initialDelay(Duration.ofMillis(hedgeInitialDelayMs))
+                .minDelay(Duration.ofMillis(hedgeMinDelayMs))
+                .maxDelay(Duration.ofMillis(hedgeMaxDelayMs))
+                .maxHedgeRatio(hedgeMaxRatio)
+                .meterRegistry(meterRegistry.getIfAvailable())
+                .build();
+    }
+
+    private NaverOcrClient naverClient(String name, String url, String key, WebClient webClient,
+                                       MeterRegistry meterRegistry) {
+        return NaverOcrClient.builder()
+                .name(name)
+                .webClient(webClient)
+                .apiUrl(url)
+                .secretKey(key)
+                .rateLimiter(new TokenBucket(burst, requestsPerSecond))
+                .maxRateLimitWait(Duration.ofMillis(maxRateLimitWaitMs))
+                .circuitBreaker(new CircuitBreaker(name, windowSize, minimumCalls,
+                        failureRateThreshold, openDurationMs, halfOpenCalls))
+                .maxRetries(maxRetries)
+                .minBackoff(Duration.ofMillis(minBackoffMs))
+                .maxBackoff(Duration.ofMillis(maxBackoffMs))
+                .jitter(jitter)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
@@ -32,6 +33,11 @@ public class SecurityConfig {
                     "/v3/api-docs/**",
                     "/webjars/**"
                 ).permitAll()
+                // 헬스체크 허용
+                .requestMatchers("/actuator/health").permitAll()
+                // 메트릭 조회(캐시, 분배기 대기열, 커넥션 풀, 매장별 태그), 작업 분배기 관리(풀 크기 조정), 일 매출 집계 재계산은 로컬에서만 허용
+                .requestMatchers("/actuator/metrics/**", "/actuator/dispatchers/**", "/actuator/financials/**")
+                    .access(new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))
                 // API 경로는 임시로 모두 허용 (추후 인증 적용)
                 .requestMatchers("/api/**").permitAll()
                 // 기타 모든 요청은 인증 필요
@@ -2,6 +2,7 @@ package com.inforsion.inforsionserver.global.enums;
 
 public enum AlertType {
     LOW_STOCK("low_stock"),
+    EXPIRY("expiry"),
     SYSTEM("system");
 
     private final String value;
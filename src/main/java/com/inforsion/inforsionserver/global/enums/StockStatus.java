@@ -1,5 +1,8 @@
 package com.inforsion.inforsionserver.global.enums;
 
+import java.math.BigDecimal;
+
+// 심각도 순서 (SUFFICIENT < LOW < OUT_OF_STOCK)
 public enum StockStatus {
     SUFFICIENT("sufficient"),
     LOW("low"),
@@ -14,4 +17,21 @@ public enum StockStatus {
     public String getValue() {
         return value;
     }
+
+    /**
+     * 현재 수량과 최소 재고 수준으로 상태 계산 (0 이하면 품절, 최소 재고 수준 이하면 부족)
+     */
+    public static StockStatus of(BigDecimal currentStock, BigDecimal minStock) {
+        if (currentStock.signum() <= 0) {
+            return OUT_OF_STOCK;
+        }
+        if (minStock != null && currentStock.compareTo(minStock) <= 0) {
+            return LOW;
+        }
+        return SUFFICIENT;
+    }
+
+    public boolean isWorseThan(StockStatus other) {
+        return compareTo(other) > 0;
+    }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED("C003", "지원하지 않는 HTTP 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
     INVALID_TYPE_VALUE("C004", "잘못된 타입 값입니다.", HttpStatus.BAD_REQUEST),
     HANDLE_ACCESS_DENIED("C005", "접근이 거부되었습니다.", HttpStatus.FORBIDDEN),
+    TOO_MANY_REQUESTS("C006", "요청이 많아 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // User Errors
     USER_NOT_FOUND("U001", "사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -70,7 +71,12 @@ public enum ErrorCode {
     INVALID_FILE_FORMAT("F002", "지원하지 않는 파일 형식입니다.", HttpStatus.BAD_REQUEST),
     FILE_SIZE_EXCEEDED("F003", "파일 크기가 허용 범위를 초과했습니다.", HttpStatus.BAD_REQUEST),
     FILE_NOT_FOUND("F004", "파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-    FILE_DELETE_FAILED("F005", "파일 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    FILE_DELETE_FAILED("F005", "파일 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // OCR Errors
+    OCR_JOB_NOT_FOUND("O001", "OCR 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    OCR_PROVIDER_ERROR("O002", "OCR 서비스 호출에 실패했습니다.", HttpStatus.BAD_GATEWAY),
+    OCR_PROVIDER_UNAVAILABLE("O003", "OCR 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
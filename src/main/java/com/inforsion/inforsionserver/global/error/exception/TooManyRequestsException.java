@@ -0,0 +1,21 @@
+package com.inforsion.inforsionserver.global.error.exception;
+
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends BusinessException {
+
+    // 재시도까지 권장 대기 시간 (Retry-After 헤더)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
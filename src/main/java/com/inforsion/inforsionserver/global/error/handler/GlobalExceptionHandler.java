@@ -3,8 +3,10 @@ package com.inforsion.inforsionserver.global.error.handler;
 import com.inforsion.inforsionserver.global.error.code.ErrorCode;
 import com.inforsion.inforsionserver.global.error.dto.ErrorResponse;
 import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import com.inforsion.inforsionserver.global.error.exception.TooManyRequestsException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -36,6 +38,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, e.getErrorCode().getStatus());
     }
 
+    /**
+     * 작업 대기열 포화 예외 처리 (429 + Retry-After)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("TooManyRequestsException: {} (Retry-After: {}s)", e.getMessage(), e.getRetryAfterSeconds());
+        final ErrorResponse response = ErrorResponse.of(e.getErrorCode(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Bean Validation 예외 처리
      */
@@ -0,0 +1,60 @@
+package com.inforsion.inforsionserver.global.id;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * id_sequences 테이블 초기화
+ *
+ * @TableGenerator(table = "id_sequences")를 쓰는 엔티티는 Hibernate가 sequence_name 행의 next_val부터 allocationSize개씩 id를 받아 갑니다.
+ * (hibernate.id.optimizer.pooled.preferred: pooled-lo → next_val이 다음 블록의 첫 id)
+ * 예전에 AUTO_INCREMENT로 쌓인 행, data.sql로 넣은 행과 겹치지 않도록 next_val을 기존 최대 id + 1 이상으로 맞춥니다.
+ * 모든 빈과 data.sql 실행이 끝난 뒤, 웹 서버가 요청을 받기 전에 실행됩니다. 맞추지 못하면 기동이 실패합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // sequence_name(= pkColumnValue) → "테이블.id 컬럼"
+    private static final Map<String, String[]> SEQUENCES = Map.of(
+            "inventory_logs", new String[]{"inventory_logs", "log_id"},
+            "receipt_products", new String[]{"receipt_products", "id"});
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach((sequenceName, target) -> {
+            try {
+                Long nextId = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + target[1] + "), 0) + 1 FROM " + target[0], Long.class);
+                if (raiseNextVal(sequenceName, nextId) == 0) {
+                    try {
+                        jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)",
+                                sequenceName, nextId);
+                    } catch (DuplicateKeyException e) {
+                        // 다른 서버가 먼저 넣은 경우
+                        raiseNextVal(sequenceName, nextId);
+                    }
+                }
+                log.info("id 시퀀스 초기화: {} (next_val={})", sequenceName, jdbcTemplate.queryForObject(
+                        "SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequenceName));
+            } catch (Exception e) {
+                // 맞추지 못한 시퀀스로 띄우면 첫 insert부터 기존 id와 겹쳐 실패하므로 기동을 멈춤
+                throw new IllegalStateException("id 시퀀스 초기화 실패 (기존 id와 겹칠 수 있음): " + sequenceName, e);
+            }
+        });
+    }
+
+    private int raiseNextVal(String sequenceName, Long nextId) {
+        return jdbcTemplate.update("UPDATE id_sequences SET next_val = GREATEST(next_val, ?) WHERE sequence_name = ?",
+                nextId, sequenceName);
+    }
+}
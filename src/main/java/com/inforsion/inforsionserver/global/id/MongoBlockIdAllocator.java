@@ -0,0 +1,88 @@
+package com.inforsion.inforsionserver.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 블록 단위 ID 할당기 (hi/lo)
+ *
+ * counters 컬렉션의 카운터 문서를 findAndModify($inc)로 blockSize만큼 올려 ID 블록을 받고, 블록 안의 ID는 메모리에서 하나씩 나눠 줍니다.
+ * 노드마다 겹치지 않는 블록을 받으므로 여러 서버에서도 유일하고, MongoDB 왕복은 blockSize개마다 한 번입니다.
+ * - 한 노드 안에서는 단조 증가하지만, 노드 사이에서는 블록 단위로 순서가 섞입니다.
+ * - 서버가 재시작되면 쓰지 않은 블록의 나머지는 건너뜁니다.
+ * - 카운터 문서가 없으면 seed(기존 최대 ID)에서 시작하므로, 이전 방식으로 만든 ID와 겹치지 않습니다.
+ */
+@Slf4j
+public class MongoBlockIdAllocator {
+
+    private static final String COLLECTION = "counters";
+    private static final String VALUE = "value";
+
+    private final MongoTemplate mongoTemplate;
+    private final String counterName;
+    private final int blockSize;
+    private final LongSupplier seed;
+
+    // 현재 블록에서 다음에 줄 ID와 블록의 마지막 ID (next > blockEnd면 새 블록 필요)
+    private long next = 1;
+    private long blockEnd = 0;
+
+    public MongoBlockIdAllocator(MongoTemplate mongoTemplate, String counterName, int blockSize, LongSupplier seed) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("블록 크기는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.counterName = counterName;
+        this.blockSize = blockSize;
+        this.seed = seed;
+    }
+
+    public synchronized long nextId() {
+        if (next > blockEnd) {
+            allocateBlock();
+        }
+        return next++;
+    }
+
+    private void allocateBlock() {
+        Long hi = increment();
+        if (hi == null) {
+            initializeCounter();
+            hi = increment();
+        }
+        blockEnd = hi;
+        next = hi - blockSize + 1;
+        log.debug("[{}] ID 블록 할당: {} ~ {}", counterName, next, blockEnd);
+    }
+
+    /**
+     * 카운터를 blockSize만큼 올리고 올린 값(블록의 마지막 ID) 반환, 카운터 문서가 없으면 null
+     */
+    private Long increment() {
+        Document counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(counterName)),
+                new Update().inc(VALUE, blockSize),
+                FindAndModifyOptions.options().returnNew(true),
+                Document.class,
+                COLLECTION);
+        return counter != null ? ((Number) counter.get(VALUE)).longValue() : null;
+    }
+
+    private void initializeCounter() {
+        long initialValue = Math.max(0, seed.getAsLong());
+        try {
+            mongoTemplate.insert(new Document("_id", counterName).append(VALUE, initialValue), COLLECTION);
+            log.info("[{}] ID 카운터 생성: 시작값 {}", counterName, initialValue);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 생성
+        }
+    }
+}
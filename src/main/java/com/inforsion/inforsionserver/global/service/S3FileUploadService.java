@@ -1,5 +1,7 @@
 package com.inforsion.inforsionserver.global.service;
 
+import com.inforsion.inforsionserver.global.concurrent.Downstream;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class S3FileUploadService {
 
     private final S3Client s3Client;
+    private final DownstreamLimiter downstreamLimiter;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -38,6 +41,9 @@ public class S3FileUploadService {
     // 허용되는 이미지 파일 확장자
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
     
+    // 문서 업로드 시 추가로 허용되는 확장자 (여러 페이지 영수증/거래명세서)
+    private static final List<String> ALLOWED_DOCUMENT_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp", "pdf");
+    
     // 최대 파일 크기 (10MB)
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
@@ -51,8 +57,26 @@ public class S3FileUploadService {
      * @throws RuntimeException S3 업로드 실패 시
      */
     public String uploadImageFile(MultipartFile file, String directory) {
-        validateFile(file);
-        
+        validateFile(file, ALLOWED_EXTENSIONS);
+        return upload(file, directory);
+    }
+
+    /**
+     * 이미지 또는 PDF 문서를 S3에 업로드합니다.
+     * 
+     * @param file 업로드할 파일
+     * @param directory S3 내 디렉토리
+     * @return 업로드된 파일의 S3 URL
+     * @throws IllegalArgumentException 파일이 유효하지 않은 경우
+     * @throws RuntimeException S3 업로드 실패 시
+     */
+    public String uploadDocumentFile(MultipartFile file, String directory) {
+        validateFile(file, ALLOWED_DOCUMENT_EXTENSIONS);
+        return upload(file, directory);
+    }
+
+    private String upload(MultipartFile file, String directory) {
+
         String fileName = generateFileName(file.getOriginalFilename());
         String s3Key = directory + "/" + fileName;
         
@@ -65,7 +89,8 @@ public class S3FileUploadService {
                     .contentLength(file.getSize())
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            downstreamLimiter.call(Downstream.S3, () ->
+                    s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize())));
             
             // 업로드된 파일의 URL 생성
             String fileUrl = generateFileUrl(s3Key);
@@ -101,7 +126,7 @@ public class S3FileUploadService {
                     .key(s3Key)
                     .build();
                     
-            s3Client.deleteObject(deleteObjectRequest);
+            downstreamLimiter.call(Downstream.S3, () -> s3Client.deleteObject(deleteObjectRequest));
             
             log.info("파일 삭제 성공: {}", fileUrl);
             
@@ -111,13 +136,38 @@ public class S3FileUploadService {
         }
     }
 
+    /**
+     * S3에서 파일을 내려받습니다.
+     * 
+     * @param fileUrl 내려받을 파일의 S3 URL
+     * @return 파일 내용
+     * @throws RuntimeException S3 다운로드 실패 시
+     */
+    public byte[] downloadFile(String fileUrl) {
+        String s3Key = extractS3KeyFromUrl(fileUrl);
+        
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build();
+            
+            return downstreamLimiter.call(Downstream.S3, () -> s3Client.getObjectAsBytes(getObjectRequest).asByteArray());
+            
+        } catch (S3Exception e) {
+            log.error("S3 파일 다운로드 실패: {}", fileUrl, e);
+            throw new RuntimeException("S3 파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
     /**
      * 파일 유효성을 검증합니다.
      * 
      * @param file 검증할 파일
+     * @param allowedExtensions 허용되는 확장자
      * @throws IllegalArgumentException 파일이 유효하지 않은 경우
      */
-    private void validateFile(MultipartFile file) {
+    private void validateFile(MultipartFile file, List<String> allowedExtensions) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
@@ -132,8 +182,8 @@ public class S3FileUploadService {
         }
         
         String extension = getFileExtension(originalFilename).toLowerCase();
-        if (!ALLOWED_EXTENSIONS.contains(extension)) {
-            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. 허용되는 형식: " + ALLOWED_EXTENSIONS);
+        if (!allowedExtensions.contains(extension)) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. 허용되는 형식: " + allowedExtensions);
         }
     }
 
@@ -35,7 +35,7 @@ INSERT IGNORE INTO inventories (store_id, ingredient_name, current_stock, min_st
 (1, '콜롬비아 원두', 30.0, 10.0, 100.0, 'kg', 28000.00, '2024-01-15', '2024-06-15', 'SUFFICIENT', NOW(), NOW()),
 (1, '우유', 20.0, 5.0, 50.0, 'L', 2500.00, '2024-01-20', '2024-02-05', 'SUFFICIENT', NOW(), NOW()),
 (1, '바닐라시럽', 10.0, 3.0, 20.0, 'L', 8000.00, '2024-01-18', '2024-12-31', 'SUFFICIENT', NOW(), NOW()),
-(1, '카라멜시럽', 8.0, 3.0, 20.0, 'L', 8500.00, '2024-01-18', '2024-12-31', 'LOW', NOW(), NOW()),
+(1, '카라멜시럽', 8.0, 10.0, 20.0, 'L', 8500.00, '2024-01-18', '2024-12-31', 'LOW', NOW(), NOW()),
 (1, '휘핑크림', 15.0, 5.0, 30.0, 'L', 12000.00, '2024-01-19', '2024-02-15', 'SUFFICIENT', NOW(), NOW()),
 (1, '일회용 컵 (S)', 500.0, 100.0, 1000.0, '개', 80.00, '2024-01-10', '2025-12-31', 'SUFFICIENT', NOW(), NOW()),
 (1, '일회용 컵 (M)', 400.0, 100.0, 1000.0, '개', 100.00, '2024-01-10', '2025-12-31', 'SUFFICIENT', NOW(), NOW()),
@@ -45,7 +45,7 @@ INSERT IGNORE INTO inventories (store_id, ingredient_name, current_stock, min_st
 (2, '과테말라 원두', 40.0, 10.0, 100.0, 'kg', 26000.00, '2024-01-16', '2024-06-16', 'SUFFICIENT', NOW(), NOW()),
 (2, '우유', 25.0, 5.0, 50.0, 'L', 2500.00, '2024-01-20', '2024-02-05', 'SUFFICIENT', NOW(), NOW()),
 (2, '초콜릿시럽', 12.0, 3.0, 20.0, 'L', 9000.00, '2024-01-18', '2024-12-31', 'SUFFICIENT', NOW(), NOW()),
-(2, '딸기시럽', 6.0, 3.0, 20.0, 'L', 8500.00, '2024-01-18', '2024-12-31', 'LOW', NOW(), NOW()),
+(2, '딸기시럽', 6.0, 10.0, 20.0, 'L', 8500.00, '2024-01-18', '2024-12-31', 'LOW', NOW(), NOW()),
 (2, '크로와상', 50.0, 10.0, 100.0, '개', 1500.00, '2024-01-21', '2024-01-23', 'SUFFICIENT', NOW(), NOW()),
 (2, '머핀', 40.0, 10.0, 80.0, '개', 2000.00, '2024-01-21', '2024-01-24', 'SUFFICIENT', NOW(), NOW()),
 (2, '마카롱', 30.0, 5.0, 50.0, '개', 3000.00, '2024-01-21', '2024-01-23', 'SUFFICIENT', NOW(), NOW()),
@@ -168,17 +168,18 @@ INSERT IGNORE INTO orders (transaction_id, product_id, quantity, unit_price, tot
 -- InventoryLogEntity 테이블: inventory_logs
 -- 재고 입출고 기록 추적
 -- log_type: RESTOCK(입고), DEDUCTION(차감), ADJUSTMENT(조정)
-INSERT IGNORE INTO inventory_logs (inventory_id, log_type, quantity_change, before_quantity, after_quantity, reason, created_at) VALUES
+-- log_id는 AUTO_INCREMENT가 아닌 id_sequences로 할당하므로 직접 지정 (재실행해도 중복 삽입되지 않음)
+INSERT IGNORE INTO inventory_logs (log_id, inventory_id, log_type, quantity_change, before_quantity, after_quantity, reason, created_at) VALUES
 -- 원두 사용 기록들
-(1, 'DEDUCTION', -0.065, 50.065, 50.0, '에티오피아 드립커피 주문으로 인한 차감', '2024-01-22 09:30:00'),
-(2, 'DEDUCTION', -0.025, 30.025, 30.0, '콜롬비아 드립커피 주문으로 인한 차감', '2024-01-22 14:20:00'),
-(3, 'DEDUCTION', -0.45, 20.45, 20.0, '라떼류 주문으로 인한 우유 차감', '2024-01-22 11:15:00'),
-(4, 'DEDUCTION', -0.020, 10.020, 10.0, '바닐라라떼 주문으로 인한 시럽 차감', '2024-01-22 11:15:00'),
+(1, 1, 'DEDUCTION', -0.065, 50.065, 50.0, '에티오피아 드립커피 주문으로 인한 차감', '2024-01-22 09:30:00'),
+(2, 2, 'DEDUCTION', -0.025, 30.025, 30.0, '콜롬비아 드립커피 주문으로 인한 차감', '2024-01-22 14:20:00'),
+(3, 3, 'DEDUCTION', -0.45, 20.45, 20.0, '라떼류 주문으로 인한 우유 차감', '2024-01-22 11:15:00'),
+(4, 4, 'DEDUCTION', -0.020, 10.020, 10.0, '바닐라라떼 주문으로 인한 시럽 차감', '2024-01-22 11:15:00'),
 
 -- 입고 기록들
-(1, 'RESTOCK', 50.0, 0.0, 50.0, '정기 원두 입고', '2024-01-15 08:00:00'),
-(2, 'RESTOCK', 30.0, 0.0, 30.0, '정기 원두 입고', '2024-01-15 08:00:00'),
-(3, 'RESTOCK', 20.0, 0.0, 20.0, '유제품 정기 입고', '2024-01-20 07:00:00');
+(5, 1, 'RESTOCK', 50.0, 0.0, 50.0, '정기 원두 입고', '2024-01-15 08:00:00'),
+(6, 2, 'RESTOCK', 30.0, 0.0, 30.0, '정기 원두 입고', '2024-01-15 08:00:00'),
+(7, 3, 'RESTOCK', 20.0, 0.0, 20.0, '유제품 정기 입고', '2024-01-20 07:00:00');
 
 -- 9. 알림 시스템 데이터
 -- AlertEntity 테이블: alerts
@@ -0,0 +1,216 @@
+package com.inforsion.inforsionserver.domain.inventory.expiry;
+
+import com.inforsion.inforsionserver.domain.alert.repository.AlertRepository;
+import com.inforsion.inforsionserver.domain.inventory.event.InventoryExpiryChangedEvent;
+import com.inforsion.inforsionserver.domain.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExpiryAlertScheduler가 D-n/만료 알림을 정해진 0시에 한 번씩 실행하는지 시각을 직접 움직이며 확인
+ *
+ * DB 대신 claimExpiryAlert 호출(재고, 유통기한, 기간)을 기록하고 false를 돌려줘, 알림 생성 없이 다음 기간의 타이머만 걸리게 합니다.
+ */
+class ExpiryAlertSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+    private static final int INVENTORY_ID = 1;
+
+    private MutableClock clock;
+    private InventoryRepository inventoryRepository;
+    private ExpiryAlertScheduler scheduler;
+    private final List<String> claims = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atTime(9, 0).atZone(ZONE).toInstant(), ZONE);
+        inventoryRepository = mock(InventoryRepository.class);
+        when(inventoryRepository.claimExpiryAlert(anyInt(), any(LocalDate.class), anyInt())).thenAnswer(invocation -> {
+            claims.add(claim(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            return false;
+        });
+        scheduler = new ExpiryAlertScheduler(inventoryRepository, mock(AlertRepository.class), mock(JdbcTemplate.class),
+                mock(PlatformTransactionManager.class), true, List.of(7, 3, 1), 60, clock);
+        scheduler.load();
+    }
+
+    @Test
+    void firesEveryHorizonOnceAtMidnightAcrossWheelLevels() {
+        LocalDate expiry = TODAY.plusDays(10);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, expiry, null));
+
+        // D-7 0시 1분 전까지는 없음 (3천여 tick 뒤라 1단계에 걸렸다가 cascade로 내려옴, D-3까지는 5천여 tick이라 2단계)
+        tickAt(expiry.minusDays(7).atStartOfDay().minusMinutes(1));
+        assertTrue(claims.isEmpty());
+
+        tickAt(expiry.minusDays(7).atStartOfDay());
+        tickAt(expiry.minusDays(3).atStartOfDay());
+        tickAt(expiry.minusDays(1).atStartOfDay());
+        tickAt(expiry.atStartOfDay());
+        assertEquals(List.of(claim(INVENTORY_ID, expiry, 7), claim(INVENTORY_ID, expiry, 3), claim(INVENTORY_ID, expiry, 1)), claims);
+
+        // 만료 알림은 유통기한 다음 날 0시
+        tickAt(expiry.plusDays(1).atStartOfDay());
+        assertEquals(claim(INVENTORY_ID, expiry, 0), claims.get(claims.size() - 1));
+        assertEquals(4, claims.size());
+        assertEquals(0, scheduler.trackedCount());
+    }
+
+    @Test
+    void onlyNearestPastDueHorizonFiresOnRegistration() {
+        // 09시에 등록한 이틀 뒤 유통기한: D-7, D-3은 이미 지났으므로 가장 가까운 D-3만 바로
+        LocalDate expiry = TODAY.plusDays(2);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, expiry, null));
+
+        scheduler.tick();
+        assertEquals(List.of(claim(INVENTORY_ID, expiry, 3)), claims);
+
+        tickAt(expiry.minusDays(1).atStartOfDay().minusMinutes(1));
+        assertEquals(1, claims.size());
+        tickAt(expiry.minusDays(1).atStartOfDay());
+        assertEquals(claim(INVENTORY_ID, expiry, 1), claims.get(1));
+    }
+
+    @Test
+    void alreadySentHorizonsAreSkipped() {
+        LocalDate expiry = TODAY.plusDays(10);
+        // D-3까지 보낸 재고 (예: 재기동 후 로드)
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, expiry, 3));
+
+        tickAt(expiry.minusDays(3).atStartOfDay());
+        assertTrue(claims.isEmpty());
+        tickAt(expiry.minusDays(1).atStartOfDay());
+        assertEquals(List.of(claim(INVENTORY_ID, expiry, 1)), claims);
+    }
+
+    @Test
+    void expiryChangeReplacesTimer() {
+        LocalDate original = TODAY.plusDays(10);
+        LocalDate extended = TODAY.plusDays(40);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, original, null));
+
+        // 원래 D-7 전에 유통기한이 늦춰짐
+        tickAt(original.minusDays(8).atStartOfDay());
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, extended, null));
+        assertEquals(1, scheduler.trackedCount());
+
+        tickAt(original.plusDays(1).atStartOfDay());
+        assertTrue(claims.isEmpty(), "바뀌기 전 유통기한으로 알림이 나감: " + claims);
+
+        tickAt(extended.minusDays(7).atStartOfDay());
+        assertEquals(List.of(claim(INVENTORY_ID, extended, 7)), claims);
+
+        // 유통기한이 당겨지면 지난 기간 중 가장 가까운 것 하나만 다음 tick에
+        LocalDate shortened = clock.today().plusDays(1);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, shortened, null));
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+        assertEquals(claim(INVENTORY_ID, shortened, 1), claims.get(claims.size() - 1));
+        assertEquals(2, claims.size());
+    }
+
+    @Test
+    void removedInventoryIsNotAlerted() {
+        LocalDate expiry = TODAY.plusDays(10);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, expiry, null));
+        scheduler.onInventoryExpiryChanged(InventoryExpiryChangedEvent.ofRemoved(INVENTORY_ID));
+        assertEquals(0, scheduler.trackedCount());
+
+        tickAt(expiry.plusDays(2).atStartOfDay());
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    void failedAlertIsRetriedOnNextTick() {
+        LocalDate expiry = TODAY.plusDays(5);
+        scheduler.onInventoryExpiryChanged(new InventoryExpiryChangedEvent(INVENTORY_ID, expiry, null));
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            claims.add(claim(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            if (failOnce.getAndSet(false)) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return false;
+        }).when(inventoryRepository).claimExpiryAlert(anyInt(), any(LocalDate.class), anyInt());
+
+        // D-7은 이미 지나 첫 tick에 바로 (실패)
+        scheduler.tick();
+        assertEquals(1, claims.size());
+        assertEquals(1, scheduler.trackedCount());
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+        assertEquals(List.of(claim(INVENTORY_ID, expiry, 7), claim(INVENTORY_ID, expiry, 7)), claims);
+    }
+
+    private void tickAt(LocalDateTime time) {
+        clock.set(time.atZone(ZONE).toInstant());
+        scheduler.tick();
+    }
+
+    private static String claim(int inventoryId, LocalDate expiryDate, int daysBefore) {
+        return inventoryId + "/" + expiryDate + "/D-" + daysBefore;
+    }
+
+    /**
+     * 테스트에서 직접 움직이는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private final ZoneId zone;
+        private Instant instant;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        LocalDate today() {
+            return LocalDate.ofInstant(instant, zone);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
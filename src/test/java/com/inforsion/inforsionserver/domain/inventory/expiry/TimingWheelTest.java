@@ -0,0 +1,163 @@
+package com.inforsion.inforsionserver.domain.inventory.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TimingWheel이 단계(64^i tick)를 건너는 타이머를 정확히 그 tick에 실행하는지,
+ * 지난 시각 등록·취소·재등록이 맞게 동작하는지 tick 단위로 시각을 움직이며 확인
+ */
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+    // 0단계 시작이 아닌 어중간한 시각에서 시작 (칸 경계와 어긋나게)
+    private static final long START = 1_234_567L * TICK;
+
+    @Test
+    void timerInFirstLevelFiresAtItsTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        wheel.schedule(START + 5 * TICK, "a");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 4 * TICK, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(START + 5 * TICK, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersCascadeThroughEveryLevelAndFireOnTime() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, START);
+        // 각 단계 경계의 바로 앞/뒤 (63, 64, 4095, 4096, 262143, 262144 tick 등)
+        long[] delays = {0, 1, 63, 64, 65, 127, 4_095, 4_096, 4_097, 100_000, 262_143, 262_144, 262_145, 5_000_000};
+        for (long delay : delays) {
+            wheel.schedule(START + delay * TICK, delay);
+        }
+
+        long[] firedAt = new long[delays.length];
+        List<Long> fired = new ArrayList<>();
+        long last = delays[delays.length - 1];
+        for (long tick = 0; tick <= last; tick++) {
+            long at = tick;
+            wheel.advance(START + tick * TICK, delay -> {
+                fired.add(delay);
+                firedAt[fired.size() - 1] = at;
+            });
+        }
+
+        assertEquals(delays.length, fired.size());
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(delays[i], fired.get(i).longValue());
+            assertEquals(delays[i], firedAt[i], "지연 " + delays[i] + " tick 타이머의 실행 tick");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timerBeyondWheelRangeFiresOnTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        // 휠 범위(64^4 - 1 tick)를 넘는 타이머는 맨 위 단계에 두었다가 다시 나눔
+        long delay = (1L << 24) + 100;
+        wheel.schedule(START + delay * TICK, "far");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + (delay - 1) * TICK, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(START + delay * TICK, fired::add);
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void largeJumpFiresEverythingDueInDeadlineOrder() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, START);
+        Random random = new Random(42);
+        List<long[]> scheduled = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long delay = random.nextInt(300_000);
+            wheel.schedule(START + delay * TICK, i);
+            scheduled.add(new long[]{delay, i});
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        wheel.advance(START + 150_000 * TICK, fired::add);
+        long due = scheduled.stream().filter(timer -> timer[0] <= 150_000).count();
+        assertEquals(due, fired.size());
+        long previous = -1;
+        for (Integer id : fired) {
+            long delay = scheduled.get(id)[0];
+            assertTrue(delay <= 150_000);
+            assertTrue(delay >= previous, "만기 순서가 아님");
+            previous = delay;
+        }
+        assertEquals(scheduled.size() - due, wheel.size());
+
+        wheel.advance(START + 300_000 * TICK, fired::add);
+        assertEquals(scheduled.size(), fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        wheel.advance(START + 100 * TICK, value -> { });
+
+        wheel.schedule(START, "late");
+        wheel.schedule(START - 10_000 * TICK, "very late");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 100 * TICK, fired::add);
+        assertTrue(fired.isEmpty(), "이미 처리한 tick은 다시 돌지 않음");
+        wheel.advance(START + 101 * TICK, fired::add);
+        assertEquals(2, fired.size());
+        assertTrue(fired.containsAll(List.of("late", "very late")));
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        TimingWheel.Timer<String> near = wheel.schedule(START + 10 * TICK, "near");
+        TimingWheel.Timer<String> far = wheel.schedule(START + 10_000 * TICK, "far");
+        wheel.schedule(START + 10_000 * TICK, "kept");
+        assertEquals(3, wheel.size());
+
+        wheel.cancel(near);
+        // 아래 단계로 내려온 뒤(cascade 후)에도 취소되어야 함
+        wheel.advance(START + 9_990 * TICK, value -> { });
+        wheel.cancel(far);
+        wheel.cancel(far);
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 20_000 * TICK, fired::add);
+        assertEquals(List.of("kept"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduledTimerFiresOnlyAtNewDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+        TimingWheel.Timer<String> timer = wheel.schedule(START + 5_000 * TICK, "v1");
+
+        wheel.advance(START + 1_000 * TICK, value -> { });
+        wheel.cancel(timer);
+        wheel.schedule(START + 2_000 * TICK, "v2");
+
+        List<String> fired = new ArrayList<>();
+        long firedAt = -1;
+        for (long tick = 1_001; tick <= 6_000; tick++) {
+            wheel.advance(START + tick * TICK, fired::add);
+            if (firedAt < 0 && !fired.isEmpty()) {
+                firedAt = tick;
+            }
+        }
+        assertEquals(List.of("v2"), fired);
+        assertEquals(2_000, firedAt);
+    }
+}
@@ -0,0 +1,256 @@
+package com.inforsion.inforsionserver.domain.inventory.repository;
+
+import com.inforsion.inforsionserver.domain.inventory.dto.StockChangeDto;
+import com.inforsion.inforsionserver.domain.inventory.entity.InventoryEntity;
+import com.inforsion.inforsionserver.domain.store.entity.StoreEntity;
+import com.inforsion.inforsionserver.domain.store.repository.StoreRepository;
+import com.inforsion.inforsionserver.domain.user.entity.UserEntity;
+import com.inforsion.inforsionserver.domain.user.repository.UserRepository;
+import com.inforsion.inforsionserver.global.config.QueryDslConfig;
+import com.inforsion.inforsionserver.global.error.code.ErrorCode;
+import com.inforsion.inforsionserver.global.error.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * applyStockDeltas 동시 실행 검증 (MySQL 컨테이너, 엔티티로 만든 실제 inventories 스키마)
+ *
+ * 여러 스레드가 같은 재고 몇 건에 변화량을 트랜잭션으로 반영한 뒤,
+ * 갱신 유실·교착 롤백이 없는지와 음수 재고가 막히는지 확인합니다. Docker가 없으면 건너뜁니다.
+ * 커넥션 풀을 작성자 수보다 크게 잡아, 작성자가 커넥션을 기다리지 않고 실제로 동시에 잠금을 다툽니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "spring.datasource.hikari.maximum-pool-size=" + InventoryStockConcurrencyTest.POOL_SIZE
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryStockConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final int THREADS = 64;
+    // 동시 작성자 + 준비/검증용 여유 커넥션
+    static final int POOL_SIZE = THREADS + 4;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final int HOT_ITEMS = 4;
+    private static final BigDecimal INITIAL_STOCK = BigDecimal.valueOf(100_000);
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private StoreEntity store;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM inventories");
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .username("stress")
+                .email("stress-" + System.nanoTime() + "@inforsion.test")
+                .password("-")
+                .build());
+        store = storeRepository.save(StoreEntity.builder()
+                .name("동시성 테스트 매장")
+                .location("-")
+                .user(user)
+                .build());
+    }
+
+    @Test
+    void concurrentDeltasAreNeitherLostNorRolledBack() throws Exception {
+        for (int id = 1; id <= HOT_ITEMS; id++) {
+            saveInventory(id, INITIAL_STOCK);
+        }
+
+        AtomicLongArray committed = new AtomicLongArray(HOT_ITEMS + 1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger inconsistentResults = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                Map<Integer, BigDecimal> deltas = randomDeltas(random);
+                try {
+                    List<StockChangeDto> changes = transactionTemplate.execute(
+                            status -> inventoryRepository.applyStockDeltas(deltas, true));
+                    for (StockChangeDto change : changes) {
+                        BigDecimal applied = change.getAfterQuantity().subtract(change.getBeforeQuantity());
+                        if (applied.compareTo(deltas.get(change.getInventoryId())) != 0) {
+                            inconsistentResults.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                    continue;
+                }
+                deltas.forEach((id, delta) -> committed.addAndGet(id, delta.longValueExact()));
+            }
+        });
+
+        // PK 순서로 잠그므로 교착 상태로 롤백되는 트랜잭션이 없어야 함
+        assertTrue(failures.isEmpty(), () -> "롤백된 트랜잭션 " + failures.size() + "건: " + failures.peek());
+        assertEquals(0, inconsistentResults.get(), "반환된 이전/이후 수량 차이가 변화량과 다름");
+        for (int id = 1; id <= HOT_ITEMS; id++) {
+            BigDecimal expected = INITIAL_STOCK.add(BigDecimal.valueOf(committed.get(id)));
+            assertEquals(0, expected.compareTo(currentStock(id)), "재고 " + id + " 변화량 유실");
+        }
+    }
+
+    @Test
+    void concurrentDeductionsNeverGoNegative() throws Exception {
+        int available = 50;
+        saveInventory(1, BigDecimal.valueOf(available));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 10; i++) {
+                try {
+                    transactionTemplate.executeWithoutResult(
+                            status -> inventoryRepository.applyStockDeltas(Map.of(1, BigDecimal.ONE.negate()), false));
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INVENTORY_INSUFFICIENT) {
+                        insufficient.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            }
+        });
+
+        assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 실패: " + unexpected.peek());
+        assertEquals(available, succeeded.get());
+        assertEquals(THREADS * 10 - available, insufficient.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(currentStock(1)));
+    }
+
+    @Test
+    void deductionThatWouldGoNegativeLeavesEveryItemUntouched() {
+        saveInventory(1, BigDecimal.TEN);
+        saveInventory(2, BigDecimal.ONE);
+
+        Map<Integer, BigDecimal> deltas = Map.of(1, BigDecimal.valueOf(-3), 2, BigDecimal.valueOf(-2));
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> inventoryRepository.applyStockDeltas(deltas, false)));
+
+        assertEquals(ErrorCode.INVENTORY_INSUFFICIENT, e.getErrorCode());
+        assertEquals(0, BigDecimal.TEN.compareTo(currentStock(1)));
+        assertEquals(0, BigDecimal.ONE.compareTo(currentStock(2)));
+    }
+
+    private void runConcurrently(ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int index = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 1~3건, 차감이 조금 더 많게 (-3 ~ +2, 0 제외)
+    private static Map<Integer, BigDecimal> randomDeltas(Random random) {
+        int count = 1 + random.nextInt(Math.min(3, HOT_ITEMS));
+        Map<Integer, BigDecimal> deltas = new HashMap<>();
+        while (deltas.size() < count) {
+            int delta = random.nextInt(6) - 3;
+            deltas.put(1 + random.nextInt(HOT_ITEMS), BigDecimal.valueOf(delta == 0 ? -1 : delta));
+        }
+        return deltas;
+    }
+
+    private void saveInventory(int id, BigDecimal stock) {
+        inventoryRepository.save(InventoryEntity.builder()
+                .id(id)
+                .name("재료 " + id)
+                .currentStock(stock)
+                .minStock(BigDecimal.ONE)
+                .unit("g")
+                .unitCost(BigDecimal.ONE)
+                .expiryDate(LocalDate.now().plusYears(1))
+                .store(store)
+                .build());
+    }
+
+    private BigDecimal currentStock(int id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_stock FROM inventories WHERE ingredient_id = ?", BigDecimal.class, id);
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+        void run(int thread) throws Exception;
+    }
+}
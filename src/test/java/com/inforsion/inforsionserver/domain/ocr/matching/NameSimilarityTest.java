@@ -0,0 +1,160 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * NameSimilarity의 비트 병렬/대각 띠 편집 거리가 일반 레벤슈타인 DP와 같은지 비교
+ */
+class NameSimilarityTest {
+
+    private static final String ASCII = "abc";
+    private static final String HANGUL = "아메리카노라떼바닐";
+    private static final String MIXED = "ab 아이스라떼1L";
+
+    @Test
+    void edgeCasesMatchPlainDp() {
+        List<String[]> cases = List.of(
+                new String[]{"", ""},
+                new String[]{"", "abc"},
+                new String[]{"abc", ""},
+                new String[]{"a", "a"},
+                new String[]{"a", "b"},
+                new String[]{"kitten", "sitting"},
+                new String[]{"flaw", "lawn"},
+                new String[]{"아메리카노", "아메리카노"},
+                new String[]{"아메리카노", "아메리까노"},
+                new String[]{"아이스 아메리카노", "아메리카노"},
+                new String[]{"카페라떼", "라떼"},
+                new String[]{"바닐라라떼", "바닐라 라떼 (ice)"},
+                new String[]{"x".repeat(64), "x".repeat(63) + "y"},
+                new String[]{"x".repeat(65), "x".repeat(64) + "y"},
+                new String[]{"가".repeat(64), "나".repeat(64)},
+                new String[]{"가나다".repeat(30), "나다가".repeat(30)},
+                new String[]{"a".repeat(100), "b".repeat(100)}
+        );
+        for (String[] pair : cases) {
+            assertAllPathsMatch(pair[0], pair[1]);
+            assertAllPathsMatch(pair[1], pair[0]);
+        }
+    }
+
+    @Test
+    void randomAsciiMatchesPlainDp() {
+        assertRandomPairs(new Random(1), ASCII, 2_000, 20);
+    }
+
+    @Test
+    void randomHangulMatchesPlainDp() {
+        assertRandomPairs(new Random(2), HANGUL, 2_000, 40);
+    }
+
+    @Test
+    void randomLongNamesUseBandedPathAndMatchPlainDp() {
+        // 64자 경계 양쪽 (비트 병렬 ↔ 대각 띠)
+        assertRandomPairs(new Random(3), MIXED, 500, 140);
+    }
+
+    @Test
+    void similarityMatchesPlainDpWithCutoff() {
+        Random random = new Random(4);
+        double[] cutoffs = {0.0, 0.3, 0.5, 0.7, 0.8, 1.0};
+        for (int i = 0; i < 2_000; i++) {
+            String pattern = randomString(random, HANGUL, 30);
+            String text = mutate(random, pattern, HANGUL);
+            int maxLength = Math.max(pattern.length(), text.length());
+            double exact = maxLength == 0 ? 1.0 : 1.0 - (double) levenshtein(pattern, text) / maxLength;
+            for (double cutoff : cutoffs) {
+                double expected = exact + 1e-9 >= cutoff ? exact : 0.0;
+                double actual = NameSimilarity.similarity(NamePattern.compile(pattern), text, cutoff);
+                assertEquals(expected, actual, 1e-12, () -> pattern + " / " + text + " cutoff " + cutoff);
+            }
+        }
+    }
+
+    private void assertRandomPairs(Random random, String alphabet, int count, int maxLength) {
+        for (int i = 0; i < count; i++) {
+            String pattern = randomString(random, alphabet, maxLength);
+            // 절반은 비슷한 문자열(편집 몇 번), 절반은 무관한 문자열
+            String text = random.nextBoolean() ? mutate(random, pattern, alphabet) : randomString(random, alphabet, maxLength);
+            assertAllPathsMatch(pattern, text);
+        }
+    }
+
+    /**
+     * 모든 k에 대해 두 경로가 거리 <= k면 정확한 거리를, 아니면 k보다 큰 값을 반환하는지 확인
+     */
+    private void assertAllPathsMatch(String pattern, String text) {
+        int expected = levenshtein(pattern, text);
+        NamePattern compiled = NamePattern.compile(pattern);
+        int maxK = Math.max(pattern.length(), text.length()) + 1;
+        for (int k = 0; k <= maxK; k++) {
+            if (compiled.isBitParallel()) {
+                assertBounded(expected, NameSimilarity.bitParallelDistance(compiled, text, k), k,
+                        "bit-parallel " + pattern + " / " + text);
+            }
+            // 띠 DP는 k >= |m - n|일 때만 호출됨 (similarity에서 길이 차로 먼저 걸러냄)
+            if (k >= Math.abs(pattern.length() - text.length())) {
+                assertBounded(expected, NameSimilarity.bandedDistance(pattern, text, k), k,
+                        "banded " + pattern + " / " + text);
+            }
+        }
+    }
+
+    private static void assertBounded(int expected, int actual, int k, String message) {
+        if (expected <= k) {
+            assertEquals(expected, actual, message + " k=" + k);
+        } else {
+            assertTrue(actual > k, message + " k=" + k + ": expected > k but was " + actual);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String source, String alphabet) {
+        StringBuilder builder = new StringBuilder(source);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits; i++) {
+            int operation = random.nextInt(3);
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            if (operation == 0 || builder.length() == 0) {
+                builder.insert(random.nextInt(builder.length() + 1), c);
+            } else if (operation == 1) {
+                builder.deleteCharAt(random.nextInt(builder.length()));
+            } else {
+                builder.setCharAt(random.nextInt(builder.length()), c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // 기준 구현: 전체 표를 채우는 레벤슈타인 DP
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                d[i][j] = Math.min(substitution, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
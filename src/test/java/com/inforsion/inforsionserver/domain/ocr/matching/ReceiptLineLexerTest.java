@@ -0,0 +1,172 @@
+package com.inforsion.inforsionserver.domain.ocr.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReceiptLineLexer가 기존 정규식 파서(ReceiptAnalysisService에서 교체된 코드)와 같은 결과를 내는지 비교
+ */
+class ReceiptLineLexerTest {
+
+    // 라인, 상품 후보 여부, 수량, 가격들, 대체 상품명 (상품 후보일 때만)
+    private static final Object[][] SAMPLES = {
+            {"아메리카노 2 9,000", true, 2, new int[]{9000}, "아메리카노"},
+            {"  카페라떼   1   4,500  ", true, 1, new int[]{4500}, "카페라떼"},
+            {"바닐라라떼 x3 4,800 14,400", true, 3, new int[]{4800, 14400}, "바닐라라떼 x"},
+            // 100만 이상은 가격 아님, 수량은 첫 숫자 구간 ("1,000,000"의 1)
+            {"*아이스티* 1,000,000", true, 1, new int[]{}, "아이스티"},
+            {"케이크(조각) 12 999,999", true, 12, new int[]{999999}, "케이크 조각"},
+            // 101은 수량 범위 밖이라 다음 숫자 구간 99가 수량, 99는 가격 범위 밖
+            {"쿠키 101 99", true, 99, new int[]{101}, "쿠키"},
+            {"머핀 0 3,500", true, 3, new int[]{3500}, "머핀"},
+            // 쉼표 뒤 3자리가 아니면 가격 토큰이 끊김
+            {"스콘 1,23 2,500", true, 1, new int[]{2500}, "스콘 ,"},
+            // 쉼표 없는 긴 숫자는 3자리씩 끊김 (123, 45)
+            {"라떼 12345", true, null, new int[]{123}, "라떼"},
+            {"티 99999999999", true, null, new int[]{999, 999, 999}, "티"},
+            {"[세트] 샌드위치 = 7,000", true, 7, new int[]{7000}, "세트 샌드위치"},
+            {"합계 13,500", false, null, null, null},
+            {"Total 13,500", false, null, null, null},
+            {"카드 승인 13,500", false, null, null, null},
+            {"TEL 02-123-4567", false, null, null, null},
+            {"2024-01-15 12:30:45", false, null, null, null},
+            {"****", false, null, null, null},
+            {"감사합니다", false, null, null, null},
+            {"", false, null, null, null},
+            {"   ", false, null, null, null},
+    };
+
+    @Test
+    void samplesMatchExpectedAndLegacyParser() {
+        for (Object[] sample : SAMPLES) {
+            String line = (String) sample[0];
+            ReceiptLine lexed = ReceiptLineLexer.lex(line);
+            assertEquals(sample[1], lexed.isItem(), line);
+            if (lexed.isItem()) {
+                assertEquals(sample[2], lexed.getQuantity(), line);
+                assertArrayEquals((int[]) sample[3], lexed.getPrices(), line);
+                assertEquals(sample[4], lexed.productName(), line);
+            }
+            assertSameAsLegacy(line);
+        }
+    }
+
+    @Test
+    void nullLineIsBlank() {
+        assertEquals(ReceiptLine.Type.BLANK, ReceiptLineLexer.lex(null).getType());
+    }
+
+    @Test
+    void randomLinesMatchLegacyParser() {
+        // 숫자/쉼표/기호/키워드 조각을 섞어 가격·수량 경계와 깨진 라인을 만듦
+        String[] fragments = {
+                "0", "1", "9", "00", "100", "101", "999", "1000", ",", ",000", ",00", ",0000", "1,000", "999,999",
+                "1,000,000", "2147483647", "99999999999", " ", "  ", "\t", "-", ":", "*", "x", "ea", "EA", "개",
+                "(", ")", "[", "]", "=", "{", "}", "라떼", "아메리카노", "합", "합계", "Tot", "Total", "카드", "TEL", "a"
+        };
+        Random random = new Random(5);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder line = new StringBuilder();
+            int parts = random.nextInt(8);
+            for (int j = 0; j < parts; j++) {
+                line.append(fragments[random.nextInt(fragments.length)]);
+            }
+            assertSameAsLegacy(line.toString());
+        }
+    }
+
+    private static void assertSameAsLegacy(String line) {
+        ReceiptLine lexed = ReceiptLineLexer.lex(line);
+        boolean legacyItem = LegacyRegexParser.containsPricePattern(line);
+        assertEquals(legacyItem, lexed.isItem(), () -> "분류: [" + line + "]");
+        if (!legacyItem) {
+            return;
+        }
+        String cleanLine = line.trim().replace("\n", "");
+        assertEquals(LegacyRegexParser.extractQuantity(cleanLine), lexed.getQuantity(), () -> "수량: [" + line + "]");
+        assertEquals(LegacyRegexParser.extractPrices(cleanLine), toList(lexed.getPrices()), () -> "가격: [" + line + "]");
+        assertEquals(LegacyRegexParser.productName(cleanLine), lexed.productName(), () -> "상품명: [" + line + "]");
+    }
+
+    private static List<Integer> toList(int[] values) {
+        return Arrays.stream(values).boxed().toList();
+    }
+
+    /**
+     * 교체 전 ReceiptAnalysisService의 정규식 파싱 (비교 기준)
+     */
+    private static final class LegacyRegexParser {
+
+        private static final Pattern PRICE_PATTERN = Pattern.compile("(\\d{1,3}(?:,\\d{3})*)");
+        private static final Pattern QUANTITY_PATTERN = Pattern.compile("(\\d+)개?|x(\\d+)|\\*(\\d+)|(\\d+)EA|(\\d+)ea");
+
+        static boolean containsPricePattern(String line) {
+            if (line == null || line.trim().isEmpty()) {
+                return false;
+            }
+            String cleanLine = line.trim();
+            if (cleanLine.contains("Subtotal") || cleanLine.contains("Discount") || cleanLine.contains("NET Amount")
+                    || cleanLine.contains("Tax") || cleanLine.contains("Total") || cleanLine.contains("영수증")
+                    || cleanLine.contains("합계") || cleanLine.contains("총액") || cleanLine.contains("받은돈")
+                    || cleanLine.contains("거스름돈") || cleanLine.contains("카드") || cleanLine.contains("현금")
+                    || cleanLine.contains("사업자") || cleanLine.contains("전화") || cleanLine.contains("주소")
+                    || cleanLine.contains("대표") || cleanLine.contains("TEL")
+                    || cleanLine.matches("^[0-9\\-\\s:]+$") || cleanLine.matches("^\\*+$")) {
+                return false;
+            }
+            return PRICE_PATTERN.matcher(cleanLine).find();
+        }
+
+        static Integer extractQuantity(String line) {
+            Matcher matcher = QUANTITY_PATTERN.matcher(line.toLowerCase());
+            while (matcher.find()) {
+                for (int i = 1; i <= matcher.groupCount(); i++) {
+                    String quantityStr = matcher.group(i);
+                    if (quantityStr != null && !quantityStr.isEmpty()) {
+                        try {
+                            int quantity = Integer.parseInt(quantityStr);
+                            if (quantity > 0 && quantity <= 100) {
+                                return quantity;
+                            }
+                        } catch (NumberFormatException e) {
+                            // 무시
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        static List<Integer> extractPrices(String line) {
+            List<Integer> prices = new ArrayList<>();
+            Matcher matcher = PRICE_PATTERN.matcher(line);
+            while (matcher.find()) {
+                try {
+                    int price = Integer.parseInt(matcher.group(1).replace(",", ""));
+                    if (price >= 100 && price < 1000000) {
+                        prices.add(price);
+                    }
+                } catch (NumberFormatException e) {
+                    // 무시
+                }
+            }
+            return prices;
+        }
+
+        static String productName(String line) {
+            String productName = PRICE_PATTERN.matcher(line).replaceAll(" ");
+            productName = QUANTITY_PATTERN.matcher(productName).replaceAll(" ");
+            productName = productName.replaceAll("[*\\-=()\\[\\]{}]+", " ");
+            return productName.replaceAll("\\s+", " ").trim();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.inforsion.inforsionserver.domain.ocr.service;
+
+import com.inforsion.inforsionserver.domain.ocr.client.OcrProvider;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrBatchItemResult;
+import com.inforsion.inforsionserver.domain.ocr.dto.OcrJobStatus;
+import com.inforsion.inforsionserver.global.concurrent.DownstreamLimiter;
+import com.inforsion.inforsionserver.global.concurrent.FairTaskDispatcher;
+import com.inforsion.inforsionserver.global.enums.DocumentType;
+import com.inforsion.inforsionserver.global.service.S3FileUploadService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 파일 처리 분배기가 단계 작업을 버렸을 때(실행기 종료) 일괄 처리가 멈추지 않고 해당 영수증을 실패로 내보내는지 확인
+ */
+class OcrBatchServiceTest {
+
+    private static final int STORE_ID = 1;
+
+    private ThreadPoolTaskExecutor executor;
+    private ReceiptDeduplicationService receiptDeduplicationService;
+    private OcrBatchService ocrBatchService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+
+        FairTaskDispatcher dispatcher = new FairTaskDispatcher("file-test", executor, 1, 3, 10, 10, null);
+        receiptDeduplicationService = mock(ReceiptDeduplicationService.class);
+        ocrBatchService = new OcrBatchService(mock(S3FileUploadService.class), mock(OcrProvider.class),
+                mock(ReceiptAnalysisService.class), mock(OcrProcessingService.class), receiptDeduplicationService,
+                mock(DownstreamLimiter.class), dispatcher, 50, 8, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void itemFailsWhenExecutorRejectsItsStep() {
+        executor.shutdown();
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "a.jpg", "image/jpeg", new byte[]{1, 2, 3}),
+                new MockMultipartFile("files", "b.jpg", "image/jpeg", new byte[]{4, 5, 6}));
+
+        List<OcrBatchItemResult> results = ocrBatchService.processBatch(STORE_ID, DocumentType.SALES_RECEIPT, files)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(results, "일괄 처리 스트림이 끝나지 않음");
+        assertEquals(2, results.size());
+        for (OcrBatchItemResult result : results) {
+            assertEquals(OcrJobStatus.FAILED, result.getStatus());
+            assertNotNull(result.getErrorMessage());
+        }
+        verify(receiptDeduplicationService, never()).lookup(any(), any());
+    }
+}